@@ -161,4 +161,9 @@ public class DoubleVector extends java.util.AbstractList<Double> implements java
     highsJNI.DoubleVector_doRemoveRange(swigCPtr, this, fromIndex, toIndex);
   }
 
+  public SWIGTYPE_p_double data() {
+    long cPtr = highsJNI.DoubleVector_data(swigCPtr, this);
+    return (cPtr == 0) ? null : new SWIGTYPE_p_double(cPtr, false);
+  }
+
 }
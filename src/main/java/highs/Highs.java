@@ -442,8 +442,8 @@ public class Highs {
     highsJNI.Highs_zeroAllClocks(swigCPtr, this);
   }
 
-  public SWIGTYPE_p_std__vectorT_HighsObjectiveSolution_t getSavedMipSolutions() {
-    return new SWIGTYPE_p_std__vectorT_HighsObjectiveSolution_t(highsJNI.Highs_getSavedMipSolutions(swigCPtr, this), false);
+  public HighsObjectiveSolutionVector getSavedMipSolutions() {
+    return new HighsObjectiveSolutionVector(highsJNI.Highs_getSavedMipSolutions(swigCPtr, this), false);
   }
 
   public SWIGTYPE_p_ICrashInfo getICrashInfo() {
@@ -490,8 +490,8 @@ public class Highs {
     return HighsStatus.swigToEnum(highsJNI.Highs_getPrimalRay__SWIG_1(swigCPtr, this, SWIGTYPE_p_bool.getCPtr(has_primal_ray)));
   }
 
-  public HighsStatus getRanging(SWIGTYPE_p_HighsRanging ranging) {
-    return HighsStatus.swigToEnum(highsJNI.Highs_getRanging(swigCPtr, this, SWIGTYPE_p_HighsRanging.getCPtr(ranging)));
+  public HighsStatus getRanging(HighsRanging ranging) {
+    return HighsStatus.swigToEnum(highsJNI.Highs_getRanging(swigCPtr, this, HighsRanging.getCPtr(ranging), ranging));
   }
 
   public HighsStatus feasibilityRelaxation(double global_lower_penalty, double global_upper_penalty, double global_rhs_penalty, SWIGTYPE_p_double local_lower_penalty, SWIGTYPE_p_double local_upper_penalty, SWIGTYPE_p_double local_rhs_penalty) {
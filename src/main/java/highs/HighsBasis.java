@@ -154,6 +154,20 @@ public class HighsBasis {
     highsJNI.HighsBasis_clear(swigCPtr, this);
   }
 
+  public SWIGTYPE_p_void colStatusData() {
+    long cPtr = highsJNI.HighsBasis_colStatusData(swigCPtr, this);
+    return (cPtr == 0) ? null : new SWIGTYPE_p_void(cPtr, false);
+  }
+
+  public SWIGTYPE_p_void rowStatusData() {
+    long cPtr = highsJNI.HighsBasis_rowStatusData(swigCPtr, this);
+    return (cPtr == 0) ? null : new SWIGTYPE_p_void(cPtr, false);
+  }
+
+  public void resizeStatus(long numCol, long numRow) {
+    highsJNI.HighsBasis_resizeStatus(swigCPtr, this, numCol, numRow);
+  }
+
   public HighsBasis() {
     this(highsJNI.new_HighsBasis(), true);
   }
@@ -0,0 +1,164 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (https://www.swig.org).
+ * Version 4.3.0
+ *
+ * Do not make changes to this file unless you know what you are doing - modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package highs;
+
+public class HighsObjectiveSolutionVector extends java.util.AbstractList<HighsObjectiveSolution> implements java.util.RandomAccess {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected HighsObjectiveSolutionVector(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(HighsObjectiveSolutionVector obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected static long swigRelease(HighsObjectiveSolutionVector obj) {
+    long ptr = 0;
+    if (obj != null) {
+      if (!obj.swigCMemOwn)
+        throw new RuntimeException("Cannot release ownership as memory is not owned");
+      ptr = obj.swigCPtr;
+      obj.swigCMemOwn = false;
+      obj.delete();
+    }
+    return ptr;
+  }
+
+  @SuppressWarnings({"deprecation", "removal"})
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        highsJNI.delete_HighsObjectiveSolutionVector(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public HighsObjectiveSolutionVector(HighsObjectiveSolution[] initialElements) {
+    this();
+    reserve(initialElements.length);
+
+    for (HighsObjectiveSolution element : initialElements) {
+      add(element);
+    }
+  }
+
+  public HighsObjectiveSolutionVector(Iterable<HighsObjectiveSolution> initialElements) {
+    this();
+    for (HighsObjectiveSolution element : initialElements) {
+      add(element);
+    }
+  }
+
+  public HighsObjectiveSolution get(int index) {
+    return doGet(index);
+  }
+
+  public HighsObjectiveSolution set(int index, HighsObjectiveSolution e) {
+    return doSet(index, e);
+  }
+
+  public boolean add(HighsObjectiveSolution e) {
+    modCount++;
+    doAdd(e);
+    return true;
+  }
+
+  public void add(int index, HighsObjectiveSolution e) {
+    modCount++;
+    doAdd(index, e);
+  }
+
+  public HighsObjectiveSolution remove(int index) {
+    modCount++;
+    return doRemove(index);
+  }
+
+  protected void removeRange(int fromIndex, int toIndex) {
+    modCount++;
+    doRemoveRange(fromIndex, toIndex);
+  }
+
+  public int size() {
+    return doSize();
+  }
+
+  public int capacity() {
+    return doCapacity();
+  }
+
+  public void reserve(int n) {
+    doReserve(n);
+  }
+
+  public HighsObjectiveSolutionVector() {
+    this(highsJNI.new_HighsObjectiveSolutionVector__SWIG_0(), true);
+  }
+
+  public HighsObjectiveSolutionVector(HighsObjectiveSolutionVector other) {
+    this(highsJNI.new_HighsObjectiveSolutionVector__SWIG_1(HighsObjectiveSolutionVector.getCPtr(other), other), true);
+  }
+
+  public boolean isEmpty() {
+    return highsJNI.HighsObjectiveSolutionVector_isEmpty(swigCPtr, this);
+  }
+
+  public void clear() {
+    highsJNI.HighsObjectiveSolutionVector_clear(swigCPtr, this);
+  }
+
+  public HighsObjectiveSolutionVector(int count, HighsObjectiveSolution value) {
+    this(highsJNI.new_HighsObjectiveSolutionVector__SWIG_2(count, HighsObjectiveSolution.getCPtr(value), value), true);
+  }
+
+  private int doCapacity() {
+    return highsJNI.HighsObjectiveSolutionVector_doCapacity(swigCPtr, this);
+  }
+
+  private void doReserve(int n) {
+    highsJNI.HighsObjectiveSolutionVector_doReserve(swigCPtr, this, n);
+  }
+
+  private int doSize() {
+    return highsJNI.HighsObjectiveSolutionVector_doSize(swigCPtr, this);
+  }
+
+  private void doAdd(HighsObjectiveSolution x) {
+    highsJNI.HighsObjectiveSolutionVector_doAdd__SWIG_0(swigCPtr, this, HighsObjectiveSolution.getCPtr(x), x);
+  }
+
+  private void doAdd(int index, HighsObjectiveSolution x) {
+    highsJNI.HighsObjectiveSolutionVector_doAdd__SWIG_1(swigCPtr, this, index, HighsObjectiveSolution.getCPtr(x), x);
+  }
+
+  private HighsObjectiveSolution doRemove(int index) {
+    return new HighsObjectiveSolution(highsJNI.HighsObjectiveSolutionVector_doRemove(swigCPtr, this, index), true);
+  }
+
+  private HighsObjectiveSolution doGet(int index) {
+    return new HighsObjectiveSolution(highsJNI.HighsObjectiveSolutionVector_doGet(swigCPtr, this, index), false);
+  }
+
+  private HighsObjectiveSolution doSet(int index, HighsObjectiveSolution val) {
+    return new HighsObjectiveSolution(highsJNI.HighsObjectiveSolutionVector_doSet(swigCPtr, this, index, HighsObjectiveSolution.getCPtr(val), val), true);
+  }
+
+  private void doRemoveRange(int fromIndex, int toIndex) {
+    highsJNI.HighsObjectiveSolutionVector_doRemoveRange(swigCPtr, this, fromIndex, toIndex);
+  }
+
+}
@@ -0,0 +1,118 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (https://www.swig.org).
+ * Version 4.3.0
+ *
+ * Do not make changes to this file unless you know what you are doing - modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package highs;
+
+public class HighsRanging {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected HighsRanging(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(HighsRanging obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected static long swigRelease(HighsRanging obj) {
+    long ptr = 0;
+    if (obj != null) {
+      if (!obj.swigCMemOwn)
+        throw new RuntimeException("Cannot release ownership as memory is not owned");
+      ptr = obj.swigCPtr;
+      obj.swigCMemOwn = false;
+      obj.delete();
+    }
+    return ptr;
+  }
+
+  @SuppressWarnings({"deprecation", "removal"})
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        highsJNI.delete_HighsRanging(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public void setValid(boolean value) {
+    highsJNI.HighsRanging_valid_set(swigCPtr, this, value);
+  }
+
+  public boolean getValid() {
+    return highsJNI.HighsRanging_valid_get(swigCPtr, this);
+  }
+
+  public void setCol_cost_up(HighsRangingRecord value) {
+    highsJNI.HighsRanging_col_cost_up_set(swigCPtr, this, HighsRangingRecord.getCPtr(value), value);
+  }
+
+  public HighsRangingRecord getCol_cost_up() {
+    long cPtr = highsJNI.HighsRanging_col_cost_up_get(swigCPtr, this);
+    return (cPtr == 0) ? null : new HighsRangingRecord(cPtr, false);
+  }
+
+  public void setCol_cost_dn(HighsRangingRecord value) {
+    highsJNI.HighsRanging_col_cost_dn_set(swigCPtr, this, HighsRangingRecord.getCPtr(value), value);
+  }
+
+  public HighsRangingRecord getCol_cost_dn() {
+    long cPtr = highsJNI.HighsRanging_col_cost_dn_get(swigCPtr, this);
+    return (cPtr == 0) ? null : new HighsRangingRecord(cPtr, false);
+  }
+
+  public void setCol_bound_up(HighsRangingRecord value) {
+    highsJNI.HighsRanging_col_bound_up_set(swigCPtr, this, HighsRangingRecord.getCPtr(value), value);
+  }
+
+  public HighsRangingRecord getCol_bound_up() {
+    long cPtr = highsJNI.HighsRanging_col_bound_up_get(swigCPtr, this);
+    return (cPtr == 0) ? null : new HighsRangingRecord(cPtr, false);
+  }
+
+  public void setCol_bound_dn(HighsRangingRecord value) {
+    highsJNI.HighsRanging_col_bound_dn_set(swigCPtr, this, HighsRangingRecord.getCPtr(value), value);
+  }
+
+  public HighsRangingRecord getCol_bound_dn() {
+    long cPtr = highsJNI.HighsRanging_col_bound_dn_get(swigCPtr, this);
+    return (cPtr == 0) ? null : new HighsRangingRecord(cPtr, false);
+  }
+
+  public void setRow_bound_up(HighsRangingRecord value) {
+    highsJNI.HighsRanging_row_bound_up_set(swigCPtr, this, HighsRangingRecord.getCPtr(value), value);
+  }
+
+  public HighsRangingRecord getRow_bound_up() {
+    long cPtr = highsJNI.HighsRanging_row_bound_up_get(swigCPtr, this);
+    return (cPtr == 0) ? null : new HighsRangingRecord(cPtr, false);
+  }
+
+  public void setRow_bound_dn(HighsRangingRecord value) {
+    highsJNI.HighsRanging_row_bound_dn_set(swigCPtr, this, HighsRangingRecord.getCPtr(value), value);
+  }
+
+  public HighsRangingRecord getRow_bound_dn() {
+    long cPtr = highsJNI.HighsRanging_row_bound_dn_get(swigCPtr, this);
+    return (cPtr == 0) ? null : new HighsRangingRecord(cPtr, false);
+  }
+
+  public HighsRanging() {
+    this(highsJNI.new_HighsRanging(), true);
+  }
+
+}
+
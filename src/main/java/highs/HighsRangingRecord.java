@@ -0,0 +1,92 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (https://www.swig.org).
+ * Version 4.3.0
+ *
+ * Do not make changes to this file unless you know what you are doing - modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package highs;
+
+public class HighsRangingRecord {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected HighsRangingRecord(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(HighsRangingRecord obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected static long swigRelease(HighsRangingRecord obj) {
+    long ptr = 0;
+    if (obj != null) {
+      if (!obj.swigCMemOwn)
+        throw new RuntimeException("Cannot release ownership as memory is not owned");
+      ptr = obj.swigCPtr;
+      obj.swigCMemOwn = false;
+      obj.delete();
+    }
+    return ptr;
+  }
+
+  @SuppressWarnings({"deprecation", "removal"})
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        highsJNI.delete_HighsRangingRecord(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public void setValue_(DoubleVector value) {
+    highsJNI.HighsRangingRecord_value__set(swigCPtr, this, DoubleVector.getCPtr(value), value);
+  }
+
+  public DoubleVector getValue_() {
+    long cPtr = highsJNI.HighsRangingRecord_value__get(swigCPtr, this);
+    return (cPtr == 0) ? null : new DoubleVector(cPtr, false);
+  }
+
+  public void setObjective_(DoubleVector value) {
+    highsJNI.HighsRangingRecord_objective__set(swigCPtr, this, DoubleVector.getCPtr(value), value);
+  }
+
+  public DoubleVector getObjective_() {
+    long cPtr = highsJNI.HighsRangingRecord_objective__get(swigCPtr, this);
+    return (cPtr == 0) ? null : new DoubleVector(cPtr, false);
+  }
+
+  public void setIn_var_(LongLongVector value) {
+    highsJNI.HighsRangingRecord_in_var__set(swigCPtr, this, LongLongVector.getCPtr(value), value);
+  }
+
+  public LongLongVector getIn_var_() {
+    long cPtr = highsJNI.HighsRangingRecord_in_var__get(swigCPtr, this);
+    return (cPtr == 0) ? null : new LongLongVector(cPtr, false);
+  }
+
+  public void setOu_var_(LongLongVector value) {
+    highsJNI.HighsRangingRecord_ou_var__set(swigCPtr, this, LongLongVector.getCPtr(value), value);
+  }
+
+  public LongLongVector getOu_var_() {
+    long cPtr = highsJNI.HighsRangingRecord_ou_var__get(swigCPtr, this);
+    return (cPtr == 0) ? null : new LongLongVector(cPtr, false);
+  }
+
+  public HighsRangingRecord() {
+    this(highsJNI.new_HighsRangingRecord(), true);
+  }
+
+}
+
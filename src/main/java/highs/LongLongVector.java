@@ -0,0 +1,169 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (https://www.swig.org).
+ * Version 4.3.0
+ *
+ * Do not make changes to this file unless you know what you are doing - modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package highs;
+
+public class LongLongVector extends java.util.AbstractList<Long> implements java.util.RandomAccess {
+  private transient long swigCPtr;
+  protected transient boolean swigCMemOwn;
+
+  protected LongLongVector(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  protected static long getCPtr(LongLongVector obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected static long swigRelease(LongLongVector obj) {
+    long ptr = 0;
+    if (obj != null) {
+      if (!obj.swigCMemOwn)
+        throw new RuntimeException("Cannot release ownership as memory is not owned");
+      ptr = obj.swigCPtr;
+      obj.swigCMemOwn = false;
+      obj.delete();
+    }
+    return ptr;
+  }
+
+  @SuppressWarnings({"deprecation", "removal"})
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        highsJNI.delete_LongLongVector(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+  public LongLongVector(long[] initialElements) {
+    this();
+    reserve(initialElements.length);
+
+    for (long element : initialElements) {
+      add(element);
+    }
+  }
+
+  public LongLongVector(Iterable<Long> initialElements) {
+    this();
+    for (long element : initialElements) {
+      add(element);
+    }
+  }
+
+  public Long get(int index) {
+    return doGet(index);
+  }
+
+  public Long set(int index, Long e) {
+    return doSet(index, e);
+  }
+
+  public boolean add(Long e) {
+    modCount++;
+    doAdd(e);
+    return true;
+  }
+
+  public void add(int index, Long e) {
+    modCount++;
+    doAdd(index, e);
+  }
+
+  public Long remove(int index) {
+    modCount++;
+    return doRemove(index);
+  }
+
+  protected void removeRange(int fromIndex, int toIndex) {
+    modCount++;
+    doRemoveRange(fromIndex, toIndex);
+  }
+
+  public int size() {
+    return doSize();
+  }
+
+  public int capacity() {
+    return doCapacity();
+  }
+
+  public void reserve(int n) {
+    doReserve(n);
+  }
+
+  public LongLongVector() {
+    this(highsJNI.new_LongLongVector__SWIG_0(), true);
+  }
+
+  public LongLongVector(LongLongVector other) {
+    this(highsJNI.new_LongLongVector__SWIG_1(LongLongVector.getCPtr(other), other), true);
+  }
+
+  public boolean isEmpty() {
+    return highsJNI.LongLongVector_isEmpty(swigCPtr, this);
+  }
+
+  public void clear() {
+    highsJNI.LongLongVector_clear(swigCPtr, this);
+  }
+
+  public LongLongVector(int count, long value) {
+    this(highsJNI.new_LongLongVector__SWIG_2(count, value), true);
+  }
+
+  private int doCapacity() {
+    return highsJNI.LongLongVector_doCapacity(swigCPtr, this);
+  }
+
+  private void doReserve(int n) {
+    highsJNI.LongLongVector_doReserve(swigCPtr, this, n);
+  }
+
+  private int doSize() {
+    return highsJNI.LongLongVector_doSize(swigCPtr, this);
+  }
+
+  private void doAdd(long x) {
+    highsJNI.LongLongVector_doAdd__SWIG_0(swigCPtr, this, x);
+  }
+
+  private void doAdd(int index, long x) {
+    highsJNI.LongLongVector_doAdd__SWIG_1(swigCPtr, this, index, x);
+  }
+
+  private long doRemove(int index) {
+    return highsJNI.LongLongVector_doRemove(swigCPtr, this, index);
+  }
+
+  private long doGet(int index) {
+    return highsJNI.LongLongVector_doGet(swigCPtr, this, index);
+  }
+
+  private long doSet(int index, long val) {
+    return highsJNI.LongLongVector_doSet(swigCPtr, this, index, val);
+  }
+
+  private void doRemoveRange(int fromIndex, int toIndex) {
+    highsJNI.LongLongVector_doRemoveRange(swigCPtr, this, fromIndex, toIndex);
+  }
+
+  public SWIGTYPE_p_long_long data() {
+    long cPtr = highsJNI.LongLongVector_data(swigCPtr, this);
+    return (cPtr == 0) ? null : new SWIGTYPE_p_long_long(cPtr, false);
+  }
+
+}
@@ -11,7 +11,7 @@ package highs;
 public class SWIGTYPE_p_FILE {
   private transient long swigCPtr;
 
-  protected SWIGTYPE_p_FILE(long cPtr, @SuppressWarnings("unused") boolean futureUse) {
+  public SWIGTYPE_p_FILE(long cPtr, @SuppressWarnings("unused") boolean futureUse) {
     swigCPtr = cPtr;
   }
 
@@ -19,11 +19,11 @@ public class SWIGTYPE_p_FILE {
     swigCPtr = 0;
   }
 
-  protected static long getCPtr(SWIGTYPE_p_FILE obj) {
+  public static long getCPtr(SWIGTYPE_p_FILE obj) {
     return (obj == null) ? 0 : obj.swigCPtr;
   }
 
-  protected static long swigRelease(SWIGTYPE_p_FILE obj) {
+  public static long swigRelease(SWIGTYPE_p_FILE obj) {
     return (obj == null) ? 0 : obj.swigCPtr;
   }
 }
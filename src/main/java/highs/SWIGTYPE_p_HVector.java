@@ -11,7 +11,7 @@ package highs;
 public class SWIGTYPE_p_HVector {
   private transient long swigCPtr;
 
-  protected SWIGTYPE_p_HVector(long cPtr, @SuppressWarnings("unused") boolean futureUse) {
+  public SWIGTYPE_p_HVector(long cPtr, @SuppressWarnings("unused") boolean futureUse) {
     swigCPtr = cPtr;
   }
 
@@ -19,11 +19,11 @@ public class SWIGTYPE_p_HVector {
     swigCPtr = 0;
   }
 
-  protected static long getCPtr(SWIGTYPE_p_HVector obj) {
+  public static long getCPtr(SWIGTYPE_p_HVector obj) {
     return (obj == null) ? 0 : obj.swigCPtr;
   }
 
-  protected static long swigRelease(SWIGTYPE_p_HVector obj) {
+  public static long swigRelease(SWIGTYPE_p_HVector obj) {
     return (obj == null) ? 0 : obj.swigCPtr;
   }
 }
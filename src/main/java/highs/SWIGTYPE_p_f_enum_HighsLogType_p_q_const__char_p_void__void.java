@@ -11,7 +11,7 @@ package highs;
 public class SWIGTYPE_p_f_enum_HighsLogType_p_q_const__char_p_void__void {
   private transient long swigCPtr;
 
-  protected SWIGTYPE_p_f_enum_HighsLogType_p_q_const__char_p_void__void(long cPtr, @SuppressWarnings("unused") boolean futureUse) {
+  public SWIGTYPE_p_f_enum_HighsLogType_p_q_const__char_p_void__void(long cPtr, @SuppressWarnings("unused") boolean futureUse) {
     swigCPtr = cPtr;
   }
 
@@ -19,11 +19,11 @@ public class SWIGTYPE_p_f_enum_HighsLogType_p_q_const__char_p_void__void {
     swigCPtr = 0;
   }
 
-  protected static long getCPtr(SWIGTYPE_p_f_enum_HighsLogType_p_q_const__char_p_void__void obj) {
+  public static long getCPtr(SWIGTYPE_p_f_enum_HighsLogType_p_q_const__char_p_void__void obj) {
     return (obj == null) ? 0 : obj.swigCPtr;
   }
 
-  protected static long swigRelease(SWIGTYPE_p_f_enum_HighsLogType_p_q_const__char_p_void__void obj) {
+  public static long swigRelease(SWIGTYPE_p_f_enum_HighsLogType_p_q_const__char_p_void__void obj) {
     return (obj == null) ? 0 : obj.swigCPtr;
   }
 }
@@ -23,6 +23,7 @@ public class highsJNI {
   public final static native double DoubleVector_doGet(long jarg1, DoubleVector jarg1_, int jarg2);
   public final static native double DoubleVector_doSet(long jarg1, DoubleVector jarg1_, int jarg2, double jarg3);
   public final static native void DoubleVector_doRemoveRange(long jarg1, DoubleVector jarg1_, int jarg2, int jarg3);
+  public final static native long DoubleVector_data(long jarg1, DoubleVector jarg1_);
   public final static native void delete_DoubleVector(long jarg1);
   public final static native long new_DoubleArray(long jarg1);
   public final static native void delete_DoubleArray(long jarg1);
@@ -132,6 +133,9 @@ public class highsJNI {
   public final static native void HighsBasis_printScalars__SWIG_2(long jarg1, HighsBasis jarg1_);
   public final static native void HighsBasis_invalidate(long jarg1, HighsBasis jarg1_);
   public final static native void HighsBasis_clear(long jarg1, HighsBasis jarg1_);
+  public final static native long HighsBasis_colStatusData(long jarg1, HighsBasis jarg1_);
+  public final static native long HighsBasis_rowStatusData(long jarg1, HighsBasis jarg1_);
+  public final static native void HighsBasis_resizeStatus(long jarg1, HighsBasis jarg1_, long jarg2, long jarg3);
   public final static native long new_HighsBasis();
   public final static native void delete_HighsBasis(long jarg1);
   public final static native void HighsScale_strategy_set(long jarg1, HighsScale jarg1_, long jarg2);
@@ -297,6 +301,37 @@ public class highsJNI {
   public final static native boolean HighsUserScaleData_scaleWarning(long jarg1, HighsUserScaleData jarg1_, long jarg2);
   public final static native long new_HighsUserScaleData();
   public final static native void delete_HighsUserScaleData(long jarg1);
+  public final static native long new_HighsObjectiveSolutionVector__SWIG_0();
+  public final static native long new_HighsObjectiveSolutionVector__SWIG_1(long jarg1, HighsObjectiveSolutionVector jarg1_);
+  public final static native boolean HighsObjectiveSolutionVector_isEmpty(long jarg1, HighsObjectiveSolutionVector jarg1_);
+  public final static native void HighsObjectiveSolutionVector_clear(long jarg1, HighsObjectiveSolutionVector jarg1_);
+  public final static native long new_HighsObjectiveSolutionVector__SWIG_2(int jarg1, long jarg2, HighsObjectiveSolution jarg2_);
+  public final static native int HighsObjectiveSolutionVector_doCapacity(long jarg1, HighsObjectiveSolutionVector jarg1_);
+  public final static native void HighsObjectiveSolutionVector_doReserve(long jarg1, HighsObjectiveSolutionVector jarg1_, int jarg2);
+  public final static native int HighsObjectiveSolutionVector_doSize(long jarg1, HighsObjectiveSolutionVector jarg1_);
+  public final static native void HighsObjectiveSolutionVector_doAdd__SWIG_0(long jarg1, HighsObjectiveSolutionVector jarg1_, long jarg2, HighsObjectiveSolution jarg2_);
+  public final static native void HighsObjectiveSolutionVector_doAdd__SWIG_1(long jarg1, HighsObjectiveSolutionVector jarg1_, int jarg2, long jarg3, HighsObjectiveSolution jarg3_);
+  public final static native long HighsObjectiveSolutionVector_doRemove(long jarg1, HighsObjectiveSolutionVector jarg1_, int jarg2);
+  public final static native long HighsObjectiveSolutionVector_doGet(long jarg1, HighsObjectiveSolutionVector jarg1_, int jarg2);
+  public final static native long HighsObjectiveSolutionVector_doSet(long jarg1, HighsObjectiveSolutionVector jarg1_, int jarg2, long jarg3, HighsObjectiveSolution jarg3_);
+  public final static native void HighsObjectiveSolutionVector_doRemoveRange(long jarg1, HighsObjectiveSolutionVector jarg1_, int jarg2, int jarg3);
+  public final static native void delete_HighsObjectiveSolutionVector(long jarg1);
+  public final static native long new_LongLongVector__SWIG_0();
+  public final static native long new_LongLongVector__SWIG_1(long jarg1, LongLongVector jarg1_);
+  public final static native boolean LongLongVector_isEmpty(long jarg1, LongLongVector jarg1_);
+  public final static native void LongLongVector_clear(long jarg1, LongLongVector jarg1_);
+  public final static native long new_LongLongVector__SWIG_2(int jarg1, long jarg2);
+  public final static native int LongLongVector_doCapacity(long jarg1, LongLongVector jarg1_);
+  public final static native void LongLongVector_doReserve(long jarg1, LongLongVector jarg1_, int jarg2);
+  public final static native int LongLongVector_doSize(long jarg1, LongLongVector jarg1_);
+  public final static native void LongLongVector_doAdd__SWIG_0(long jarg1, LongLongVector jarg1_, long jarg2);
+  public final static native void LongLongVector_doAdd__SWIG_1(long jarg1, LongLongVector jarg1_, int jarg2, long jarg3);
+  public final static native long LongLongVector_doRemove(long jarg1, LongLongVector jarg1_, int jarg2);
+  public final static native long LongLongVector_doGet(long jarg1, LongLongVector jarg1_, int jarg2);
+  public final static native long LongLongVector_doSet(long jarg1, LongLongVector jarg1_, int jarg2, long jarg3);
+  public final static native void LongLongVector_doRemoveRange(long jarg1, LongLongVector jarg1_, int jarg2, int jarg3);
+  public final static native long LongLongVector_data(long jarg1, LongLongVector jarg1_);
+  public final static native void delete_LongLongVector(long jarg1);
   public final static native String kHighsCopyrightStatement_get();
   public final static native long kHighsSize_tInf_get();
   public final static native long kHighsIInf_get();
@@ -447,6 +482,32 @@ public class highsJNI {
   public final static native int interpretCallStatus__SWIG_0(long jarg1, int jarg2, int jarg3, String jarg4);
   public final static native int interpretCallStatus__SWIG_1(long jarg1, int jarg2, int jarg3);
   public final static native int worseStatus(int jarg1, int jarg2);
+  public final static native void HighsRangingRecord_value__set(long jarg1, HighsRangingRecord jarg1_, long jarg2, DoubleVector jarg2_);
+  public final static native long HighsRangingRecord_value__get(long jarg1, HighsRangingRecord jarg1_);
+  public final static native void HighsRangingRecord_objective__set(long jarg1, HighsRangingRecord jarg1_, long jarg2, DoubleVector jarg2_);
+  public final static native long HighsRangingRecord_objective__get(long jarg1, HighsRangingRecord jarg1_);
+  public final static native void HighsRangingRecord_in_var__set(long jarg1, HighsRangingRecord jarg1_, long jarg2, LongLongVector jarg2_);
+  public final static native long HighsRangingRecord_in_var__get(long jarg1, HighsRangingRecord jarg1_);
+  public final static native void HighsRangingRecord_ou_var__set(long jarg1, HighsRangingRecord jarg1_, long jarg2, LongLongVector jarg2_);
+  public final static native long HighsRangingRecord_ou_var__get(long jarg1, HighsRangingRecord jarg1_);
+  public final static native long new_HighsRangingRecord();
+  public final static native void delete_HighsRangingRecord(long jarg1);
+  public final static native void HighsRanging_valid_set(long jarg1, HighsRanging jarg1_, boolean jarg2);
+  public final static native boolean HighsRanging_valid_get(long jarg1, HighsRanging jarg1_);
+  public final static native void HighsRanging_col_cost_up_set(long jarg1, HighsRanging jarg1_, long jarg2, HighsRangingRecord jarg2_);
+  public final static native long HighsRanging_col_cost_up_get(long jarg1, HighsRanging jarg1_);
+  public final static native void HighsRanging_col_cost_dn_set(long jarg1, HighsRanging jarg1_, long jarg2, HighsRangingRecord jarg2_);
+  public final static native long HighsRanging_col_cost_dn_get(long jarg1, HighsRanging jarg1_);
+  public final static native void HighsRanging_col_bound_up_set(long jarg1, HighsRanging jarg1_, long jarg2, HighsRangingRecord jarg2_);
+  public final static native long HighsRanging_col_bound_up_get(long jarg1, HighsRanging jarg1_);
+  public final static native void HighsRanging_col_bound_dn_set(long jarg1, HighsRanging jarg1_, long jarg2, HighsRangingRecord jarg2_);
+  public final static native long HighsRanging_col_bound_dn_get(long jarg1, HighsRanging jarg1_);
+  public final static native void HighsRanging_row_bound_up_set(long jarg1, HighsRanging jarg1_, long jarg2, HighsRangingRecord jarg2_);
+  public final static native long HighsRanging_row_bound_up_get(long jarg1, HighsRanging jarg1_);
+  public final static native void HighsRanging_row_bound_dn_set(long jarg1, HighsRanging jarg1_, long jarg2, HighsRangingRecord jarg2_);
+  public final static native long HighsRanging_row_bound_dn_get(long jarg1, HighsRanging jarg1_);
+  public final static native long new_HighsRanging();
+  public final static native void delete_HighsRanging(long jarg1);
   public final static native String highsVersion();
   public final static native long highsVersionMajor();
   public final static native long highsVersionMinor();
@@ -563,7 +624,7 @@ public class highsJNI {
   public final static native int Highs_getDualUnboundednessDirection__SWIG_1(long jarg1, Highs jarg1_, long jarg2);
   public final static native int Highs_getPrimalRay__SWIG_0(long jarg1, Highs jarg1_, long jarg2, long jarg3);
   public final static native int Highs_getPrimalRay__SWIG_1(long jarg1, Highs jarg1_, long jarg2);
-  public final static native int Highs_getRanging(long jarg1, Highs jarg1_, long jarg2);
+  public final static native int Highs_getRanging(long jarg1, Highs jarg1_, long jarg2, HighsRanging jarg2_);
   public final static native int Highs_feasibilityRelaxation__SWIG_0(long jarg1, Highs jarg1_, double jarg2, double jarg3, double jarg4, long jarg5, long jarg6, long jarg7);
   public final static native int Highs_feasibilityRelaxation__SWIG_1(long jarg1, Highs jarg1_, double jarg2, double jarg3, double jarg4, long jarg5, long jarg6);
   public final static native int Highs_feasibilityRelaxation__SWIG_2(long jarg1, Highs jarg1_, double jarg2, double jarg3, double jarg4, long jarg5);
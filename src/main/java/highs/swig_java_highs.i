@@ -7,11 +7,23 @@
 #include "util/HighsInt.h"
 #include "model/HighsModel.h"
 #include "lp_data/HighsStatus.h"
+#include "lp_data/HighsRanging.h"
 #include "Highs.h"
 %}
 
+SWIG_JAVABODY_TYPEWRAPPER(public, protected, public, SWIGTYPE)
 
 %include "std_vector.i"
+%extend std::vector<double> {
+   double *data() {
+      return $self->data();
+   }
+}
+%extend std::vector<long long> {
+   long long *data() {
+      return $self->data();
+   }
+}
 namespace std {
    %template(DoubleVector) vector<double>;
 }
@@ -22,9 +34,28 @@ namespace std {
 %include "std_string.i"
 %include "stdint.i"
 %include "HConfig.h"
+%extend HighsBasis {
+   void *colStatusData() {
+      return $self->col_status.data();
+   }
+   void *rowStatusData() {
+      return $self->row_status.data();
+   }
+   void resizeStatus(long long numCol, long long numRow) {
+      $self->col_status.resize(numCol);
+      $self->row_status.resize(numRow);
+   }
+}
 %include "lp_data/HStruct.h"
+namespace std {
+   %template(HighsObjectiveSolutionVector) vector<HighsObjectiveSolution>;
+   %template(LongLongVector) vector<long long>;
+}
 %include "lp_data/HConst.h"
 %include "util/HighsInt.h"
 %include "model/HighsModel.h"
 %include "lp_data/HighsStatus.h"
+%ignore getRangingData;
+%ignore writeRangingFile;
+%include "lp_data/HighsRanging.h"
 %include "Highs.h"
\ No newline at end of file
@@ -280,6 +280,7 @@ template <typename T> T SwigValueInit() {
 #include "util/HighsInt.h"
 #include "model/HighsModel.h"
 #include "lp_data/HighsStatus.h"
+#include "lp_data/HighsRanging.h"
 #include "Highs.h"
 
 
@@ -367,6 +368,9 @@ SWIGINTERN void std_vector_Sl_double_Sg__doRemoveRange(std::vector< double > *se
           throw std::out_of_range("vector index out of range");
         }
       }
+SWIGINTERN double *std_vector_Sl_double_Sg__data(std::vector< double > *self){
+      return self->data();
+   }
 
 typedef double DoubleArray;
 
@@ -415,6 +419,144 @@ SWIGINTERN LongLongArray *LongLongArray_frompointer(long long *t){
 
 #include <stdint.h>		// Use the C99 official header
 
+SWIGINTERN void *HighsBasis_colStatusData(HighsBasis *self){
+      return self->col_status.data();
+   }
+SWIGINTERN void *HighsBasis_rowStatusData(HighsBasis *self){
+      return self->row_status.data();
+   }
+SWIGINTERN void HighsBasis_resizeStatus(HighsBasis *self,long long numCol,long long numRow){
+      self->col_status.resize(numCol);
+      self->row_status.resize(numRow);
+   }
+SWIGINTERN std::vector< HighsObjectiveSolution > *new_std_vector_Sl_HighsObjectiveSolution_Sg___SWIG_2(jint count,HighsObjectiveSolution const &value){
+        if (count < 0)
+          throw std::out_of_range("vector count must be positive");
+        return new std::vector< HighsObjectiveSolution >(static_cast<std::vector< HighsObjectiveSolution >::size_type>(count), value);
+      }
+SWIGINTERN jint std_vector_Sl_HighsObjectiveSolution_Sg__doCapacity(std::vector< HighsObjectiveSolution > *self){
+        return SWIG_VectorSize(self->capacity());
+      }
+SWIGINTERN void std_vector_Sl_HighsObjectiveSolution_Sg__doReserve(std::vector< HighsObjectiveSolution > *self,jint n){
+        if (n < 0)
+          throw std::out_of_range("vector reserve size must be positive");
+        self->reserve(n);
+      }
+SWIGINTERN jint std_vector_Sl_HighsObjectiveSolution_Sg__doSize(std::vector< HighsObjectiveSolution > const *self){
+        return SWIG_VectorSize(self->size());
+      }
+SWIGINTERN void std_vector_Sl_HighsObjectiveSolution_Sg__doAdd__SWIG_0(std::vector< HighsObjectiveSolution > *self,std::vector< HighsObjectiveSolution >::value_type const &x){
+        self->push_back(x);
+      }
+SWIGINTERN void std_vector_Sl_HighsObjectiveSolution_Sg__doAdd__SWIG_1(std::vector< HighsObjectiveSolution > *self,jint index,std::vector< HighsObjectiveSolution >::value_type const &x){
+        jint size = static_cast<jint>(self->size());
+        if (0 <= index && index <= size) {
+          self->insert(self->begin() + index, x);
+        } else {
+          throw std::out_of_range("vector index out of range");
+        }
+      }
+SWIGINTERN std::vector< HighsObjectiveSolution >::value_type std_vector_Sl_HighsObjectiveSolution_Sg__doRemove(std::vector< HighsObjectiveSolution > *self,jint index){
+        jint size = static_cast<jint>(self->size());
+        if (0 <= index && index < size) {
+          HighsObjectiveSolution const old_value = (*self)[index];
+          self->erase(self->begin() + index);
+          return old_value;
+        } else {
+          throw std::out_of_range("vector index out of range");
+        }
+      }
+SWIGINTERN std::vector< HighsObjectiveSolution >::value_type const &std_vector_Sl_HighsObjectiveSolution_Sg__doGet(std::vector< HighsObjectiveSolution > *self,jint index){
+        jint size = static_cast<jint>(self->size());
+        if (index >= 0 && index < size)
+          return (*self)[index];
+        else
+          throw std::out_of_range("vector index out of range");
+      }
+SWIGINTERN std::vector< HighsObjectiveSolution >::value_type std_vector_Sl_HighsObjectiveSolution_Sg__doSet(std::vector< HighsObjectiveSolution > *self,jint index,std::vector< HighsObjectiveSolution >::value_type const &val){
+        jint size = static_cast<jint>(self->size());
+        if (index >= 0 && index < size) {
+          HighsObjectiveSolution const old_value = (*self)[index];
+          (*self)[index] = val;
+          return old_value;
+        }
+        else
+          throw std::out_of_range("vector index out of range");
+      }
+SWIGINTERN void std_vector_Sl_HighsObjectiveSolution_Sg__doRemoveRange(std::vector< HighsObjectiveSolution > *self,jint fromIndex,jint toIndex){
+        jint size = static_cast<jint>(self->size());
+        if (0 <= fromIndex && fromIndex <= toIndex && toIndex <= size) {
+          self->erase(self->begin() + fromIndex, self->begin() + toIndex);
+        } else {
+          throw std::out_of_range("vector index out of range");
+        }
+      }
+SWIGINTERN std::vector< long long > *new_std_vector_Sl_long_SS_long_Sg___SWIG_2(jint count,long long const &value){
+        if (count < 0)
+          throw std::out_of_range("vector count must be positive");
+        return new std::vector< long long >(static_cast<std::vector< long long >::size_type>(count), value);
+      }
+SWIGINTERN jint std_vector_Sl_long_SS_long_Sg__doCapacity(std::vector< long long > *self){
+        return SWIG_VectorSize(self->capacity());
+      }
+SWIGINTERN void std_vector_Sl_long_SS_long_Sg__doReserve(std::vector< long long > *self,jint n){
+        if (n < 0)
+          throw std::out_of_range("vector reserve size must be positive");
+        self->reserve(n);
+      }
+SWIGINTERN jint std_vector_Sl_long_SS_long_Sg__doSize(std::vector< long long > const *self){
+        return SWIG_VectorSize(self->size());
+      }
+SWIGINTERN void std_vector_Sl_long_SS_long_Sg__doAdd__SWIG_0(std::vector< long long > *self,std::vector< long long >::value_type const &x){
+        self->push_back(x);
+      }
+SWIGINTERN void std_vector_Sl_long_SS_long_Sg__doAdd__SWIG_1(std::vector< long long > *self,jint index,std::vector< long long >::value_type const &x){
+        jint size = static_cast<jint>(self->size());
+        if (0 <= index && index <= size) {
+          self->insert(self->begin() + index, x);
+        } else {
+          throw std::out_of_range("vector index out of range");
+        }
+      }
+SWIGINTERN std::vector< long long >::value_type std_vector_Sl_long_SS_long_Sg__doRemove(std::vector< long long > *self,jint index){
+        jint size = static_cast<jint>(self->size());
+        if (0 <= index && index < size) {
+          long long const old_value = (*self)[index];
+          self->erase(self->begin() + index);
+          return old_value;
+        } else {
+          throw std::out_of_range("vector index out of range");
+        }
+      }
+SWIGINTERN std::vector< long long >::value_type const &std_vector_Sl_long_SS_long_Sg__doGet(std::vector< long long > *self,jint index){
+        jint size = static_cast<jint>(self->size());
+        if (index >= 0 && index < size)
+          return (*self)[index];
+        else
+          throw std::out_of_range("vector index out of range");
+      }
+SWIGINTERN std::vector< long long >::value_type std_vector_Sl_long_SS_long_Sg__doSet(std::vector< long long > *self,jint index,std::vector< long long >::value_type const &val){
+        jint size = static_cast<jint>(self->size());
+        if (index >= 0 && index < size) {
+          long long const old_value = (*self)[index];
+          (*self)[index] = val;
+          return old_value;
+        }
+        else
+          throw std::out_of_range("vector index out of range");
+      }
+SWIGINTERN void std_vector_Sl_long_SS_long_Sg__doRemoveRange(std::vector< long long > *self,jint fromIndex,jint toIndex){
+        jint size = static_cast<jint>(self->size());
+        if (0 <= fromIndex && fromIndex <= toIndex && toIndex <= size) {
+          self->erase(self->begin() + fromIndex, self->begin() + toIndex);
+        } else {
+          throw std::out_of_range("vector index out of range");
+        }
+      }
+SWIGINTERN long long *std_vector_Sl_long_SS_long_Sg__data(std::vector< long long > *self){
+      return self->data();
+   }
+
 
 #ifdef __cplusplus
 extern "C" {
@@ -688,6 +830,21 @@ SWIGEXPORT void JNICALL Java_highs_highsJNI_DoubleVector_1doRemoveRange(JNIEnv *
 }
 
 
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_DoubleVector_1data(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  std::vector< double > *arg1 = (std::vector< double > *) 0 ;
+  double *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(std::vector< double > **)&jarg1; 
+  result = (double *)std_vector_Sl_double_Sg__data(arg1);
+  *(double **)&jresult = result; 
+  return jresult;
+}
+
+
 SWIGEXPORT void JNICALL Java_highs_highsJNI_delete_1DoubleVector(JNIEnv *jenv, jclass jcls, jlong jarg1) {
   std::vector< double > *arg1 = (std::vector< double > *) 0 ;
   
@@ -2277,6 +2434,51 @@ SWIGEXPORT void JNICALL Java_highs_highsJNI_HighsBasis_1clear(JNIEnv *jenv, jcla
 }
 
 
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_HighsBasis_1colStatusData(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  HighsBasis *arg1 = (HighsBasis *) 0 ;
+  void *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(HighsBasis **)&jarg1; 
+  result = (void *)HighsBasis_colStatusData(arg1);
+  *(void **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_HighsBasis_1rowStatusData(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  HighsBasis *arg1 = (HighsBasis *) 0 ;
+  void *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(HighsBasis **)&jarg1; 
+  result = (void *)HighsBasis_rowStatusData(arg1);
+  *(void **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_highs_highsJNI_HighsBasis_1resizeStatus(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jlong jarg3) {
+  HighsBasis *arg1 = (HighsBasis *) 0 ;
+  long long arg2 ;
+  long long arg3 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(HighsBasis **)&jarg1; 
+  arg2 = (long long)jarg2; 
+  arg3 = (long long)jarg3; 
+  HighsBasis_resizeStatus(arg1,arg2,arg3);
+}
+
+
 SWIGEXPORT jlong JNICALL Java_highs_highsJNI_new_1HighsBasis(JNIEnv *jenv, jclass jcls) {
   jlong jresult = 0 ;
   HighsBasis *result = 0 ;
@@ -4570,24 +4772,607 @@ SWIGEXPORT jboolean JNICALL Java_highs_highsJNI_HighsUserScaleData_1scaleWarning
 }
 
 
-SWIGEXPORT jlong JNICALL Java_highs_highsJNI_new_1HighsUserScaleData(JNIEnv *jenv, jclass jcls) {
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_new_1HighsUserScaleData(JNIEnv *jenv, jclass jcls) {
+  jlong jresult = 0 ;
+  HighsUserScaleData *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (HighsUserScaleData *)new HighsUserScaleData();
+  *(HighsUserScaleData **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_highs_highsJNI_delete_1HighsUserScaleData(JNIEnv *jenv, jclass jcls, jlong jarg1) {
+  HighsUserScaleData *arg1 = (HighsUserScaleData *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = *(HighsUserScaleData **)&jarg1; 
+  delete arg1;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_new_1HighsObjectiveSolutionVector_1_1SWIG_10(JNIEnv *jenv, jclass jcls) {
+  jlong jresult = 0 ;
+  std::vector< HighsObjectiveSolution > *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (std::vector< HighsObjectiveSolution > *)new std::vector< HighsObjectiveSolution >();
+  *(std::vector< HighsObjectiveSolution > **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_new_1HighsObjectiveSolutionVector_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  std::vector< HighsObjectiveSolution > *arg1 = 0 ;
+  std::vector< HighsObjectiveSolution > *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(std::vector< HighsObjectiveSolution > **)&jarg1;
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException, "std::vector< HighsObjectiveSolution > const & is null");
+    return 0;
+  } 
+  result = (std::vector< HighsObjectiveSolution > *)new std::vector< HighsObjectiveSolution >((std::vector< HighsObjectiveSolution > const &)*arg1);
+  *(std::vector< HighsObjectiveSolution > **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_highs_highsJNI_HighsObjectiveSolutionVector_1isEmpty(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jboolean jresult = 0 ;
+  std::vector< HighsObjectiveSolution > *arg1 = (std::vector< HighsObjectiveSolution > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(std::vector< HighsObjectiveSolution > **)&jarg1; 
+  result = (bool)((std::vector< HighsObjectiveSolution > const *)arg1)->empty();
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_highs_highsJNI_HighsObjectiveSolutionVector_1clear(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  std::vector< HighsObjectiveSolution > *arg1 = (std::vector< HighsObjectiveSolution > *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(std::vector< HighsObjectiveSolution > **)&jarg1; 
+  (arg1)->clear();
+}
+
+
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_new_1HighsObjectiveSolutionVector_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jint jarg1, jlong jarg2, jobject jarg2_) {
+  jlong jresult = 0 ;
+  jint arg1 ;
+  HighsObjectiveSolution *arg2 = 0 ;
+  std::vector< HighsObjectiveSolution > *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg2_;
+  arg1 = jarg1; 
+  arg2 = *(HighsObjectiveSolution **)&jarg2;
+  if (!arg2) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException, "HighsObjectiveSolution const & is null");
+    return 0;
+  } 
+  try {
+    result = (std::vector< HighsObjectiveSolution > *)new_std_vector_Sl_HighsObjectiveSolution_Sg___SWIG_2(SWIG_STD_MOVE(arg1),(HighsObjectiveSolution const &)*arg2);
+  } catch(std::out_of_range &_e) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaIndexOutOfBoundsException, (&_e)->what());
+    return 0;
+  }
+  *(std::vector< HighsObjectiveSolution > **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_highs_highsJNI_HighsObjectiveSolutionVector_1doCapacity(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  std::vector< HighsObjectiveSolution > *arg1 = (std::vector< HighsObjectiveSolution > *) 0 ;
+  jint result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(std::vector< HighsObjectiveSolution > **)&jarg1; 
+  try {
+    result = std_vector_Sl_HighsObjectiveSolution_Sg__doCapacity(arg1);
+  } catch(std::out_of_range &_e) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaIndexOutOfBoundsException, (&_e)->what());
+    return 0;
+  }
+  jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_highs_highsJNI_HighsObjectiveSolutionVector_1doReserve(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  std::vector< HighsObjectiveSolution > *arg1 = (std::vector< HighsObjectiveSolution > *) 0 ;
+  jint arg2 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(std::vector< HighsObjectiveSolution > **)&jarg1; 
+  arg2 = jarg2; 
+  try {
+    std_vector_Sl_HighsObjectiveSolution_Sg__doReserve(arg1,SWIG_STD_MOVE(arg2));
+  } catch(std::length_error &_e) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaIndexOutOfBoundsException, (&_e)->what());
+    return ;
+  } catch(std::out_of_range &_e) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaIndexOutOfBoundsException, (&_e)->what());
+    return ;
+  }
+}
+
+
+SWIGEXPORT jint JNICALL Java_highs_highsJNI_HighsObjectiveSolutionVector_1doSize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  std::vector< HighsObjectiveSolution > *arg1 = (std::vector< HighsObjectiveSolution > *) 0 ;
+  jint result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(std::vector< HighsObjectiveSolution > **)&jarg1; 
+  try {
+    result = std_vector_Sl_HighsObjectiveSolution_Sg__doSize((std::vector< HighsObjectiveSolution > const *)arg1);
+  } catch(std::out_of_range &_e) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaIndexOutOfBoundsException, (&_e)->what());
+    return 0;
+  }
+  jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_highs_highsJNI_HighsObjectiveSolutionVector_1doAdd_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  std::vector< HighsObjectiveSolution > *arg1 = (std::vector< HighsObjectiveSolution > *) 0 ;
+  std::vector< HighsObjectiveSolution >::value_type *arg2 = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(std::vector< HighsObjectiveSolution > **)&jarg1; 
+  arg2 = *(std::vector< HighsObjectiveSolution >::value_type **)&jarg2;
+  if (!arg2) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException, "std::vector< HighsObjectiveSolution >::value_type const & is null");
+    return ;
+  } 
+  std_vector_Sl_HighsObjectiveSolution_Sg__doAdd__SWIG_0(arg1,(HighsObjectiveSolution const &)*arg2);
+}
+
+
+SWIGEXPORT void JNICALL Java_highs_highsJNI_HighsObjectiveSolutionVector_1doAdd_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jlong jarg3, jobject jarg3_) {
+  std::vector< HighsObjectiveSolution > *arg1 = (std::vector< HighsObjectiveSolution > *) 0 ;
+  jint arg2 ;
+  std::vector< HighsObjectiveSolution >::value_type *arg3 = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg3_;
+  arg1 = *(std::vector< HighsObjectiveSolution > **)&jarg1; 
+  arg2 = jarg2; 
+  arg3 = *(std::vector< HighsObjectiveSolution >::value_type **)&jarg3;
+  if (!arg3) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException, "std::vector< HighsObjectiveSolution >::value_type const & is null");
+    return ;
+  } 
+  try {
+    std_vector_Sl_HighsObjectiveSolution_Sg__doAdd__SWIG_1(arg1,SWIG_STD_MOVE(arg2),(HighsObjectiveSolution const &)*arg3);
+  } catch(std::out_of_range &_e) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaIndexOutOfBoundsException, (&_e)->what());
+    return ;
+  }
+}
+
+
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_HighsObjectiveSolutionVector_1doRemove(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jlong jresult = 0 ;
+  std::vector< HighsObjectiveSolution > *arg1 = (std::vector< HighsObjectiveSolution > *) 0 ;
+  jint arg2 ;
+  std::vector< HighsObjectiveSolution >::value_type result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(std::vector< HighsObjectiveSolution > **)&jarg1; 
+  arg2 = jarg2; 
+  try {
+    result = std_vector_Sl_HighsObjectiveSolution_Sg__doRemove(arg1,SWIG_STD_MOVE(arg2));
+  } catch(std::out_of_range &_e) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaIndexOutOfBoundsException, (&_e)->what());
+    return 0;
+  }
+  *(std::vector< HighsObjectiveSolution >::value_type **)&jresult = new std::vector< HighsObjectiveSolution >::value_type(result); 
+  return jresult;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_HighsObjectiveSolutionVector_1doGet(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jlong jresult = 0 ;
+  std::vector< HighsObjectiveSolution > *arg1 = (std::vector< HighsObjectiveSolution > *) 0 ;
+  jint arg2 ;
+  std::vector< HighsObjectiveSolution >::value_type *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(std::vector< HighsObjectiveSolution > **)&jarg1; 
+  arg2 = jarg2; 
+  try {
+    result = (std::vector< HighsObjectiveSolution >::value_type *) &std_vector_Sl_HighsObjectiveSolution_Sg__doGet(arg1,SWIG_STD_MOVE(arg2));
+  } catch(std::out_of_range &_e) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaIndexOutOfBoundsException, (&_e)->what());
+    return 0;
+  }
+  *(std::vector< HighsObjectiveSolution >::value_type **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_HighsObjectiveSolutionVector_1doSet(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jlong jarg3, jobject jarg3_) {
+  jlong jresult = 0 ;
+  std::vector< HighsObjectiveSolution > *arg1 = (std::vector< HighsObjectiveSolution > *) 0 ;
+  jint arg2 ;
+  std::vector< HighsObjectiveSolution >::value_type *arg3 = 0 ;
+  std::vector< HighsObjectiveSolution >::value_type result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg3_;
+  arg1 = *(std::vector< HighsObjectiveSolution > **)&jarg1; 
+  arg2 = jarg2; 
+  arg3 = *(std::vector< HighsObjectiveSolution >::value_type **)&jarg3;
+  if (!arg3) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException, "std::vector< HighsObjectiveSolution >::value_type const & is null");
+    return 0;
+  } 
+  try {
+    result = std_vector_Sl_HighsObjectiveSolution_Sg__doSet(arg1,SWIG_STD_MOVE(arg2),(HighsObjectiveSolution const &)*arg3);
+  } catch(std::out_of_range &_e) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaIndexOutOfBoundsException, (&_e)->what());
+    return 0;
+  }
+  *(std::vector< HighsObjectiveSolution >::value_type **)&jresult = new std::vector< HighsObjectiveSolution >::value_type(result); 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_highs_highsJNI_HighsObjectiveSolutionVector_1doRemoveRange(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3) {
+  std::vector< HighsObjectiveSolution > *arg1 = (std::vector< HighsObjectiveSolution > *) 0 ;
+  jint arg2 ;
+  jint arg3 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(std::vector< HighsObjectiveSolution > **)&jarg1; 
+  arg2 = jarg2; 
+  arg3 = jarg3; 
+  try {
+    std_vector_Sl_HighsObjectiveSolution_Sg__doRemoveRange(arg1,SWIG_STD_MOVE(arg2),SWIG_STD_MOVE(arg3));
+  } catch(std::out_of_range &_e) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaIndexOutOfBoundsException, (&_e)->what());
+    return ;
+  }
+}
+
+
+SWIGEXPORT void JNICALL Java_highs_highsJNI_delete_1HighsObjectiveSolutionVector(JNIEnv *jenv, jclass jcls, jlong jarg1) {
+  std::vector< HighsObjectiveSolution > *arg1 = (std::vector< HighsObjectiveSolution > *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = *(std::vector< HighsObjectiveSolution > **)&jarg1; 
+  delete arg1;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_new_1LongLongVector_1_1SWIG_10(JNIEnv *jenv, jclass jcls) {
+  jlong jresult = 0 ;
+  std::vector< long long > *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (std::vector< long long > *)new std::vector< long long >();
+  *(std::vector< long long > **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_new_1LongLongVector_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  std::vector< long long > *arg1 = 0 ;
+  std::vector< long long > *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(std::vector< long long > **)&jarg1;
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException, "std::vector< long long > const & is null");
+    return 0;
+  } 
+  result = (std::vector< long long > *)new std::vector< long long >((std::vector< long long > const &)*arg1);
+  *(std::vector< long long > **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_highs_highsJNI_LongLongVector_1isEmpty(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jboolean jresult = 0 ;
+  std::vector< long long > *arg1 = (std::vector< long long > *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(std::vector< long long > **)&jarg1; 
+  result = (bool)((std::vector< long long > const *)arg1)->empty();
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_highs_highsJNI_LongLongVector_1clear(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  std::vector< long long > *arg1 = (std::vector< long long > *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(std::vector< long long > **)&jarg1; 
+  (arg1)->clear();
+}
+
+
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_new_1LongLongVector_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jint jarg1, jlong jarg2) {
+  jlong jresult = 0 ;
+  jint arg1 ;
+  long long *arg2 = 0 ;
+  long long temp2 ;
+  std::vector< long long > *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = jarg1; 
+  temp2 = (long long)jarg2; 
+  arg2 = &temp2; 
+  try {
+    result = (std::vector< long long > *)new_std_vector_Sl_long_SS_long_Sg___SWIG_2(SWIG_STD_MOVE(arg1),(long long const &)*arg2);
+  } catch(std::out_of_range &_e) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaIndexOutOfBoundsException, (&_e)->what());
+    return 0;
+  }
+  *(std::vector< long long > **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_highs_highsJNI_LongLongVector_1doCapacity(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  std::vector< long long > *arg1 = (std::vector< long long > *) 0 ;
+  jint result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(std::vector< long long > **)&jarg1; 
+  try {
+    result = std_vector_Sl_long_SS_long_Sg__doCapacity(arg1);
+  } catch(std::out_of_range &_e) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaIndexOutOfBoundsException, (&_e)->what());
+    return 0;
+  }
+  jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_highs_highsJNI_LongLongVector_1doReserve(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  std::vector< long long > *arg1 = (std::vector< long long > *) 0 ;
+  jint arg2 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(std::vector< long long > **)&jarg1; 
+  arg2 = jarg2; 
+  try {
+    std_vector_Sl_long_SS_long_Sg__doReserve(arg1,SWIG_STD_MOVE(arg2));
+  } catch(std::length_error &_e) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaIndexOutOfBoundsException, (&_e)->what());
+    return ;
+  } catch(std::out_of_range &_e) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaIndexOutOfBoundsException, (&_e)->what());
+    return ;
+  }
+}
+
+
+SWIGEXPORT jint JNICALL Java_highs_highsJNI_LongLongVector_1doSize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  std::vector< long long > *arg1 = (std::vector< long long > *) 0 ;
+  jint result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(std::vector< long long > **)&jarg1; 
+  try {
+    result = std_vector_Sl_long_SS_long_Sg__doSize((std::vector< long long > const *)arg1);
+  } catch(std::out_of_range &_e) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaIndexOutOfBoundsException, (&_e)->what());
+    return 0;
+  }
+  jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_highs_highsJNI_LongLongVector_1doAdd_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2) {
+  std::vector< long long > *arg1 = (std::vector< long long > *) 0 ;
+  std::vector< long long >::value_type *arg2 = 0 ;
+  std::vector< long long >::value_type temp2 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(std::vector< long long > **)&jarg1; 
+  temp2 = (std::vector< long long >::value_type)jarg2; 
+  arg2 = &temp2; 
+  std_vector_Sl_long_SS_long_Sg__doAdd__SWIG_0(arg1,(long long const &)*arg2);
+}
+
+
+SWIGEXPORT void JNICALL Java_highs_highsJNI_LongLongVector_1doAdd_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jlong jarg3) {
+  std::vector< long long > *arg1 = (std::vector< long long > *) 0 ;
+  jint arg2 ;
+  std::vector< long long >::value_type *arg3 = 0 ;
+  std::vector< long long >::value_type temp3 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(std::vector< long long > **)&jarg1; 
+  arg2 = jarg2; 
+  temp3 = (std::vector< long long >::value_type)jarg3; 
+  arg3 = &temp3; 
+  try {
+    std_vector_Sl_long_SS_long_Sg__doAdd__SWIG_1(arg1,SWIG_STD_MOVE(arg2),(long long const &)*arg3);
+  } catch(std::out_of_range &_e) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaIndexOutOfBoundsException, (&_e)->what());
+    return ;
+  }
+}
+
+
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_LongLongVector_1doRemove(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jlong jresult = 0 ;
+  std::vector< long long > *arg1 = (std::vector< long long > *) 0 ;
+  jint arg2 ;
+  std::vector< long long >::value_type result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(std::vector< long long > **)&jarg1; 
+  arg2 = jarg2; 
+  try {
+    result = (std::vector< long long >::value_type)std_vector_Sl_long_SS_long_Sg__doRemove(arg1,SWIG_STD_MOVE(arg2));
+  } catch(std::out_of_range &_e) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaIndexOutOfBoundsException, (&_e)->what());
+    return 0;
+  }
+  jresult = (jlong)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_LongLongVector_1doGet(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jlong jresult = 0 ;
+  std::vector< long long > *arg1 = (std::vector< long long > *) 0 ;
+  jint arg2 ;
+  std::vector< long long >::value_type *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(std::vector< long long > **)&jarg1; 
+  arg2 = jarg2; 
+  try {
+    result = (std::vector< long long >::value_type *) &std_vector_Sl_long_SS_long_Sg__doGet(arg1,SWIG_STD_MOVE(arg2));
+  } catch(std::out_of_range &_e) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaIndexOutOfBoundsException, (&_e)->what());
+    return 0;
+  }
+  jresult = (jlong)*result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_LongLongVector_1doSet(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jlong jarg3) {
+  jlong jresult = 0 ;
+  std::vector< long long > *arg1 = (std::vector< long long > *) 0 ;
+  jint arg2 ;
+  std::vector< long long >::value_type *arg3 = 0 ;
+  std::vector< long long >::value_type temp3 ;
+  std::vector< long long >::value_type result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(std::vector< long long > **)&jarg1; 
+  arg2 = jarg2; 
+  temp3 = (std::vector< long long >::value_type)jarg3; 
+  arg3 = &temp3; 
+  try {
+    result = (std::vector< long long >::value_type)std_vector_Sl_long_SS_long_Sg__doSet(arg1,SWIG_STD_MOVE(arg2),(long long const &)*arg3);
+  } catch(std::out_of_range &_e) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaIndexOutOfBoundsException, (&_e)->what());
+    return 0;
+  }
+  jresult = (jlong)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_highs_highsJNI_LongLongVector_1doRemoveRange(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jint jarg3) {
+  std::vector< long long > *arg1 = (std::vector< long long > *) 0 ;
+  jint arg2 ;
+  jint arg3 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(std::vector< long long > **)&jarg1; 
+  arg2 = jarg2; 
+  arg3 = jarg3; 
+  try {
+    std_vector_Sl_long_SS_long_Sg__doRemoveRange(arg1,SWIG_STD_MOVE(arg2),SWIG_STD_MOVE(arg3));
+  } catch(std::out_of_range &_e) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaIndexOutOfBoundsException, (&_e)->what());
+    return ;
+  }
+}
+
+
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_LongLongVector_1data(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jlong jresult = 0 ;
-  HighsUserScaleData *result = 0 ;
+  std::vector< long long > *arg1 = (std::vector< long long > *) 0 ;
+  long long *result = 0 ;
   
   (void)jenv;
   (void)jcls;
-  result = (HighsUserScaleData *)new HighsUserScaleData();
-  *(HighsUserScaleData **)&jresult = result; 
+  (void)jarg1_;
+  arg1 = *(std::vector< long long > **)&jarg1; 
+  result = (long long *)std_vector_Sl_long_SS_long_Sg__data(arg1);
+  *(long long **)&jresult = result; 
   return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_highs_highsJNI_delete_1HighsUserScaleData(JNIEnv *jenv, jclass jcls, jlong jarg1) {
-  HighsUserScaleData *arg1 = (HighsUserScaleData *) 0 ;
+SWIGEXPORT void JNICALL Java_highs_highsJNI_delete_1LongLongVector(JNIEnv *jenv, jclass jcls, jlong jarg1) {
+  std::vector< long long > *arg1 = (std::vector< long long > *) 0 ;
   
   (void)jenv;
   (void)jcls;
-  arg1 = *(HighsUserScaleData **)&jarg1; 
+  arg1 = *(std::vector< long long > **)&jarg1; 
   delete arg1;
 }
 
@@ -6499,6 +7284,370 @@ SWIGEXPORT jint JNICALL Java_highs_highsJNI_worseStatus(JNIEnv *jenv, jclass jcl
 }
 
 
+SWIGEXPORT void JNICALL Java_highs_highsJNI_HighsRangingRecord_1value_1_1set(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  HighsRangingRecord *arg1 = (HighsRangingRecord *) 0 ;
+  std::vector< double > *arg2 = (std::vector< double > *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(HighsRangingRecord **)&jarg1; 
+  arg2 = *(std::vector< double > **)&jarg2; 
+  if (arg1) (arg1)->value_ = *arg2;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_HighsRangingRecord_1value_1_1get(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  HighsRangingRecord *arg1 = (HighsRangingRecord *) 0 ;
+  std::vector< double > *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(HighsRangingRecord **)&jarg1; 
+  result = (std::vector< double > *)& ((arg1)->value_);
+  *(std::vector< double > **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_highs_highsJNI_HighsRangingRecord_1objective_1_1set(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  HighsRangingRecord *arg1 = (HighsRangingRecord *) 0 ;
+  std::vector< double > *arg2 = (std::vector< double > *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(HighsRangingRecord **)&jarg1; 
+  arg2 = *(std::vector< double > **)&jarg2; 
+  if (arg1) (arg1)->objective_ = *arg2;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_HighsRangingRecord_1objective_1_1get(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  HighsRangingRecord *arg1 = (HighsRangingRecord *) 0 ;
+  std::vector< double > *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(HighsRangingRecord **)&jarg1; 
+  result = (std::vector< double > *)& ((arg1)->objective_);
+  *(std::vector< double > **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_highs_highsJNI_HighsRangingRecord_1in_1var_1_1set(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  HighsRangingRecord *arg1 = (HighsRangingRecord *) 0 ;
+  std::vector< HighsInt > *arg2 = (std::vector< HighsInt > *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(HighsRangingRecord **)&jarg1; 
+  arg2 = *(std::vector< HighsInt > **)&jarg2; 
+  if (arg1) (arg1)->in_var_ = *arg2;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_HighsRangingRecord_1in_1var_1_1get(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  HighsRangingRecord *arg1 = (HighsRangingRecord *) 0 ;
+  std::vector< HighsInt > *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(HighsRangingRecord **)&jarg1; 
+  result = (std::vector< HighsInt > *)& ((arg1)->in_var_);
+  *(std::vector< HighsInt > **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_highs_highsJNI_HighsRangingRecord_1ou_1var_1_1set(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  HighsRangingRecord *arg1 = (HighsRangingRecord *) 0 ;
+  std::vector< HighsInt > *arg2 = (std::vector< HighsInt > *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(HighsRangingRecord **)&jarg1; 
+  arg2 = *(std::vector< HighsInt > **)&jarg2; 
+  if (arg1) (arg1)->ou_var_ = *arg2;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_HighsRangingRecord_1ou_1var_1_1get(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  HighsRangingRecord *arg1 = (HighsRangingRecord *) 0 ;
+  std::vector< HighsInt > *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(HighsRangingRecord **)&jarg1; 
+  result = (std::vector< HighsInt > *)& ((arg1)->ou_var_);
+  *(std::vector< HighsInt > **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_new_1HighsRangingRecord(JNIEnv *jenv, jclass jcls) {
+  jlong jresult = 0 ;
+  HighsRangingRecord *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (HighsRangingRecord *)new HighsRangingRecord();
+  *(HighsRangingRecord **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_highs_highsJNI_delete_1HighsRangingRecord(JNIEnv *jenv, jclass jcls, jlong jarg1) {
+  HighsRangingRecord *arg1 = (HighsRangingRecord *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = *(HighsRangingRecord **)&jarg1; 
+  delete arg1;
+}
+
+
+
+SWIGEXPORT void JNICALL Java_highs_highsJNI_HighsRanging_1valid_1set(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jboolean jarg2) {
+  HighsRanging *arg1 = (HighsRanging *) 0 ;
+  bool arg2 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(HighsRanging **)&jarg1; 
+  arg2 = jarg2 ? true : false; 
+  if (arg1) (arg1)->valid = arg2;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_highs_highsJNI_HighsRanging_1valid_1get(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jboolean jresult = 0 ;
+  HighsRanging *arg1 = (HighsRanging *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(HighsRanging **)&jarg1; 
+  result = (bool) ((arg1)->valid);
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_highs_highsJNI_HighsRanging_1col_1cost_1up_1set(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  HighsRanging *arg1 = (HighsRanging *) 0 ;
+  HighsRangingRecord *arg2 = (HighsRangingRecord *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(HighsRanging **)&jarg1; 
+  arg2 = *(HighsRangingRecord **)&jarg2; 
+  if (arg1) (arg1)->col_cost_up = *arg2;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_HighsRanging_1col_1cost_1up_1get(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  HighsRanging *arg1 = (HighsRanging *) 0 ;
+  HighsRangingRecord *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(HighsRanging **)&jarg1; 
+  result = (HighsRangingRecord *)& ((arg1)->col_cost_up);
+  *(HighsRangingRecord **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_highs_highsJNI_HighsRanging_1col_1cost_1dn_1set(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  HighsRanging *arg1 = (HighsRanging *) 0 ;
+  HighsRangingRecord *arg2 = (HighsRangingRecord *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(HighsRanging **)&jarg1; 
+  arg2 = *(HighsRangingRecord **)&jarg2; 
+  if (arg1) (arg1)->col_cost_dn = *arg2;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_HighsRanging_1col_1cost_1dn_1get(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  HighsRanging *arg1 = (HighsRanging *) 0 ;
+  HighsRangingRecord *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(HighsRanging **)&jarg1; 
+  result = (HighsRangingRecord *)& ((arg1)->col_cost_dn);
+  *(HighsRangingRecord **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_highs_highsJNI_HighsRanging_1col_1bound_1up_1set(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  HighsRanging *arg1 = (HighsRanging *) 0 ;
+  HighsRangingRecord *arg2 = (HighsRangingRecord *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(HighsRanging **)&jarg1; 
+  arg2 = *(HighsRangingRecord **)&jarg2; 
+  if (arg1) (arg1)->col_bound_up = *arg2;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_HighsRanging_1col_1bound_1up_1get(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  HighsRanging *arg1 = (HighsRanging *) 0 ;
+  HighsRangingRecord *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(HighsRanging **)&jarg1; 
+  result = (HighsRangingRecord *)& ((arg1)->col_bound_up);
+  *(HighsRangingRecord **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_highs_highsJNI_HighsRanging_1col_1bound_1dn_1set(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  HighsRanging *arg1 = (HighsRanging *) 0 ;
+  HighsRangingRecord *arg2 = (HighsRangingRecord *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(HighsRanging **)&jarg1; 
+  arg2 = *(HighsRangingRecord **)&jarg2; 
+  if (arg1) (arg1)->col_bound_dn = *arg2;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_HighsRanging_1col_1bound_1dn_1get(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  HighsRanging *arg1 = (HighsRanging *) 0 ;
+  HighsRangingRecord *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(HighsRanging **)&jarg1; 
+  result = (HighsRangingRecord *)& ((arg1)->col_bound_dn);
+  *(HighsRangingRecord **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_highs_highsJNI_HighsRanging_1row_1bound_1up_1set(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  HighsRanging *arg1 = (HighsRanging *) 0 ;
+  HighsRangingRecord *arg2 = (HighsRangingRecord *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(HighsRanging **)&jarg1; 
+  arg2 = *(HighsRangingRecord **)&jarg2; 
+  if (arg1) (arg1)->row_bound_up = *arg2;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_HighsRanging_1row_1bound_1up_1get(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  HighsRanging *arg1 = (HighsRanging *) 0 ;
+  HighsRangingRecord *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(HighsRanging **)&jarg1; 
+  result = (HighsRangingRecord *)& ((arg1)->row_bound_up);
+  *(HighsRangingRecord **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_highs_highsJNI_HighsRanging_1row_1bound_1dn_1set(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  HighsRanging *arg1 = (HighsRanging *) 0 ;
+  HighsRangingRecord *arg2 = (HighsRangingRecord *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(HighsRanging **)&jarg1; 
+  arg2 = *(HighsRangingRecord **)&jarg2; 
+  if (arg1) (arg1)->row_bound_dn = *arg2;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_HighsRanging_1row_1bound_1dn_1get(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  HighsRanging *arg1 = (HighsRanging *) 0 ;
+  HighsRangingRecord *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(HighsRanging **)&jarg1; 
+  result = (HighsRangingRecord *)& ((arg1)->row_bound_dn);
+  *(HighsRangingRecord **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_highs_highsJNI_new_1HighsRanging(JNIEnv *jenv, jclass jcls) {
+  jlong jresult = 0 ;
+  HighsRanging *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (HighsRanging *)new HighsRanging();
+  *(HighsRanging **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_highs_highsJNI_delete_1HighsRanging(JNIEnv *jenv, jclass jcls, jlong jarg1) {
+  HighsRanging *arg1 = (HighsRanging *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = *(HighsRanging **)&jarg1; 
+  delete arg1;
+}
+
+
+
 SWIGEXPORT jstring JNICALL Java_highs_highsJNI_highsVersion(JNIEnv *jenv, jclass jcls) {
   jstring jresult = 0 ;
   char *result = 0 ;
@@ -9239,7 +10388,7 @@ SWIGEXPORT jint JNICALL Java_highs_highsJNI_Highs_1getPrimalRay_1_1SWIG_11(JNIEn
 }
 
 
-SWIGEXPORT jint JNICALL Java_highs_highsJNI_Highs_1getRanging(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2) {
+SWIGEXPORT jint JNICALL Java_highs_highsJNI_Highs_1getRanging(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
   jint jresult = 0 ;
   Highs *arg1 = (Highs *) 0 ;
   HighsRanging *arg2 = 0 ;
@@ -9248,6 +10397,7 @@ SWIGEXPORT jint JNICALL Java_highs_highsJNI_Highs_1getRanging(JNIEnv *jenv, jcla
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
+  (void)jarg2_;
   arg1 = *(Highs **)&jarg1; 
   arg2 = *(HighsRanging **)&jarg2;
   if (!arg2) {
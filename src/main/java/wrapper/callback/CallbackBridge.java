@@ -0,0 +1,101 @@
+package wrapper.callback;
+
+import highs.Highs;
+import highs.HighsCallbackType;
+import highs.HighsStatus;
+import highs.SWIGTYPE_p_HighsCCallbackType;
+import lombok.NonNull;
+
+import java.lang.foreign.*;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Registers a Java handler as the HiGHS C callback, through an upcall stub of the Foreign Function & Memory API.
+ * The callback types are started when attaching the bridge and stopped when closing it.
+ */
+public final class CallbackBridge implements AutoCloseable {
+
+    private static final FunctionDescriptor CALLBACK_DESCRIPTOR = FunctionDescriptor.ofVoid(ValueLayout.JAVA_INT,
+            ValueLayout.ADDRESS, ValueLayout.ADDRESS, ValueLayout.ADDRESS, ValueLayout.ADDRESS);
+
+    private static final MethodHandle DISPATCH;
+
+    static {
+        try {
+            DISPATCH = MethodHandles.lookup().findVirtual(CallbackBridge.class, "dispatch", MethodType.methodType(void.class,
+                    int.class, MemorySegment.class, MemorySegment.class, MemorySegment.class, MemorySegment.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Highs highs;
+    private final Consumer<CallbackContext> handler;
+    private final HighsCallbackType[] callbackTypes;
+    private final Arena arena = Arena.ofShared();
+    private final CallbackContext context;
+    private volatile Throwable failure;
+
+    private CallbackBridge(final Highs highs, final Consumer<CallbackContext> handler, final HighsCallbackType[] callbackTypes) {
+        this.highs = highs;
+        this.handler = handler;
+        this.callbackTypes = callbackTypes;
+        this.context = new CallbackContext((int) highs.getNumCol(), this.arena);
+    }
+
+    /**
+     * Replaces the callback of the HiGHS instance by the handler and starts the given callback types.
+     */
+    public static CallbackBridge attach(@NonNull final Highs highs, @NonNull final Consumer<CallbackContext> handler,
+                                        @NonNull final HighsCallbackType... callbackTypes) {
+        final CallbackBridge bridge = new CallbackBridge(highs, handler, callbackTypes.clone());
+        final MemorySegment stub = Linker.nativeLinker().upcallStub(DISPATCH.bindTo(bridge), CALLBACK_DESCRIPTOR, bridge.arena);
+        // SWIG passes HighsCCallbackType by pointer
+        final MemorySegment callback = bridge.arena.allocate(ValueLayout.ADDRESS);
+        callback.set(ValueLayout.ADDRESS, 0, stub);
+        if (highs.setCallback(new SWIGTYPE_p_HighsCCallbackType(callback.address(), false)) == HighsStatus.kError) {
+            bridge.arena.close();
+            throw new IllegalStateException("HiGHS rejected the callback");
+        }
+        for (final HighsCallbackType callbackType : bridge.callbackTypes) {
+            highs.startCallback(callbackType);
+        }
+        return bridge;
+    }
+
+    /**
+     * Returns the first exception thrown by the handler. Such an exception cannot cross the native solve, so it is
+     * recorded and the solve is interrupted instead.
+     */
+    public Optional<Throwable> getFailure() {
+        return Optional.ofNullable(this.failure);
+    }
+
+    @Override
+    public void close() {
+        for (final HighsCallbackType callbackType : this.callbackTypes) {
+            this.highs.stopCallback(callbackType);
+        }
+        this.arena.close();
+    }
+
+    private void dispatch(int callbackType, final MemorySegment message, final MemorySegment dataOut,
+                          final MemorySegment dataIn, final MemorySegment userData) {
+        this.context.update(callbackType, dataOut, dataIn);
+        try {
+            if (this.failure == null) {
+                this.handler.accept(this.context);
+            } else {
+                this.context.interrupt();
+            }
+        } catch (Throwable throwable) {
+            this.failure = throwable;
+            this.context.interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,141 @@
+package wrapper.callback;
+
+import highs.HighsCallbackType;
+import highs.HighsStatus;
+
+import java.lang.foreign.*;
+import java.lang.invoke.MethodHandle;
+import java.util.Optional;
+
+/**
+ * Data exchanged with HiGHS during a callback. The same instance is reused for all the callbacks of a
+ * {@link CallbackBridge} and must not be kept outside of the handler. The HiGHS structures are read in place, and
+ * nothing is allocated per callback except for the copies explicitly requested, e.g. by {@link #getMipSolution()}.
+ */
+public final class CallbackContext {
+
+    // Looked up on first use, once the HiGHS library is loaded
+    private static final class NativeFunctions {
+
+        private static final Optional<MethodHandle> SET_CALLBACK_SOLUTION = SymbolLookup.loaderLookup()
+                .find("Highs_setCallbackSolution")
+                .map(symbol -> Linker.nativeLinker().downcallHandle(symbol,
+                        FunctionDescriptor.of(ValueLayout.JAVA_LONG, ValueLayout.ADDRESS, ValueLayout.JAVA_LONG, ValueLayout.ADDRESS)));
+
+    }
+
+    private final int nmbVariables;
+    // Buffer of the user solutions, allocated once for all the callbacks
+    private final MemorySegment userSolution;
+    private int callbackType;
+    private MemorySegment dataOut = MemorySegment.NULL;
+    private MemorySegment dataIn = MemorySegment.NULL;
+
+    CallbackContext(int nmbVariables, final Arena arena) {
+        this.nmbVariables = nmbVariables;
+        this.userSolution = arena.allocate(ValueLayout.JAVA_DOUBLE, Math.max(nmbVariables, 1));
+    }
+
+    // HiGHS passes the same structures to most callbacks of a solve, their views are only recreated when they move
+    void update(int callbackType, final MemorySegment dataOut, final MemorySegment dataIn) {
+        this.callbackType = callbackType;
+        if (dataOut.address() != this.dataOut.address()) {
+            this.dataOut = dataOut.equals(MemorySegment.NULL) ? MemorySegment.NULL : dataOut.reinterpret(CallbackDataLayout.DATA_OUT_SIZE);
+        }
+        if (dataIn.address() != this.dataIn.address()) {
+            this.dataIn = dataIn.equals(MemorySegment.NULL) ? MemorySegment.NULL : dataIn.reinterpret(CallbackDataLayout.DATA_IN_SIZE);
+        }
+    }
+
+    /**
+     * Compares by value, as some HiGHS callback types share the same value (kCallbackMin and kCallbackLogging).
+     */
+    public boolean is(final HighsCallbackType type) {
+        return this.callbackType == type.swigValue();
+    }
+
+    public double getRunningTime() {
+        return this.dataOut.get(ValueLayout.JAVA_DOUBLE, CallbackDataLayout.RUNNING_TIME_OFFSET);
+    }
+
+    public long getSimplexIterationCount() {
+        return this.dataOut.get(ValueLayout.JAVA_LONG, CallbackDataLayout.SIMPLEX_ITERATION_COUNT_OFFSET);
+    }
+
+    public long getIpmIterationCount() {
+        return this.dataOut.get(ValueLayout.JAVA_LONG, CallbackDataLayout.IPM_ITERATION_COUNT_OFFSET);
+    }
+
+    public double getObjectiveFunctionValue() {
+        return this.dataOut.get(ValueLayout.JAVA_DOUBLE, CallbackDataLayout.OBJECTIVE_FUNCTION_VALUE_OFFSET);
+    }
+
+    public long getMipNodeCount() {
+        return this.dataOut.get(ValueLayout.JAVA_LONG, CallbackDataLayout.MIP_NODE_COUNT_OFFSET);
+    }
+
+    public double getMipPrimalBound() {
+        return this.dataOut.get(ValueLayout.JAVA_DOUBLE, CallbackDataLayout.MIP_PRIMAL_BOUND_OFFSET);
+    }
+
+    public double getMipDualBound() {
+        return this.dataOut.get(ValueLayout.JAVA_DOUBLE, CallbackDataLayout.MIP_DUAL_BOUND_OFFSET);
+    }
+
+    public double getMipGap() {
+        return this.dataOut.get(ValueLayout.JAVA_DOUBLE, CallbackDataLayout.MIP_GAP_OFFSET);
+    }
+
+    /**
+     * Copies the MIP solution of the kCallbackMipSolution and kCallbackMipImprovingSolution callbacks.
+     * Returns an empty optional if the callback does not provide a solution.
+     */
+    public Optional<double[]> getMipSolution() {
+        final MemorySegment mipSolution = this.dataOut.get(ValueLayout.ADDRESS, CallbackDataLayout.MIP_SOLUTION_OFFSET);
+        if (mipSolution.equals(MemorySegment.NULL)) {
+            return Optional.empty();
+        }
+        return Optional.of(mipSolution.reinterpret((long) this.nmbVariables * Double.BYTES).toArray(ValueLayout.JAVA_DOUBLE));
+    }
+
+    /**
+     * Proposes a full solution to the MIP solver during a kCallbackMipUserSolution callback.
+     * Returns false if HiGHS rejects it, or if the HiGHS library does not support user solutions.
+     */
+    public boolean setUserSolution(final double[] variableValues) {
+        if (this.dataIn.equals(MemorySegment.NULL) || variableValues.length != this.nmbVariables
+                || NativeFunctions.SET_CALLBACK_SOLUTION.isEmpty()) {
+            return false;
+        }
+        MemorySegment.copy(variableValues, 0, this.userSolution, ValueLayout.JAVA_DOUBLE, 0, this.nmbVariables);
+        try {
+            final long status = (long) NativeFunctions.SET_CALLBACK_SOLUTION.get()
+                    .invokeExact(this.dataIn, (long) this.nmbVariables, this.userSolution);
+            return status != HighsStatus.kError.swigValue();
+        } catch (Throwable throwable) {
+            return false;
+        }
+    }
+
+    public int getNmbVariables() {
+        return this.nmbVariables;
+    }
+
+    /**
+     * Tells whether the loaded HiGHS library exports Highs_setCallbackSolution, without which
+     * {@link #setUserSolution(double[])} always returns false.
+     */
+    public static boolean isUserSolutionSupported() {
+        return NativeFunctions.SET_CALLBACK_SOLUTION.isPresent();
+    }
+
+    /**
+     * Asks HiGHS to stop the solve. Only taken into account by the interrupt callbacks.
+     */
+    public void interrupt() {
+        if (!this.dataIn.equals(MemorySegment.NULL)) {
+            this.dataIn.set(ValueLayout.JAVA_INT, CallbackDataLayout.USER_INTERRUPT_OFFSET, 1);
+        }
+    }
+
+}
@@ -0,0 +1,28 @@
+package wrapper.callback;
+
+/**
+ * Offsets of the fields of the HiGHS structures HighsCallbackDataOut and HighsCallbackDataIn, as laid out by HiGHS
+ * v1.12.0 compiled with HIGHSINT64=on (HighsInt is 8 bytes).
+ */
+final class CallbackDataLayout {
+
+    static final long DATA_OUT_SIZE = 168;
+    static final long RUNNING_TIME_OFFSET = 8;
+    static final long SIMPLEX_ITERATION_COUNT_OFFSET = 16;
+    static final long IPM_ITERATION_COUNT_OFFSET = 24;
+    static final long PDLP_ITERATION_COUNT_OFFSET = 32;
+    static final long OBJECTIVE_FUNCTION_VALUE_OFFSET = 40;
+    static final long MIP_NODE_COUNT_OFFSET = 48;
+    static final long MIP_TOTAL_LP_ITERATIONS_OFFSET = 56;
+    static final long MIP_PRIMAL_BOUND_OFFSET = 64;
+    static final long MIP_DUAL_BOUND_OFFSET = 72;
+    static final long MIP_GAP_OFFSET = 80;
+    static final long MIP_SOLUTION_OFFSET = 88;
+
+    static final long DATA_IN_SIZE = 4;
+    static final long USER_INTERRUPT_OFFSET = 0;
+
+    private CallbackDataLayout() {
+    }
+
+}
@@ -0,0 +1,9 @@
+package wrapper.callback;
+
+public class CallbackException extends RuntimeException {
+
+    public CallbackException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
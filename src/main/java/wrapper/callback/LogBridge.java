@@ -0,0 +1,90 @@
+package wrapper.callback;
+
+import highs.Highs;
+import highs.HighsLogType;
+import highs.HighsStatus;
+import highs.SWIGTYPE_p_f_enum_HighsLogType_p_q_const__char_p_void__void;
+import lombok.NonNull;
+
+import java.lang.foreign.*;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+/**
+ * Registers a Java handler as the HiGHS log callback, through an upcall stub of the Foreign Function & Memory API.
+ * HiGHS only logs when the output_flag option is enabled. The stub is freed once the bridge is unreachable, so the
+ * owner of the bridge must keep it as long as the HiGHS instance may log, or close it before.
+ */
+public final class LogBridge implements AutoCloseable {
+
+    private static final FunctionDescriptor LOG_CALLBACK_DESCRIPTOR = FunctionDescriptor.ofVoid(ValueLayout.JAVA_INT,
+            ValueLayout.ADDRESS, ValueLayout.ADDRESS);
+
+    private static final MethodHandle DISPATCH;
+
+    static {
+        try {
+            DISPATCH = MethodHandles.lookup().findVirtual(LogBridge.class, "dispatch", MethodType.methodType(void.class,
+                    int.class, MemorySegment.class, MemorySegment.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Highs highs;
+    private final BiConsumer<HighsLogType, String> handler;
+    private final Arena arena = Arena.ofAuto();
+    private volatile Throwable failure;
+
+    private LogBridge(final Highs highs, final BiConsumer<HighsLogType, String> handler) {
+        this.highs = highs;
+        this.handler = handler;
+    }
+
+    /**
+     * Replaces the log callback of the HiGHS instance by the handler, which receives the type and the text of each
+     * log message.
+     */
+    public static LogBridge attach(@NonNull final Highs highs, @NonNull final BiConsumer<HighsLogType, String> handler) {
+        final LogBridge bridge = new LogBridge(highs, handler);
+        final MemorySegment stub = Linker.nativeLinker().upcallStub(DISPATCH.bindTo(bridge), LOG_CALLBACK_DESCRIPTOR, bridge.arena);
+        // SWIG passes function pointers by value
+        if (highs.setLogCallback(new SWIGTYPE_p_f_enum_HighsLogType_p_q_const__char_p_void__void(stub.address(), false)) == HighsStatus.kError) {
+            throw new IllegalStateException("HiGHS rejected the log callback");
+        }
+        return bridge;
+    }
+
+    /**
+     * Returns and clears the first exception thrown by the handler. Such an exception cannot cross the native solve, so
+     * it is recorded and the next messages are ignored until it is taken.
+     */
+    public Optional<Throwable> takeFailure() {
+        final Optional<Throwable> failure = Optional.ofNullable(this.failure);
+        this.failure = null;
+        return failure;
+    }
+
+    /**
+     * Detaches the handler from the HiGHS instance.
+     */
+    @Override
+    public void close() {
+        this.highs.setLogCallback(null);
+    }
+
+    private void dispatch(int logType, final MemorySegment message, final MemorySegment userData) {
+        if (this.failure != null) {
+            return;
+        }
+        try {
+            this.handler.accept(HighsLogType.swigToEnum(logType), message.reinterpret(Long.MAX_VALUE).getString(0));
+        } catch (Throwable throwable) {
+            this.failure = throwable;
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+package wrapper.callback;
+
+import highs.HighsCallbackType;
+import lombok.NonNull;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Hands the solutions found by other threads, e.g. domain-specific heuristics, to the MIP solver. The solutions are
+ * buffered until HiGHS asks for a user solution, and one of them is proposed at each kCallbackMipUserSolution callback.
+ * When the buffer is full, the oldest solution is dropped. HiGHS discards the solutions which do not improve its
+ * incumbent.
+ */
+public final class SolutionInjector implements Consumer<CallbackContext> {
+
+    public static final HighsCallbackType CALLBACK_TYPE = HighsCallbackType.kCallbackMipUserSolution;
+
+    private final BlockingQueue<double[]> pendingSolutions;
+    private final AtomicLong nmbAcceptedSolutions = new AtomicLong();
+
+    public SolutionInjector(int capacity) {
+        this.pendingSolutions = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Copies the variable values and buffers them until the next user solution callback. Can be called from any thread.
+     */
+    public void offer(@NonNull final double[] variableValues) {
+        final double[] copy = variableValues.clone();
+        while (!this.pendingSolutions.offer(copy)) {
+            this.pendingSolutions.poll();
+        }
+    }
+
+    @Override
+    public void accept(final CallbackContext context) {
+        if (!context.is(CALLBACK_TYPE)) {
+            return;
+        }
+        final double[] variableValues = this.pendingSolutions.poll();
+        if (variableValues != null && context.setUserSolution(variableValues)) {
+            this.nmbAcceptedSolutions.incrementAndGet();
+        }
+    }
+
+    public int getNmbPendingSolutions() {
+        return this.pendingSolutions.size();
+    }
+
+    /**
+     * Number of solutions passed to HiGHS without error, including the ones it discarded for not improving its incumbent.
+     */
+    public long getNmbAcceptedSolutions() {
+        return this.nmbAcceptedSolutions.get();
+    }
+
+}
@@ -0,0 +1,71 @@
+package wrapper.callback;
+
+import highs.HighsCallbackType;
+import lombok.NonNull;
+import wrapper.solution.Solution;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Publishes the MIP solutions found during a solve, when used as the callback handler of a model for
+ * {@link #CALLBACK_TYPES}. Each solution is copied in bulk and delivered to the subscribers on the given executor, with
+ * a bounded buffer per subscriber. The solver is never blocked: a solution is dropped for the subscribers whose buffer
+ * is full, so slow subscribers only see some of the solutions. Closing the publisher completes the subscriptions.
+ */
+public final class SolutionPublisher implements Consumer<CallbackContext>, Flow.Publisher<Solution>, AutoCloseable {
+
+    public static final HighsCallbackType[] CALLBACK_TYPES = {
+            HighsCallbackType.kCallbackMipSolution,
+            HighsCallbackType.kCallbackMipImprovingSolution
+    };
+
+    private final SubmissionPublisher<Solution> publisher;
+    private final boolean improvingOnly;
+    private final AtomicLong nmbDroppedSolutions = new AtomicLong();
+
+    /**
+     * Publishes only the improving solutions if improvingOnly is true, and all the solutions found otherwise.
+     */
+    public SolutionPublisher(@NonNull final Executor executor, int bufferCapacity, boolean improvingOnly) {
+        this.publisher = new SubmissionPublisher<>(executor, bufferCapacity);
+        this.improvingOnly = improvingOnly;
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super Solution> subscriber) {
+        this.publisher.subscribe(subscriber);
+    }
+
+    @Override
+    public void accept(final CallbackContext context) {
+        final HighsCallbackType callbackType = this.improvingOnly
+                ? HighsCallbackType.kCallbackMipImprovingSolution
+                : HighsCallbackType.kCallbackMipSolution;
+        if (!context.is(callbackType)) {
+            return;
+        }
+        context.getMipSolution().ifPresent(variableValues -> this.publisher.offer(
+                Solution.ofIncumbent(variableValues, context.getObjectiveFunctionValue()),
+                (_, _) -> {
+                    this.nmbDroppedSolutions.incrementAndGet();
+                    return false;
+                }));
+    }
+
+    /**
+     * Number of times a solution was dropped for a subscriber whose buffer was full.
+     */
+    public long getNmbDroppedSolutions() {
+        return this.nmbDroppedSolutions.get();
+    }
+
+    @Override
+    public void close() {
+        this.publisher.close();
+    }
+
+}
@@ -0,0 +1,46 @@
+package wrapper.model;
+
+import highs.Highs;
+import highs.HighsStatus;
+import highs.LongLongArray;
+
+/**
+ * Basis and factorization frozen by {@link Model#freezeBasis()}. Closing the checkpoint makes them the current basis
+ * again, so that the next solve restarts from them whatever was solved in between. Modifications of the model are not
+ * rolled back, only bound and cost changes keep the frozen basis usable.
+ */
+public final class BasisCheckpoint implements AutoCloseable {
+
+    private final Highs highs;
+    private final long frozenBasisId;
+    private boolean closed = false;
+
+    private BasisCheckpoint(final Highs highs, long frozenBasisId) {
+        this.highs = highs;
+        this.frozenBasisId = frozenBasisId;
+    }
+
+    static BasisCheckpoint freeze(final Highs highs) {
+        final LongLongArray frozenBasisId = new LongLongArray(1);
+        if (highs.freezeBasis(frozenBasisId.cast()) == HighsStatus.kError) {
+            throw new IllegalStateException("No factorized basis to freeze, the model must be solved with the simplex first");
+        }
+        return new BasisCheckpoint(highs, frozenBasisId.getitem(0));
+    }
+
+    /**
+     * Restores the frozen basis. Checkpoints must be closed in the reverse order of their creation, as restoring a
+     * basis also discards the ones frozen after it.
+     */
+    @Override
+    public void close() {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        if (this.highs.unfreezeBasis(this.frozenBasisId) == HighsStatus.kError) {
+            throw new IllegalStateException("The frozen basis cannot be restored, variables or constraints may have been added");
+        }
+    }
+
+}
@@ -0,0 +1,35 @@
+package wrapper.model;
+
+import lombok.Getter;
+import lombok.NonNull;
+import wrapper.solution.Solution;
+
+import java.util.List;
+
+/**
+ * Best solution found by a {@link BendersSolver}: the master solution and the subproblem solutions for its values,
+ * with the bounds on the optimal objective value when the decomposition stopped.
+ */
+@Getter
+public final class BendersSolution {
+
+    private final Solution masterSolution;
+    private final List<Solution> subproblemSolutions;
+    private final double lowerBound;
+    private final double upperBound;
+    private final int nmbIterations;
+
+    BendersSolution(@NonNull final Solution masterSolution, @NonNull final List<Solution> subproblemSolutions,
+                    double lowerBound, double upperBound, int nmbIterations) {
+        this.masterSolution = masterSolution;
+        this.subproblemSolutions = List.copyOf(subproblemSolutions);
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.nmbIterations = nmbIterations;
+    }
+
+    public double getObjectiveValue() {
+        return this.upperBound;
+    }
+
+}
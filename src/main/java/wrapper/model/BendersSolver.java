@@ -0,0 +1,181 @@
+package wrapper.model;
+
+import lombok.NonNull;
+import wrapper.model.expression.LinearExpression;
+import wrapper.model.expression.LinearExpressionException;
+import wrapper.model.option.CommonIntegerOptions;
+import wrapper.model.option.CommonStringOptions;
+import wrapper.model.variable.Variable;
+import wrapper.solution.Solution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Multi-cut Benders decomposition of a minimization problem. The master model holds the first-stage variables and
+ * one variable eta per subproblem, bounding its objective value from below. Each iteration solves the master, solves
+ * the LP subproblems concurrently for the master values, and adds in one batch an optimality cut per subproblem whose
+ * eta is too small and a feasibility cut per infeasible subproblem. The master and the subproblems keep their HiGHS
+ * instances between iterations, so that their solves start from the previous basis.
+ * Presolve is switched off in the subproblems, as HiGHS returns no dual ray for the infeasibilities found by presolve.
+ * The solver runs on its own threads for the reason given in {@link wrapper.parallel.ScenarioSolver}.
+ */
+public final class BendersSolver implements AutoCloseable {
+
+    private final Model master;
+    private final List<BendersSubproblem> subproblems;
+    private final List<Variable> etas = new ArrayList<>();
+    private final CutManager cutManager;
+    private final ExecutorService executor;
+
+    /**
+     * The eta lower bound must be a valid lower bound of the objective value of every subproblem, so that the first
+     * master solves are bounded.
+     */
+    public BendersSolver(@NonNull final Model master, @NonNull final List<BendersSubproblem> subproblems, double etaLowerBound,
+                         int parallelism) {
+        if (subproblems.isEmpty()) {
+            throw new IllegalArgumentException("A Benders solver needs at least one subproblem");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism of a Benders solver must be at least one");
+        }
+        this.master = master;
+        this.subproblems = List.copyOf(subproblems);
+        final int threadsPerSolve = Math.max(1, Runtime.getRuntime().availableProcessors() / parallelism);
+        for (final BendersSubproblem subproblem : this.subproblems) {
+            subproblem.prepare();
+            Model.setSupportedOption(subproblem.getModel().getHighs(), CommonStringOptions.PRESOLVE.getOption("off"));
+            Model.setSupportedOption(subproblem.getModel().getHighs(), CommonIntegerOptions.THREADS.getOption(threadsPerSolve));
+            this.etas.add(master.addContinuousVariable(etaLowerBound, Double.MAX_VALUE, 1.0));
+        }
+        // With an infinite slack tolerance, the cuts never get older and are never evicted
+        this.cutManager = new CutManager(master, Integer.MAX_VALUE, Double.MAX_VALUE);
+        this.executor = Executors.newFixedThreadPool(Math.min(parallelism, this.subproblems.size()));
+    }
+
+    /**
+     * Iterates until the gap between the bounds is at most tolerance * max(1, |upper bound|), until no cut is violated,
+     * or until the maximum number of iterations. Returns empty if the master or a subproblem could not be solved, or
+     * if no master solution had feasible subproblems.
+     */
+    public Optional<BendersSolution> minimize(double tolerance, int maxIterations) throws InterruptedException {
+        BendersSolution bestSolution = null;
+        double lowerBound = Double.NEGATIVE_INFINITY;
+        for (int iteration = 1; iteration <= maxIterations; ++iteration) {
+            final Optional<Solution> masterSolution = this.cutManager.minimize();
+            if (masterSolution.isEmpty() || !masterSolution.get().isOptimal()) {
+                return Optional.empty();
+            }
+            lowerBound = masterSolution.get().getObjectiveValue();
+            final double[] masterValues = masterSolution.get().getVariableValues();
+            final List<BendersSubproblem.Evaluation> evaluations = evaluateAll(masterValues);
+            if (evaluations == null) {
+                return Optional.empty();
+            }
+            boolean feasible = true;
+            double upperBound = lowerBound;
+            final List<Solution> subproblemSolutions = new ArrayList<>(evaluations.size());
+            for (int k = 0; k < evaluations.size(); ++k) {
+                final BendersSubproblem.Evaluation evaluation = evaluations.get(k);
+                if (evaluation.solution().isEmpty()) {
+                    feasible = false;
+                } else {
+                    upperBound += evaluation.solution().get().getObjectiveValue() - masterValues[(int) this.etas.get(k).index()];
+                    subproblemSolutions.add(evaluation.solution().get());
+                }
+            }
+            if (feasible && (bestSolution == null || upperBound < bestSolution.getUpperBound())) {
+                bestSolution = new BendersSolution(masterSolution.get(), subproblemSolutions, lowerBound, upperBound, iteration);
+            }
+            final double bestUpperBound = bestSolution == null ? Double.POSITIVE_INFINITY : bestSolution.getUpperBound();
+            if (bestUpperBound - lowerBound <= tolerance * Math.max(1.0, Math.abs(bestUpperBound))) {
+                break;
+            }
+            if (!addCuts(evaluations, masterValues, tolerance)) {
+                break;
+            }
+        }
+        if (bestSolution == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new BendersSolution(bestSolution.getMasterSolution(), bestSolution.getSubproblemSolutions(),
+                lowerBound, bestSolution.getUpperBound(), bestSolution.getNmbIterations()));
+    }
+
+    public int getNmbCuts() {
+        return this.cutManager.getNmbActiveCuts() + this.cutManager.getNmbPendingCuts();
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdownNow();
+    }
+
+    // Null if a subproblem could not be solved
+    private List<BendersSubproblem.Evaluation> evaluateAll(final double[] masterValues) throws InterruptedException {
+        final List<Future<Optional<BendersSubproblem.Evaluation>>> futures = new ArrayList<>(this.subproblems.size());
+        for (final BendersSubproblem subproblem : this.subproblems) {
+            futures.add(this.executor.submit(() -> subproblem.evaluate(masterValues)));
+        }
+        final List<BendersSubproblem.Evaluation> evaluations = new ArrayList<>(futures.size());
+        try {
+            for (final Future<Optional<BendersSubproblem.Evaluation>> future : futures) {
+                final Optional<BendersSubproblem.Evaluation> evaluation = future.get();
+                if (evaluation.isEmpty()) {
+                    return null;
+                }
+                evaluations.add(evaluation.get());
+            }
+        } catch (ExecutionException e) {
+            switch (e.getCause()) {
+                case RuntimeException runtimeException -> throw runtimeException;
+                case Error error -> throw error;
+                default -> throw new IllegalStateException(e.getCause());
+            }
+        } finally {
+            futures.forEach(future -> future.cancel(false));
+        }
+        return evaluations;
+    }
+
+    // Queues the cuts violated by the master values, returns false if none is
+    private boolean addCuts(final List<BendersSubproblem.Evaluation> evaluations, final double[] masterValues, double tolerance) {
+        boolean added = false;
+        for (int k = 0; k < evaluations.size(); ++k) {
+            final BendersSubproblem.Cut cut = evaluations.get(k).cut();
+            final Variable eta = this.etas.get(k);
+            double value = cut.etaCoefficient() * masterValues[(int) eta.index()];
+            for (int i = 0; i < cut.indices().length; ++i) {
+                value += cut.coefficients()[i] * masterValues[cut.indices()[i]];
+            }
+            if (value >= cut.rhs() - tolerance * Math.max(1.0, Math.abs(cut.rhs()))) {
+                continue;
+            }
+            added |= this.cutManager.addGreaterThanOrEqualToCut(cut.rhs(), toLinearExpression(cut, eta));
+        }
+        return added;
+    }
+
+    private static LinearExpression toLinearExpression(final BendersSubproblem.Cut cut, final Variable eta) {
+        final LinearExpression linearExpression = new LinearExpression();
+        try {
+            for (int i = 0; i < cut.indices().length; ++i) {
+                linearExpression.addCoefficient(new Variable(cut.indices()[i]), cut.coefficients()[i]);
+            }
+            if (cut.etaCoefficient() != 0.0) {
+                linearExpression.addCoefficient(eta, cut.etaCoefficient());
+            }
+        } catch (LinearExpressionException e) {
+            // The cut indices are distinct and do not include the etas
+            throw new IllegalStateException(e);
+        }
+        return linearExpression;
+    }
+
+}
@@ -0,0 +1,232 @@
+package wrapper.model;
+
+import highs.Highs;
+import highs.HighsModelStatus;
+import highs.HighsSolution;
+import lombok.NonNull;
+import wrapper.model.constraint.Constraint;
+import wrapper.model.constraint.ConstraintException;
+import wrapper.model.variable.Variable;
+import wrapper.solution.Solution;
+import wrapper.util.NativeArrays;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * LP subproblem of a {@link BendersSolver}, over the second-stage variables. A constraint linked to master variables
+ * reads LHS <= LinearExpression + sum(coefficient * masterVariable) <= RHS, where the constraint was added to the
+ * subproblem model as LHS <= LinearExpression <= RHS and the master terms through {@link #addLinkingCoefficient}.
+ */
+public final class BendersSubproblem {
+
+    // Duals and rays below this magnitude are considered zero
+    private static final double ZERO_TOLERANCE = 1E-9;
+    // HiGHS treats the bounds beyond this magnitude as infinite
+    private static final double INFINITE_BOUND = 1E20;
+
+    /**
+     * Cut on the master variables: sum(coefficients[k] * x[indices[k]]) + etaCoefficient * eta >= rhs.
+     */
+    record Cut(int[] indices, double[] coefficients, double etaCoefficient, double rhs) {
+    }
+
+    /**
+     * Outcome of a subproblem solve for fixed master values: either an optimality cut with the subproblem solution, or
+     * a feasibility cut.
+     */
+    record Evaluation(Optional<Solution> solution, Cut cut) {
+    }
+
+    // coefficient * x[masterIndex] in a row of the subproblem
+    private record LinkingTerm(int masterIndex, double coefficient) {
+    }
+
+    private final Model model;
+    private final Map<Integer, List<LinkingTerm>> linkingTermsByRow = new HashMap<>();
+    private LpData lpData = null;
+
+    public BendersSubproblem(@NonNull final Model model) {
+        this.model = model;
+    }
+
+    /**
+     * Adds coefficient * masterVariable to the given constraint of the subproblem.
+     */
+    public void addLinkingCoefficient(@NonNull final Constraint constraint, @NonNull final Variable masterVariable, double coefficient)
+            throws ConstraintException {
+        if (constraint.index() >= this.model.getHighs().getNumRow()) {
+            throw new ConstraintException(String.format("Constraint with index %d does not exist in the subproblem", constraint.index()));
+        }
+        this.linkingTermsByRow.computeIfAbsent((int) constraint.index(), _ -> new ArrayList<>())
+                .add(new LinkingTerm((int) masterVariable.index(), coefficient));
+    }
+
+    Model getModel() {
+        return this.model;
+    }
+
+    // Reads the original sides of the constraints once, before the solver starts moving them
+    void prepare() {
+        if (this.lpData == null) {
+            this.lpData = LpData.of(this.model.getHighs());
+        }
+    }
+
+    Optional<Evaluation> evaluate(final double[] masterValues) {
+        final Highs highs = this.model.getHighs();
+        final int nmbRows = this.lpData.nmbRows;
+        try (Arena arena = Arena.ofConfined()) {
+            final MemorySegment lowerBounds = arena.allocate(ValueLayout.JAVA_DOUBLE, Math.max(nmbRows, 1));
+            final MemorySegment upperBounds = arena.allocate(ValueLayout.JAVA_DOUBLE, Math.max(nmbRows, 1));
+            for (int i = 0; i < nmbRows; ++i) {
+                final double shift = getLinkingValue(i, masterValues);
+                lowerBounds.setAtIndex(ValueLayout.JAVA_DOUBLE, i, this.lpData.rowLowerBounds[i] - shift);
+                upperBounds.setAtIndex(ValueLayout.JAVA_DOUBLE, i, this.lpData.rowUpperBounds[i] - shift);
+            }
+            if (nmbRows > 0) {
+                highs.changeRowsBounds(0, nmbRows - 1, NativeArrays.asDoublePointer(lowerBounds), NativeArrays.asDoublePointer(upperBounds));
+            }
+        }
+        final Optional<Solution> solution = this.model.minimize();
+        if (solution.isEmpty()) {
+            return Optional.empty();
+        }
+        if (solution.get().isOptimal()) {
+            final HighsSolution highsSolution = highs.getSolution();
+            return Optional.of(new Evaluation(solution, getOptimalityCut(NativeArrays.toArray(highsSolution.getRow_dual()),
+                    NativeArrays.toArray(highsSolution.getCol_dual()))));
+        }
+        final HighsModelStatus modelStatus = highs.getModelStatus();
+        if (modelStatus != HighsModelStatus.kInfeasible) {
+            return Optional.empty();
+        }
+        return getDualRay(highs).flatMap(dualRay -> getFeasibilityCut(dualRay, masterValues))
+                .map(cut -> new Evaluation(Optional.empty(), cut));
+    }
+
+    private double getLinkingValue(int row, final double[] masterValues) {
+        double value = 0.0;
+        for (final LinkingTerm term : this.linkingTermsByRow.getOrDefault(row, List.of())) {
+            value += term.coefficient() * masterValues[term.masterIndex()];
+        }
+        return value;
+    }
+
+    // eta >= sum(rowDual * side(x)) + sum(columnDual * bound), with side(x) = side - T x and the side or bound picked by
+    // the sign of the dual
+    private Cut getOptimalityCut(final double[] rowDuals, final double[] columnDuals) {
+        double rhs = 0.0;
+        final Map<Integer, Double> coefficients = new HashMap<>();
+        for (int i = 0; i < this.lpData.nmbRows; ++i) {
+            final double rowDual = rowDuals[i];
+            if (Math.abs(rowDual) <= ZERO_TOLERANCE) {
+                continue;
+            }
+            final double side = rowDual > 0.0 ? this.lpData.rowLowerBounds[i] : this.lpData.rowUpperBounds[i];
+            if (Math.abs(side) < INFINITE_BOUND) {
+                rhs += rowDual * side;
+            }
+            addLinkingTerms(i, rowDual, coefficients);
+        }
+        for (int j = 0; j < this.lpData.nmbColumns; ++j) {
+            final double columnDual = columnDuals[j];
+            if (Math.abs(columnDual) <= ZERO_TOLERANCE) {
+                continue;
+            }
+            final double bound = columnDual > 0.0 ? this.lpData.columnLowerBounds[j] : this.lpData.columnUpperBounds[j];
+            if (Math.abs(bound) < INFINITE_BOUND) {
+                rhs += columnDual * bound;
+            }
+        }
+        return toCut(coefficients, 1.0, rhs);
+    }
+
+    // Farkas certificate: for any feasible second-stage solution, sum(ray * side(x)) <= sum over the columns of the
+    // largest value of (ray^T A)_j * y_j, hence the cut sum((ray^T T)_j * x_j) >= sum(ray * side) - that maximum. The
+    // sign of the ray returned by HiGHS is chosen so that the current master values violate the cut.
+    private Optional<Cut> getFeasibilityCut(final double[] dualRay, final double[] masterValues) {
+        for (final double sign : new double[]{1.0, -1.0}) {
+            final Optional<Cut> cut = getFeasibilityCut(dualRay, sign);
+            if (cut.isPresent() && isViolated(cut.get(), masterValues)) {
+                return cut;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<Cut> getFeasibilityCut(final double[] dualRay, double sign) {
+        final double[] rayTimesMatrix = new double[this.lpData.nmbColumns];
+        double rhs = 0.0;
+        final Map<Integer, Double> coefficients = new HashMap<>();
+        for (int i = 0; i < this.lpData.nmbRows; ++i) {
+            final double ray = sign * dualRay[i];
+            if (Math.abs(ray) <= ZERO_TOLERANCE) {
+                continue;
+            }
+            final double side = ray > 0.0 ? this.lpData.rowLowerBounds[i] : this.lpData.rowUpperBounds[i];
+            if (Math.abs(side) >= INFINITE_BOUND) {
+                return Optional.empty();
+            }
+            rhs += ray * side;
+            addLinkingTerms(i, ray, coefficients);
+            for (int k = this.lpData.rowStarts[i]; k < this.lpData.rowStarts[i + 1]; ++k) {
+                rayTimesMatrix[this.lpData.rowIndices[k]] += ray * this.lpData.rowValues[k];
+            }
+        }
+        for (int j = 0; j < this.lpData.nmbColumns; ++j) {
+            if (Math.abs(rayTimesMatrix[j]) <= ZERO_TOLERANCE) {
+                continue;
+            }
+            final double bound = rayTimesMatrix[j] > 0.0 ? this.lpData.columnUpperBounds[j] : this.lpData.columnLowerBounds[j];
+            if (Math.abs(bound) >= INFINITE_BOUND) {
+                return Optional.empty();
+            }
+            rhs -= rayTimesMatrix[j] * bound;
+        }
+        return Optional.of(toCut(coefficients, 0.0, rhs));
+    }
+
+    private void addLinkingTerms(int row, double dual, final Map<Integer, Double> coefficients) {
+        for (final LinkingTerm term : this.linkingTermsByRow.getOrDefault(row, List.of())) {
+            coefficients.merge(term.masterIndex(), dual * term.coefficient(), Double::sum);
+        }
+    }
+
+    private static Cut toCut(final Map<Integer, Double> coefficients, double etaCoefficient, double rhs) {
+        final int[] indices = coefficients.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        final double[] values = new double[indices.length];
+        for (int k = 0; k < indices.length; ++k) {
+            values[k] = coefficients.get(indices[k]);
+        }
+        return new Cut(indices, values, etaCoefficient, rhs);
+    }
+
+    private static boolean isViolated(final Cut cut, final double[] masterValues) {
+        double value = 0.0;
+        for (int k = 0; k < cut.indices().length; ++k) {
+            value += cut.coefficients()[k] * masterValues[cut.indices()[k]];
+        }
+        return value < cut.rhs() - ZERO_TOLERANCE;
+    }
+
+    private static Optional<double[]> getDualRay(final Highs highs) {
+        final int nmbRows = (int) highs.getNumRow();
+        try (Arena arena = Arena.ofConfined()) {
+            final MemorySegment hasDualRay = arena.allocate(ValueLayout.JAVA_BOOLEAN);
+            final MemorySegment dualRay = arena.allocate(ValueLayout.JAVA_DOUBLE, Math.max(nmbRows, 1));
+            highs.getDualRay(new highs.SWIGTYPE_p_bool(hasDualRay.address(), false), NativeArrays.asDoublePointer(dualRay));
+            if (!hasDualRay.get(ValueLayout.JAVA_BOOLEAN, 0)) {
+                return Optional.empty();
+            }
+            return Optional.of(dualRay.asSlice(0, (long) nmbRows * Double.BYTES).toArray(ValueLayout.JAVA_DOUBLE));
+        }
+    }
+
+}
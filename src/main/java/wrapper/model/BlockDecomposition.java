@@ -0,0 +1,153 @@
+package wrapper.model;
+
+import highs.Highs;
+import highs.HighsModelStatus;
+import lombok.NonNull;
+import wrapper.model.option.CommonIntegerOptions;
+import wrapper.model.variable.Variable;
+import wrapper.model.variable.VariableException;
+import wrapper.solution.Solution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Splits a model into its independent blocks, the connected components of its variable-constraint graph, and solves
+ * each block in its own HiGHS instance, concurrently. The block solutions are merged into one solution of the model,
+ * whose objective value is the sum of the block objective values.
+ * The blocks are built once, from the model as it is when the decomposition is created: later changes of the model are
+ * not seen by the decomposition, but the blocks keep their basis from one solve to the next.
+ * The decomposition runs on its own threads for the reason given in {@link wrapper.parallel.ScenarioSolver}.
+ */
+public final class BlockDecomposition implements AutoCloseable {
+
+    private static final double FEASIBILITY_TOLERANCE = 1E-7;
+
+    private final LpData lpData;
+    private final BlockStructure blockStructure;
+    private final List<Model> blocks = new ArrayList<>();
+    private final ExecutorService executor;
+
+    public BlockDecomposition(@NonNull final Model model, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism of a block decomposition must be at least one");
+        }
+        final Highs highs = model.getHighs();
+        this.lpData = LpData.of(highs);
+        this.blockStructure = BlockStructure.of(this.lpData, new boolean[this.lpData.nmbRows]);
+        final int[] integrality = LpData.readIntegrality(highs);
+        final int threadsPerSolve = Math.max(1, Runtime.getRuntime().availableProcessors() / parallelism);
+        for (int b = 0; b < this.blockStructure.nmbBlocks; ++b) {
+            final Highs blockHighs = this.blockStructure.toHighs(this.lpData, integrality, b);
+            blockHighs.passOptions(highs.getOptions());
+            Model.setSupportedOption(blockHighs, CommonIntegerOptions.THREADS.getOption(threadsPerSolve));
+            this.blocks.add(new Model(blockHighs));
+        }
+        this.executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, this.blocks.size())));
+    }
+
+    /**
+     * Runs up to one solve per available processor at the same time.
+     */
+    public BlockDecomposition(@NonNull final Model model) {
+        this(model, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Returns empty if a block could not be solved. The merged solution is optimal if every block solution is, and has
+     * the status of the first block solution which is not otherwise.
+     */
+    public Optional<Solution> minimize() throws InterruptedException {
+        return solve(Model::minimize);
+    }
+
+    /**
+     * Returns empty if a block could not be solved. The merged solution is optimal if every block solution is, and has
+     * the status of the first block solution which is not otherwise.
+     */
+    public Optional<Solution> maximize() throws InterruptedException {
+        return solve(Model::maximize);
+    }
+
+    public int getNmbBlocks() {
+        return this.blockStructure.nmbBlocks;
+    }
+
+    /**
+     * Index of the block of the variable, the blocks being numbered in the order of their first variable.
+     */
+    public int getBlock(@NonNull final Variable variable) throws VariableException {
+        if (variable.index() >= this.lpData.nmbColumns) {
+            throw new VariableException(String.format("Variable with index %d does not exist in the decomposition", variable.index()));
+        }
+        return this.blockStructure.blockOfColumn[(int) variable.index()];
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdownNow();
+    }
+
+    private Optional<Solution> solve(final Function<Model, Optional<Solution>> solve) throws InterruptedException {
+        final List<Future<Optional<Solution>>> futures = new ArrayList<>(this.blocks.size());
+        for (final Model block : this.blocks) {
+            futures.add(this.executor.submit(() -> solve.apply(block)));
+        }
+        final double[] variableValues = new double[this.lpData.nmbColumns];
+        final double[] reducedCosts = new double[this.lpData.nmbColumns];
+        final double[] constraintValues = new double[this.lpData.nmbRows];
+        final double[] dualValues = new double[this.lpData.nmbRows];
+        HighsModelStatus modelStatus = hasInfeasibleEmptyRow() ? HighsModelStatus.kInfeasible : HighsModelStatus.kOptimal;
+        double objectiveValue = 0.0;
+        try {
+            for (int b = 0; b < futures.size(); ++b) {
+                final Optional<Solution> solution = futures.get(b).get();
+                if (solution.isEmpty()) {
+                    return Optional.empty();
+                }
+                if (modelStatus == HighsModelStatus.kOptimal && !solution.get().isOptimal()) {
+                    modelStatus = this.blocks.get(b).getHighs().getModelStatus();
+                }
+                objectiveValue += solution.get().getObjectiveValue();
+                scatter(solution.get().getVariableValues(), this.blockStructure.blockColumns[b], variableValues);
+                scatter(solution.get().getReducedCosts(), this.blockStructure.blockColumns[b], reducedCosts);
+                scatter(solution.get().getConstraintValues(), this.blockStructure.blockRows[b], constraintValues);
+                scatter(solution.get().getDualValues(), this.blockStructure.blockRows[b], dualValues);
+            }
+        } catch (ExecutionException e) {
+            switch (e.getCause()) {
+                case RuntimeException runtimeException -> throw runtimeException;
+                case Error error -> throw error;
+                default -> throw new IllegalStateException(e.getCause());
+            }
+        } finally {
+            futures.forEach(future -> future.cancel(false));
+        }
+        return Optional.of(Solution.ofValues(variableValues, reducedCosts, constraintValues, dualValues, modelStatus, objectiveValue));
+    }
+
+    // The rows without coefficients belong to no block, their value is always zero
+    private boolean hasInfeasibleEmptyRow() {
+        for (int i = 0; i < this.lpData.nmbRows; ++i) {
+            if (this.lpData.rowStarts[i] == this.lpData.rowStarts[i + 1]
+                    && (this.lpData.rowLowerBounds[i] > FEASIBILITY_TOLERANCE || this.lpData.rowUpperBounds[i] < -FEASIBILITY_TOLERANCE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // A solution without dual values, e.g. of a MIP, leaves the merged values at zero
+    private static void scatter(final double[] blockValues, final int[] indices, final double[] values) {
+        for (int k = 0; k < Math.min(blockValues.length, indices.length); ++k) {
+            values[indices[k]] = blockValues[k];
+        }
+    }
+
+}
@@ -0,0 +1,159 @@
+package wrapper.model;
+
+import highs.Highs;
+import highs.MatrixFormat;
+import highs.ObjSense;
+import wrapper.util.NativeArrays;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+
+/**
+ * Independent blocks of a model: the connected components of its variable-constraint graph, found by union-find over
+ * the row-wise matrix. The ignored rows, e.g. relaxed linking constraints, do not connect their variables, and the rows
+ * without any coefficient belong to no block.
+ */
+final class BlockStructure {
+
+    final int nmbBlocks;
+    final int[] blockOfColumn;
+    // Index of each column in its block, the block columns keeping their order in the model
+    final int[] columnInBlock;
+    final int[][] blockColumns;
+    final int[][] blockRows;
+
+    private BlockStructure(final LpData lpData, final boolean[] ignoredRows) {
+        final int[] parents = new int[lpData.nmbColumns];
+        final int[] sizes = new int[lpData.nmbColumns];
+        for (int j = 0; j < lpData.nmbColumns; ++j) {
+            parents[j] = j;
+            sizes[j] = 1;
+        }
+        for (int i = 0; i < lpData.nmbRows; ++i) {
+            if (ignoredRows[i]) {
+                continue;
+            }
+            for (int k = lpData.rowStarts[i] + 1; k < lpData.rowStarts[i + 1]; ++k) {
+                union(parents, sizes, lpData.rowIndices[lpData.rowStarts[i]], lpData.rowIndices[k]);
+            }
+        }
+        // Numbers the blocks in the order of their first column
+        final int[] blockOfRoot = new int[lpData.nmbColumns];
+        Arrays.fill(blockOfRoot, -1);
+        final int[] nmbBlockColumns = new int[lpData.nmbColumns];
+        this.blockOfColumn = new int[lpData.nmbColumns];
+        this.columnInBlock = new int[lpData.nmbColumns];
+        int nmbBlocks = 0;
+        for (int j = 0; j < lpData.nmbColumns; ++j) {
+            final int root = find(parents, j);
+            if (blockOfRoot[root] < 0) {
+                blockOfRoot[root] = nmbBlocks++;
+            }
+            final int block = blockOfRoot[root];
+            this.blockOfColumn[j] = block;
+            this.columnInBlock[j] = nmbBlockColumns[block]++;
+        }
+        this.nmbBlocks = nmbBlocks;
+        this.blockColumns = new int[nmbBlocks][];
+        for (int b = 0; b < nmbBlocks; ++b) {
+            this.blockColumns[b] = new int[nmbBlockColumns[b]];
+        }
+        for (int j = 0; j < lpData.nmbColumns; ++j) {
+            this.blockColumns[this.blockOfColumn[j]][this.columnInBlock[j]] = j;
+        }
+        final int[] nmbBlockRows = new int[nmbBlocks];
+        for (int i = 0; i < lpData.nmbRows; ++i) {
+            if (!ignoredRows[i] && lpData.rowStarts[i] < lpData.rowStarts[i + 1]) {
+                ++nmbBlockRows[this.blockOfColumn[lpData.rowIndices[lpData.rowStarts[i]]]];
+            }
+        }
+        this.blockRows = new int[nmbBlocks][];
+        for (int b = 0; b < nmbBlocks; ++b) {
+            this.blockRows[b] = new int[nmbBlockRows[b]];
+            nmbBlockRows[b] = 0;
+        }
+        for (int i = 0; i < lpData.nmbRows; ++i) {
+            if (!ignoredRows[i] && lpData.rowStarts[i] < lpData.rowStarts[i + 1]) {
+                final int block = this.blockOfColumn[lpData.rowIndices[lpData.rowStarts[i]]];
+                this.blockRows[block][nmbBlockRows[block]++] = i;
+            }
+        }
+    }
+
+    static BlockStructure of(final LpData lpData, final boolean[] ignoredRows) {
+        return new BlockStructure(lpData, ignoredRows);
+    }
+
+    /**
+     * Builds the minimization model of a block in a new HiGHS instance, passing its columns and rows in one call.
+     */
+    Highs toHighs(final LpData lpData, final int[] integrality, int block) {
+        final int[] columns = this.blockColumns[block];
+        final int[] rows = this.blockRows[block];
+        final int nmbNonZeros = Arrays.stream(rows).map(i -> lpData.rowStarts[i + 1] - lpData.rowStarts[i]).sum();
+        final Highs highs = new Highs();
+        try (Arena arena = Arena.ofConfined()) {
+            final MemorySegment costs = arena.allocate(ValueLayout.JAVA_DOUBLE, Math.max(columns.length, 1));
+            final MemorySegment columnLowerBounds = arena.allocate(ValueLayout.JAVA_DOUBLE, Math.max(columns.length, 1));
+            final MemorySegment columnUpperBounds = arena.allocate(ValueLayout.JAVA_DOUBLE, Math.max(columns.length, 1));
+            final MemorySegment columnIntegrality = arena.allocate(ValueLayout.JAVA_LONG, Math.max(columns.length, 1));
+            final MemorySegment rowLowerBounds = arena.allocate(ValueLayout.JAVA_DOUBLE, Math.max(rows.length, 1));
+            final MemorySegment rowUpperBounds = arena.allocate(ValueLayout.JAVA_DOUBLE, Math.max(rows.length, 1));
+            final MemorySegment starts = arena.allocate(ValueLayout.JAVA_LONG, Math.max(rows.length, 1));
+            final MemorySegment indices = arena.allocate(ValueLayout.JAVA_LONG, Math.max(nmbNonZeros, 1));
+            final MemorySegment values = arena.allocate(ValueLayout.JAVA_DOUBLE, Math.max(nmbNonZeros, 1));
+            for (int c = 0; c < columns.length; ++c) {
+                costs.setAtIndex(ValueLayout.JAVA_DOUBLE, c, lpData.costs[columns[c]]);
+                columnLowerBounds.setAtIndex(ValueLayout.JAVA_DOUBLE, c, lpData.columnLowerBounds[columns[c]]);
+                columnUpperBounds.setAtIndex(ValueLayout.JAVA_DOUBLE, c, lpData.columnUpperBounds[columns[c]]);
+                columnIntegrality.setAtIndex(ValueLayout.JAVA_LONG, c, integrality[columns[c]]);
+            }
+            int start = 0;
+            for (int r = 0; r < rows.length; ++r) {
+                final int i = rows[r];
+                rowLowerBounds.setAtIndex(ValueLayout.JAVA_DOUBLE, r, lpData.rowLowerBounds[i]);
+                rowUpperBounds.setAtIndex(ValueLayout.JAVA_DOUBLE, r, lpData.rowUpperBounds[i]);
+                starts.setAtIndex(ValueLayout.JAVA_LONG, r, start);
+                for (int k = lpData.rowStarts[i]; k < lpData.rowStarts[i + 1]; ++k) {
+                    indices.setAtIndex(ValueLayout.JAVA_LONG, start, this.columnInBlock[lpData.rowIndices[k]]);
+                    values.setAtIndex(ValueLayout.JAVA_DOUBLE, start, lpData.rowValues[k]);
+                    ++start;
+                }
+            }
+            highs.passModel(columns.length, rows.length, nmbNonZeros, MatrixFormat.kRowwise.swigValue(), ObjSense.kMinimize.swigValue(),
+                    0.0, NativeArrays.asDoublePointer(costs), NativeArrays.asDoublePointer(columnLowerBounds),
+                    NativeArrays.asDoublePointer(columnUpperBounds), NativeArrays.asDoublePointer(rowLowerBounds),
+                    NativeArrays.asDoublePointer(rowUpperBounds), NativeArrays.asLongLongPointer(starts),
+                    NativeArrays.asLongLongPointer(indices), NativeArrays.asDoublePointer(values),
+                    NativeArrays.asLongLongPointer(columnIntegrality));
+        }
+        return highs;
+    }
+
+    private static int find(final int[] parents, int column) {
+        while (parents[column] != column) {
+            // Path halving
+            parents[column] = parents[parents[column]];
+            column = parents[column];
+        }
+        return column;
+    }
+
+    private static void union(final int[] parents, final int[] sizes, int first, int second) {
+        int firstRoot = find(parents, first);
+        int secondRoot = find(parents, second);
+        if (firstRoot == secondRoot) {
+            return;
+        }
+        if (sizes[firstRoot] < sizes[secondRoot]) {
+            final int root = firstRoot;
+            firstRoot = secondRoot;
+            secondRoot = root;
+        }
+        parents[secondRoot] = firstRoot;
+        sizes[firstRoot] += sizes[secondRoot];
+    }
+
+}
@@ -0,0 +1,104 @@
+package wrapper.model;
+
+import wrapper.model.expression.LinearExpression;
+import wrapper.model.expression.LinearExpressionException;
+import wrapper.model.variable.Variable;
+import wrapper.solution.Solution;
+
+import java.util.Optional;
+
+/**
+ * Box-constrained bundle steps. The dual function is approximated from above by the cutting planes of the values and
+ * supergradients seen so far, and the next multipliers maximize this approximation within a box around the stability
+ * center. The center moves to the new multipliers only when the dual value gained at least a fraction of the predicted
+ * gain (serious step), otherwise the new cutting plane refines the approximation (null step).
+ * The approximation is an LP whose planes are managed by a {@link CutManager}, so that it is re-solved warm and that the
+ * planes slack for a while are dropped from the bundle.
+ */
+public final class BundleUpdate implements MultiplierUpdate {
+
+    // Fraction of the predicted gain that makes a serious step
+    private static final double SERIOUS_STEP_FRACTION = 0.1;
+    private static final int MAX_PLANE_AGE = 20;
+    private static final double PLANE_SLACK_TOLERANCE = 1E-6;
+
+    private final double boxSize;
+    private Model approximation = null;
+    private CutManager planes = null;
+    private Variable[] multiplierVariables = null;
+    private double[] center = null;
+    private double centerValue = Double.NEGATIVE_INFINITY;
+    private double predictedValue = Double.POSITIVE_INFINITY;
+
+    public BundleUpdate(double boxSize) {
+        if (boxSize <= 0.0) {
+            throw new IllegalArgumentException("The box size must be positive");
+        }
+        this.boxSize = boxSize;
+    }
+
+    @Override
+    public double[] next(final double[] multipliers, double lagrangianValue, final double[] subgradient, final double[] lowerBounds,
+                         final double[] upperBounds) {
+        if (this.approximation == null) {
+            createApproximation(multipliers.length);
+        }
+        if (this.center == null
+                || lagrangianValue >= this.centerValue + SERIOUS_STEP_FRACTION * (this.predictedValue - this.centerValue)) {
+            this.center = multipliers.clone();
+            this.centerValue = lagrangianValue;
+        }
+        addPlane(multipliers, lagrangianValue, subgradient);
+        for (int i = 0; i < multipliers.length; ++i) {
+            this.approximation.updateVariableBounds(Math.max(lowerBounds[i], this.center[i] - this.boxSize),
+                    Math.min(upperBounds[i], this.center[i] + this.boxSize), this.multiplierVariables[i]);
+        }
+        final Optional<Solution> solution = this.planes.maximize();
+        if (solution.isEmpty() || !solution.get().isOptimal()) {
+            return this.center.clone();
+        }
+        this.predictedValue = solution.get().getObjectiveValue();
+        // No predicted gain left, the center maximizes the dual function within the tolerance of the planes
+        if (this.predictedValue - this.centerValue <= PLANE_SLACK_TOLERANCE) {
+            return this.center.clone();
+        }
+        final double[] values = solution.get().getVariableValues();
+        final double[] next = new double[multipliers.length];
+        for (int i = 0; i < multipliers.length; ++i) {
+            next[i] = values[(int) this.multiplierVariables[i].index()];
+        }
+        return next;
+    }
+
+    // Maximizes eta over the multipliers, eta being bounded by the planes
+    private void createApproximation(int nmbMultipliers) {
+        this.approximation = new Model();
+        this.approximation.addContinuousVariable(-Double.MAX_VALUE, Double.MAX_VALUE, 1.0);
+        this.multiplierVariables = new Variable[nmbMultipliers];
+        for (int i = 0; i < nmbMultipliers; ++i) {
+            this.multiplierVariables[i] = this.approximation.addContinuousVariable(-Double.MAX_VALUE, Double.MAX_VALUE, 0.0);
+        }
+        this.planes = new CutManager(this.approximation, MAX_PLANE_AGE, PLANE_SLACK_TOLERANCE);
+    }
+
+    // eta <= value + subgradient * (lambda - multipliers), which bounds the concave dual function over the whole box
+    // only because the subgradient is the slack of the side picked by the sign of each multiplier
+    private void addPlane(final double[] multipliers, double lagrangianValue, final double[] subgradient) {
+        final LinearExpression plane = new LinearExpression();
+        double rhs = lagrangianValue;
+        try {
+            plane.addCoefficient(new Variable(0), 1.0);
+            for (int i = 0; i < multipliers.length; ++i) {
+                if (subgradient[i] != 0.0) {
+                    plane.addCoefficient(this.multiplierVariables[i], -subgradient[i]);
+                    rhs -= subgradient[i] * multipliers[i];
+                }
+            }
+        } catch (LinearExpressionException e) {
+            // The variables of the plane are distinct
+            throw new IllegalStateException(e);
+        }
+        this.planes.addLessThanOrEqualToCut(rhs, plane);
+    }
+
+}
@@ -0,0 +1,10 @@
+package wrapper.model;
+
+import java.time.Duration;
+
+/**
+ * Metrics of an iteration of a {@link ColumnGenerationSolver}. The best reduced cost is NaN when no column was priced.
+ */
+public record ColumnGenerationIteration(int iteration, double objectiveValue, double bestReducedCost, int nmbColumnsPriced,
+                                        int nmbColumnsAdded, Duration masterTime, Duration pricingTime) {
+}
@@ -0,0 +1,134 @@
+package wrapper.model;
+
+import highs.ObjSense;
+import lombok.NonNull;
+import wrapper.model.constraint.ConstraintException;
+import wrapper.model.variable.Column;
+import wrapper.solution.Solution;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Column generation on a restricted master model. Each iteration solves the master, reads all its dual values at once,
+ * prices them concurrently in every pricing problem, and adds the improving columns to the master in one batch, so
+ * that the next master solve starts from the previous basis. The master must stay feasible, e.g. thanks to initial
+ * columns or penalized slack variables.
+ */
+public final class ColumnGenerationSolver implements AutoCloseable {
+
+    private final Model master;
+    private final List<PricingProblem> pricingProblems;
+    private final ExecutorService executor;
+    private final List<ColumnGenerationIteration> iterations = new ArrayList<>();
+
+    public ColumnGenerationSolver(@NonNull final Model master, @NonNull final List<PricingProblem> pricingProblems, int parallelism) {
+        if (pricingProblems.isEmpty()) {
+            throw new IllegalArgumentException("A column generation solver needs at least one pricing problem");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism of a column generation solver must be at least one");
+        }
+        this.master = master;
+        this.pricingProblems = List.copyOf(pricingProblems);
+        this.executor = Executors.newFixedThreadPool(Math.min(parallelism, this.pricingProblems.size()));
+    }
+
+    /**
+     * Iterates until no column has a reduced cost below -tolerance, or until the maximum number of iterations, the
+     * last of which prices the columns without adding them. Returns the last master solution, which has a value for every
+     * variable of the master, empty if the master could not be solved to optimality.
+     */
+    public Optional<Solution> minimize(double tolerance, int maxIterations) throws ConstraintException, InterruptedException {
+        return solve(ObjSense.kMinimize, tolerance, maxIterations);
+    }
+
+    /**
+     * Iterates until no column has a reduced cost above tolerance, or until the maximum number of iterations, the
+     * last of which prices the columns without adding them. Returns the last master solution, which has a value for every
+     * variable of the master, empty if the master could not be solved to optimality.
+     */
+    public Optional<Solution> maximize(double tolerance, int maxIterations) throws ConstraintException, InterruptedException {
+        return solve(ObjSense.kMaximize, tolerance, maxIterations);
+    }
+
+    /**
+     * Metrics of the iterations of the last solve.
+     */
+    public List<ColumnGenerationIteration> getIterations() {
+        return List.copyOf(this.iterations);
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdownNow();
+    }
+
+    private Optional<Solution> solve(final ObjSense objSense, double tolerance, int maxIterations)
+            throws ConstraintException, InterruptedException {
+        this.iterations.clear();
+        // The reduced costs are compared as if minimizing
+        final double sign = objSense == ObjSense.kMinimize ? 1.0 : -1.0;
+        Optional<Solution> solution = Optional.empty();
+        for (int iteration = 1; iteration <= maxIterations; ++iteration) {
+            final long masterStart = System.nanoTime();
+            solution = objSense == ObjSense.kMinimize ? this.master.minimize() : this.master.maximize();
+            final long pricingStart = System.nanoTime();
+            if (solution.isEmpty() || !solution.get().isOptimal()) {
+                return Optional.empty();
+            }
+            final double[] dualValues = solution.get().getDualValues();
+            final List<Column> candidates = priceAll(dualValues);
+            final List<Column> columns = new ArrayList<>();
+            double bestReducedCost = Double.NaN;
+            for (final Column candidate : candidates) {
+                final double reducedCost = sign * candidate.getReducedCost(dualValues);
+                if (Double.isNaN(bestReducedCost) || reducedCost < bestReducedCost) {
+                    bestReducedCost = reducedCost;
+                }
+                // The columns of the last iteration would not be in the returned master solution
+                if (reducedCost < -tolerance && iteration < maxIterations) {
+                    columns.add(candidate);
+                }
+            }
+            this.master.addColumns(columns);
+            this.iterations.add(new ColumnGenerationIteration(iteration, solution.get().getObjectiveValue(), sign * bestReducedCost,
+                    candidates.size(), columns.size(), Duration.ofNanos(pricingStart - masterStart),
+                    Duration.ofNanos(System.nanoTime() - pricingStart)));
+            if (columns.isEmpty()) {
+                break;
+            }
+        }
+        return solution;
+    }
+
+    private List<Column> priceAll(final double[] dualValues) throws ConstraintException, InterruptedException {
+        final List<Future<List<Column>>> futures = new ArrayList<>(this.pricingProblems.size());
+        for (final PricingProblem pricingProblem : this.pricingProblems) {
+            futures.add(this.executor.submit(() -> pricingProblem.price(dualValues)));
+        }
+        final List<Column> candidates = new ArrayList<>();
+        try {
+            for (final Future<List<Column>> future : futures) {
+                candidates.addAll(future.get());
+            }
+        } catch (ExecutionException e) {
+            switch (e.getCause()) {
+                case ConstraintException constraintException -> throw constraintException;
+                case RuntimeException runtimeException -> throw runtimeException;
+                case Error error -> throw error;
+                default -> throw new IllegalStateException(e.getCause());
+            }
+        } finally {
+            futures.forEach(future -> future.cancel(false));
+        }
+        return candidates;
+    }
+
+}
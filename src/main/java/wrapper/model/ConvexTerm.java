@@ -0,0 +1,44 @@
+package wrapper.model;
+
+import lombok.Getter;
+import wrapper.model.variable.Variable;
+import wrapper.solution.Solution;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Convex function of a variable, bounded from below in the model by the epigraph variable and the tangents added by an
+ * {@link OuterApproximation}.
+ */
+public final class ConvexTerm {
+
+    @Getter
+    private final Variable argument;
+    @Getter
+    private final Variable epigraph;
+    private final DoubleUnaryOperator function;
+    private final DoubleUnaryOperator derivative;
+
+    ConvexTerm(final Variable argument, final Variable epigraph, final DoubleUnaryOperator function, final DoubleUnaryOperator derivative) {
+        this.argument = argument;
+        this.epigraph = epigraph;
+        this.function = function;
+        this.derivative = derivative;
+    }
+
+    public double getValue(double argumentValue) {
+        return this.function.applyAsDouble(argumentValue);
+    }
+
+    public double getDerivative(double argumentValue) {
+        return this.derivative.applyAsDouble(argumentValue);
+    }
+
+    /**
+     * Difference between the function and its approximation by the epigraph variable in the solution.
+     */
+    public double getApproximationError(final Solution solution) {
+        return getValue(solution.getVariableValue(this.argument)) - solution.getVariableValue(this.epigraph);
+    }
+
+}
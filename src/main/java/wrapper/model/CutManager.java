@@ -0,0 +1,246 @@
+package wrapper.model;
+
+import highs.Highs;
+import lombok.NonNull;
+import wrapper.model.expression.ExpressionCoefficient;
+import wrapper.model.expression.LinearExpression;
+import wrapper.solution.Solution;
+import wrapper.util.NativeArrays;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Cutting-plane loop on top of a model. The cuts are queued and added in one batch before each solve, duplicates of
+ * queued or active cuts are ignored, and the cuts whose slack exceeded the tolerance in the last {@code maxAge} solves
+ * are deleted in one batch before the next solve. Since the slack of a deleted cut is basic, the basis stays valid and
+ * the solves stay warm.
+ * The cut rows are always the last rows of the model: constraints must not be added to the model once cuts are managed,
+ * as their indices would be shifted by the deletions.
+ */
+public final class CutManager {
+
+    // Normalized coefficients and sides are compared on this grid
+    private static final double NORMALIZATION_PRECISION = 1E9;
+
+    private final Model model;
+    private final int maxAge;
+    private final double slackTolerance;
+    private final List<ManagedCut> pendingCuts = new ArrayList<>();
+    private final List<ManagedCut> activeCuts = new ArrayList<>();
+    private final Set<CutKey> cutKeys = new HashSet<>();
+
+    public CutManager(@NonNull final Model model, int maxAge, double slackTolerance) {
+        if (maxAge < 1) {
+            throw new IllegalArgumentException("The maximum age must be at least 1");
+        }
+        this.model = model;
+        this.maxAge = maxAge;
+        this.slackTolerance = slackTolerance;
+    }
+
+    /**
+     * LinearExpression >= RHS. Returns false if the cut is a duplicate of a queued or active cut.
+     */
+    public boolean addGreaterThanOrEqualToCut(double rhs, @NonNull final LinearExpression linearExpression) {
+        return addCut(rhs, Double.MAX_VALUE, linearExpression);
+    }
+
+    /**
+     * LinearExpression <= RHS. Returns false if the cut is a duplicate of a queued or active cut.
+     */
+    public boolean addLessThanOrEqualToCut(double rhs, @NonNull final LinearExpression linearExpression) {
+        return addCut(-Double.MAX_VALUE, rhs, linearExpression);
+    }
+
+    /**
+     * LHS <= LinearExpression <= RHS. Returns false if the cut is a duplicate of a queued or active cut, i.e. if their
+     * coefficients and sides are equal once scaled by the largest coefficient.
+     */
+    public boolean addCut(double lhs, double rhs, @NonNull final LinearExpression linearExpression) {
+        final List<ExpressionCoefficient> coefficients = new ArrayList<>(linearExpression.getNmbCoefficients());
+        linearExpression.consumeExpression(coefficient -> {
+            this.model.checkVariable(coefficient.variable());
+            if (coefficient.value() != 0.0) {
+                coefficients.add(coefficient);
+            }
+        });
+        coefficients.sort(Comparator.comparingLong(coefficient -> coefficient.variable().index()));
+        final ManagedCut cut = new ManagedCut(lhs, rhs, coefficients);
+        if (!this.cutKeys.add(cut.key)) {
+            return false;
+        }
+        this.pendingCuts.add(cut);
+        return true;
+    }
+
+    public Optional<Solution> minimize() {
+        update();
+        return age(this.model.minimize());
+    }
+
+    public Optional<Solution> maximize() {
+        update();
+        return age(this.model.maximize());
+    }
+
+    public int getNmbPendingCuts() {
+        return this.pendingCuts.size();
+    }
+
+    public int getNmbActiveCuts() {
+        return this.activeCuts.size();
+    }
+
+    private void update() {
+        final Highs highs = this.model.getHighs();
+        evictCuts(highs);
+        insertCuts(highs);
+    }
+
+    private void evictCuts(final Highs highs) {
+        final List<ManagedCut> evictedCuts = this.activeCuts.stream().filter(cut -> cut.age >= this.maxAge).toList();
+        if (evictedCuts.isEmpty()) {
+            return;
+        }
+        try (Arena arena = Arena.ofConfined()) {
+            final MemorySegment rows = arena.allocate(ValueLayout.JAVA_LONG, evictedCuts.size());
+            for (int i = 0; i < evictedCuts.size(); ++i) {
+                rows.setAtIndex(ValueLayout.JAVA_LONG, i, evictedCuts.get(i).row);
+            }
+            highs.deleteRows(evictedCuts.size(), NativeArrays.asLongLongPointer(rows));
+        }
+        evictedCuts.forEach(cut -> this.cutKeys.remove(cut.key));
+        this.activeCuts.removeIf(cut -> cut.age >= this.maxAge);
+        // The remaining cuts keep their order, and are the last rows of the model
+        final long firstCutRow = highs.getNumRow() - this.activeCuts.size();
+        for (int i = 0; i < this.activeCuts.size(); ++i) {
+            this.activeCuts.get(i).row = firstCutRow + i;
+        }
+    }
+
+    private void insertCuts(final Highs highs) {
+        if (this.pendingCuts.isEmpty()) {
+            return;
+        }
+        final int nmbCuts = this.pendingCuts.size();
+        final int nmbNonZeros = this.pendingCuts.stream().mapToInt(cut -> cut.indices.length).sum();
+        final long firstRow = highs.getNumRow();
+        try (Arena arena = Arena.ofConfined()) {
+            final MemorySegment lowerBounds = arena.allocate(ValueLayout.JAVA_DOUBLE, nmbCuts);
+            final MemorySegment upperBounds = arena.allocate(ValueLayout.JAVA_DOUBLE, nmbCuts);
+            final MemorySegment starts = arena.allocate(ValueLayout.JAVA_LONG, nmbCuts);
+            final MemorySegment indices = arena.allocate(ValueLayout.JAVA_LONG, Math.max(nmbNonZeros, 1));
+            final MemorySegment values = arena.allocate(ValueLayout.JAVA_DOUBLE, Math.max(nmbNonZeros, 1));
+            int start = 0;
+            for (int i = 0; i < nmbCuts; ++i) {
+                final ManagedCut cut = this.pendingCuts.get(i);
+                lowerBounds.setAtIndex(ValueLayout.JAVA_DOUBLE, i, cut.lhs);
+                upperBounds.setAtIndex(ValueLayout.JAVA_DOUBLE, i, cut.rhs);
+                starts.setAtIndex(ValueLayout.JAVA_LONG, i, start);
+                MemorySegment.copy(cut.indices, 0, indices, ValueLayout.JAVA_LONG, (long) start * Long.BYTES, cut.indices.length);
+                MemorySegment.copy(cut.values, 0, values, ValueLayout.JAVA_DOUBLE, (long) start * Double.BYTES, cut.values.length);
+                start += cut.indices.length;
+                cut.row = firstRow + i;
+            }
+            highs.addRows(nmbCuts, NativeArrays.asDoublePointer(lowerBounds), NativeArrays.asDoublePointer(upperBounds), nmbNonZeros,
+                    NativeArrays.asLongLongPointer(starts), NativeArrays.asLongLongPointer(indices), NativeArrays.asDoublePointer(values));
+        }
+        this.activeCuts.addAll(this.pendingCuts);
+        this.pendingCuts.clear();
+    }
+
+    // Only a feasible solution with row values tells which cuts are slack
+    private Optional<Solution> age(final Optional<Solution> solution) {
+        if (solution.isEmpty() || !solution.get().isFeasible()
+                || solution.get().getConstraintValues().length < this.model.getHighs().getNumRow()) {
+            return solution;
+        }
+        final double[] constraintValues = solution.get().getConstraintValues();
+        for (final ManagedCut cut : this.activeCuts) {
+            final double value = constraintValues[(int) cut.row];
+            final double slack = Math.min(value - cut.lhs, cut.rhs - value);
+            cut.age = slack > this.slackTolerance ? cut.age + 1 : 0;
+        }
+        return solution;
+    }
+
+    private record CutKey(long[] indices, long[] values, long lhs, long rhs) {
+
+        @Override
+        public boolean equals(final Object object) {
+            return object instanceof CutKey other && this.lhs == other.lhs && this.rhs == other.rhs
+                    && Arrays.equals(this.indices, other.indices) && Arrays.equals(this.values, other.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * (31 * Arrays.hashCode(this.indices) + Arrays.hashCode(this.values)) + Long.hashCode(this.lhs))
+                    + Long.hashCode(this.rhs);
+        }
+
+    }
+
+    private static final class ManagedCut {
+
+        private final double lhs;
+        private final double rhs;
+        private final long[] indices;
+        private final double[] values;
+        private final CutKey key;
+        private long row;
+        private int age = 0;
+
+        ManagedCut(double lhs, double rhs, final List<ExpressionCoefficient> coefficients) {
+            this.lhs = lhs;
+            this.rhs = rhs;
+            this.indices = coefficients.stream().mapToLong(coefficient -> coefficient.variable().index()).toArray();
+            this.values = coefficients.stream().mapToDouble(ExpressionCoefficient::value).toArray();
+            this.key = normalize();
+        }
+
+        // Scales the cut so that its largest coefficient is 1 in absolute value and its first coefficient is positive
+        private CutKey normalize() {
+            double scale = 0.0;
+            for (final double value : this.values) {
+                scale = Math.max(scale, Math.abs(value));
+            }
+            if (scale == 0.0) {
+                scale = 1.0;
+            } else if (this.values[0] < 0.0) {
+                scale = -scale;
+            }
+            final long[] normalizedValues = new long[this.values.length];
+            for (int i = 0; i < this.values.length; ++i) {
+                normalizedValues[i] = quantize(this.values[i] / scale);
+            }
+            final long normalizedLhs = scale > 0.0 ? quantizeSide(this.lhs, scale) : quantizeSide(this.rhs, scale);
+            final long normalizedRhs = scale > 0.0 ? quantizeSide(this.rhs, scale) : quantizeSide(this.lhs, scale);
+            return new CutKey(this.indices, normalizedValues, normalizedLhs, normalizedRhs);
+        }
+
+        private static long quantizeSide(double side, double scale) {
+            if (side >= Double.MAX_VALUE) {
+                return scale > 0.0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+            }
+            if (side <= -Double.MAX_VALUE) {
+                return scale > 0.0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+            }
+            return quantize(side / scale);
+        }
+
+        private static long quantize(double value) {
+            return Math.round(value * NORMALIZATION_PRECISION);
+        }
+
+    }
+
+}
@@ -0,0 +1,27 @@
+package wrapper.model;
+
+/**
+ * Copy of the simplex factorization data captured after a solve, which lets another solve of the same model, or of a
+ * copy with the same dimensions, restart without refactorizing.
+ */
+public final class HotStart {
+
+    private final highs.HotStart highsHotStart;
+
+    private HotStart(final highs.HotStart highsHotStart) {
+        this.highsHotStart = highsHotStart;
+    }
+
+    static HotStart copyOf(final highs.HotStart highsHotStart) {
+        final highs.HotStart copy = new highs.HotStart();
+        copy.setValid(highsHotStart.getValid());
+        copy.setRefactor_info(highsHotStart.getRefactor_info());
+        copy.setNonbasicMove(highsHotStart.getNonbasicMove());
+        return new HotStart(copy);
+    }
+
+    highs.HotStart getHighsHotStart() {
+        return this.highsHotStart;
+    }
+
+}
@@ -0,0 +1,39 @@
+package wrapper.model;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Best dual value found by a {@link LagrangianSolver}, which is a lower bound of the optimal objective value, with the
+ * multipliers and the block solutions achieving it. The variable values may violate the relaxed constraints.
+ */
+@Getter
+public final class LagrangianSolution {
+
+    private final double lowerBound;
+    @Getter(AccessLevel.NONE)
+    private final double[] multipliers;
+    @Getter(AccessLevel.NONE)
+    private final double[] variableValues;
+    private final double maxViolation;
+    private final int nmbIterations;
+
+    LagrangianSolution(double lowerBound, @NonNull final double[] multipliers, @NonNull final double[] variableValues,
+                       double maxViolation, int nmbIterations) {
+        this.lowerBound = lowerBound;
+        this.multipliers = multipliers;
+        this.variableValues = variableValues;
+        this.maxViolation = maxViolation;
+        this.nmbIterations = nmbIterations;
+    }
+
+    public double[] getMultipliers() {
+        return this.multipliers.clone();
+    }
+
+    public double[] getVariableValues() {
+        return this.variableValues.clone();
+    }
+
+}
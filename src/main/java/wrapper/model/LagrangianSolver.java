@@ -0,0 +1,232 @@
+package wrapper.model;
+
+import highs.Highs;
+import lombok.NonNull;
+import wrapper.model.constraint.Constraint;
+import wrapper.model.constraint.ConstraintException;
+import wrapper.model.option.CommonIntegerOptions;
+import wrapper.solution.Solution;
+import wrapper.util.NativeArrays;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Lagrangian relaxation of a minimization model. The relaxed constraints are moved to the objective with one multiplier
+ * each, and the remaining constraints split the model into independent blocks, each one solved in its own HiGHS
+ * instance. Each iteration writes the Lagrangian costs of every block in one changeColsCost call, solves the blocks
+ * concurrently, and lets the multiplier update move the multipliers along the subgradient of the relaxed constraints.
+ * A multiplier is non-negative when its constraint only has a lower side, non-positive when it only has an upper side,
+ * and free otherwise: the term of the constraint LHS <= a x <= RHS in the dual function is lambda * (LHS - a x) when
+ * lambda is positive, and lambda * (RHS - a x) when lambda is negative.
+ */
+public final class LagrangianSolver implements AutoCloseable {
+
+    // HiGHS treats the bounds beyond this magnitude as infinite
+    private static final double INFINITE_BOUND = 1E20;
+
+    private final LpData lpData;
+    private final int[] relaxedRows;
+    private final BlockStructure blockStructure;
+    private final List<Model> blocks = new ArrayList<>();
+    private final MultiplierUpdate multiplierUpdate;
+    private final double[] multiplierLowerBounds;
+    private final double[] multiplierUpperBounds;
+    private final ExecutorService executor;
+
+    public LagrangianSolver(@NonNull final Model model, @NonNull final List<Constraint> relaxedConstraints,
+                            @NonNull final MultiplierUpdate multiplierUpdate, int parallelism) throws ConstraintException {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism of a Lagrangian solver must be at least one");
+        }
+        final Highs highs = model.getHighs();
+        this.lpData = LpData.of(highs);
+        this.relaxedRows = new int[relaxedConstraints.size()];
+        final boolean[] relaxed = new boolean[this.lpData.nmbRows];
+        for (int r = 0; r < this.relaxedRows.length; ++r) {
+            final long index = relaxedConstraints.get(r).index();
+            if (index >= this.lpData.nmbRows) {
+                throw new ConstraintException(String.format("Constraint with index %d does not exist in the model", index));
+            }
+            if (relaxed[(int) index]) {
+                throw new ConstraintException(String.format("Constraint with index %d is relaxed twice", index));
+            }
+            relaxed[(int) index] = true;
+            this.relaxedRows[r] = (int) index;
+        }
+        this.multiplierLowerBounds = new double[this.relaxedRows.length];
+        this.multiplierUpperBounds = new double[this.relaxedRows.length];
+        for (int r = 0; r < this.relaxedRows.length; ++r) {
+            this.multiplierLowerBounds[r] = isInfinite(this.lpData.rowUpperBounds[this.relaxedRows[r]]) ? 0.0 : -Double.MAX_VALUE;
+            this.multiplierUpperBounds[r] = isInfinite(this.lpData.rowLowerBounds[this.relaxedRows[r]]) ? 0.0 : Double.MAX_VALUE;
+        }
+        this.blockStructure = BlockStructure.of(this.lpData, relaxed);
+        final int[] integrality = LpData.readIntegrality(highs);
+        final int threadsPerSolve = Math.max(1, Runtime.getRuntime().availableProcessors() / parallelism);
+        for (int b = 0; b < this.blockStructure.nmbBlocks; ++b) {
+            final Highs blockHighs = this.blockStructure.toHighs(this.lpData, integrality, b);
+            blockHighs.passOptions(highs.getOptions());
+            Model.setSupportedOption(blockHighs, CommonIntegerOptions.THREADS.getOption(threadsPerSolve));
+            this.blocks.add(new Model(blockHighs));
+        }
+        this.multiplierUpdate = multiplierUpdate;
+        this.executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, this.blocks.size())));
+    }
+
+    /**
+     * Iterates from the given multipliers, one per relaxed constraint in their order, until the block solutions satisfy
+     * the relaxed constraints and the complementary slackness within the tolerance, until the multipliers move by less
+     * than the tolerance, or until the maximum number of iterations. Returns empty if a block could not be solved to
+     * optimality.
+     */
+    public Optional<LagrangianSolution> minimize(@NonNull final double[] initialMultipliers, double tolerance, int maxIterations)
+            throws InterruptedException {
+        if (initialMultipliers.length != this.relaxedRows.length) {
+            throw new IllegalArgumentException("There must be one initial multiplier per relaxed constraint");
+        }
+        double[] multipliers = new double[initialMultipliers.length];
+        for (int r = 0; r < multipliers.length; ++r) {
+            multipliers[r] = Math.clamp(initialMultipliers[r], this.multiplierLowerBounds[r], this.multiplierUpperBounds[r]);
+        }
+        LagrangianSolution bestSolution = null;
+        for (int iteration = 1; iteration <= maxIterations; ++iteration) {
+            final double[] costs = getLagrangianCosts(multipliers);
+            final Optional<double[]> variableValues = solveBlocks(costs);
+            if (variableValues.isEmpty()) {
+                return Optional.empty();
+            }
+            double lagrangianValue = 0.0;
+            for (int j = 0; j < this.lpData.nmbColumns; ++j) {
+                lagrangianValue += costs[j] * variableValues.get()[j];
+            }
+            final double[] subgradient = new double[multipliers.length];
+            double maxViolation = 0.0;
+            double maxComplementarity = 0.0;
+            for (int r = 0; r < multipliers.length; ++r) {
+                final int i = this.relaxedRows[r];
+                final double activity = getActivity(i, variableValues.get());
+                final double violation = Math.clamp(activity, this.lpData.rowLowerBounds[i], this.lpData.rowUpperBounds[i]) - activity;
+                // lambda * side, the side being the one picked by the sign of lambda, whose slack is the supergradient
+                if (multipliers[r] > 0.0) {
+                    lagrangianValue += multipliers[r] * this.lpData.rowLowerBounds[i];
+                    subgradient[r] = this.lpData.rowLowerBounds[i] - activity;
+                } else if (multipliers[r] < 0.0) {
+                    lagrangianValue += multipliers[r] * this.lpData.rowUpperBounds[i];
+                    subgradient[r] = this.lpData.rowUpperBounds[i] - activity;
+                } else {
+                    // At zero, the slack of the violated side if any, which is already projected on the multiplier bounds
+                    subgradient[r] = violation;
+                }
+                maxViolation = Math.max(maxViolation, Math.abs(violation));
+                maxComplementarity = Math.max(maxComplementarity, Math.abs(multipliers[r] * subgradient[r]));
+            }
+            if (bestSolution == null || lagrangianValue > bestSolution.getLowerBound()) {
+                bestSolution = new LagrangianSolution(lagrangianValue, multipliers, variableValues.get(), maxViolation, iteration);
+            }
+            // Feasible and complementary block solutions are optimal for the model, and the dual bound is then exact
+            if (maxViolation <= tolerance && maxComplementarity <= tolerance) {
+                break;
+            }
+            final double[] nextMultipliers = this.multiplierUpdate.next(multipliers, lagrangianValue, subgradient,
+                    this.multiplierLowerBounds, this.multiplierUpperBounds);
+            double maxStep = 0.0;
+            for (int r = 0; r < multipliers.length; ++r) {
+                maxStep = Math.max(maxStep, Math.abs(nextMultipliers[r] - multipliers[r]));
+            }
+            if (maxStep <= tolerance) {
+                break;
+            }
+            multipliers = nextMultipliers;
+        }
+        return Optional.ofNullable(bestSolution);
+    }
+
+    public int getNmbBlocks() {
+        return this.blocks.size();
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdownNow();
+    }
+
+    // c - sum(lambda_i * a_i), over the relaxed rows i
+    private double[] getLagrangianCosts(final double[] multipliers) {
+        final double[] costs = this.lpData.costs.clone();
+        for (int r = 0; r < multipliers.length; ++r) {
+            final int i = this.relaxedRows[r];
+            for (int k = this.lpData.rowStarts[i]; k < this.lpData.rowStarts[i + 1]; ++k) {
+                costs[this.lpData.rowIndices[k]] -= multipliers[r] * this.lpData.rowValues[k];
+            }
+        }
+        return costs;
+    }
+
+    private double getActivity(int row, final double[] variableValues) {
+        double activity = 0.0;
+        for (int k = this.lpData.rowStarts[row]; k < this.lpData.rowStarts[row + 1]; ++k) {
+            activity += this.lpData.rowValues[k] * variableValues[this.lpData.rowIndices[k]];
+        }
+        return activity;
+    }
+
+    // The variable values of the model, empty if a block could not be solved to optimality
+    private Optional<double[]> solveBlocks(final double[] costs) throws InterruptedException {
+        final List<Future<Optional<Solution>>> futures = new ArrayList<>(this.blocks.size());
+        for (int b = 0; b < this.blocks.size(); ++b) {
+            final int block = b;
+            futures.add(this.executor.submit(() -> solveBlock(block, costs)));
+        }
+        final double[] variableValues = new double[this.lpData.nmbColumns];
+        try {
+            for (int b = 0; b < futures.size(); ++b) {
+                final Optional<Solution> solution = futures.get(b).get();
+                if (solution.isEmpty() || !solution.get().isOptimal()) {
+                    return Optional.empty();
+                }
+                final double[] blockValues = solution.get().getVariableValues();
+                final int[] columns = this.blockStructure.blockColumns[b];
+                for (int c = 0; c < columns.length; ++c) {
+                    variableValues[columns[c]] = blockValues[c];
+                }
+            }
+        } catch (ExecutionException e) {
+            switch (e.getCause()) {
+                case RuntimeException runtimeException -> throw runtimeException;
+                case Error error -> throw error;
+                default -> throw new IllegalStateException(e.getCause());
+            }
+        } finally {
+            futures.forEach(future -> future.cancel(false));
+        }
+        return Optional.of(variableValues);
+    }
+
+    private Optional<Solution> solveBlock(int block, final double[] costs) {
+        final int[] columns = this.blockStructure.blockColumns[block];
+        final Model model = this.blocks.get(block);
+        if (columns.length > 0) {
+            try (Arena arena = Arena.ofConfined()) {
+                final MemorySegment blockCosts = arena.allocate(ValueLayout.JAVA_DOUBLE, columns.length);
+                for (int c = 0; c < columns.length; ++c) {
+                    blockCosts.setAtIndex(ValueLayout.JAVA_DOUBLE, c, costs[columns[c]]);
+                }
+                model.getHighs().changeColsCost(0, columns.length - 1, NativeArrays.asDoublePointer(blockCosts));
+            }
+        }
+        return model.minimize();
+    }
+
+    private static boolean isInfinite(double bound) {
+        return Math.abs(bound) >= INFINITE_BOUND;
+    }
+
+}
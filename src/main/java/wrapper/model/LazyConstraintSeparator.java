@@ -0,0 +1,15 @@
+package wrapper.model;
+
+/**
+ * Separates the lazy constraints violated by a candidate solution, e.g. subtour elimination constraints.
+ */
+@FunctionalInterface
+public interface LazyConstraintSeparator {
+
+    /**
+     * Adds the constraints violated by the candidate variable values to the cut manager, and returns whether the
+     * candidate violates any lazy constraint. The candidate is accepted when it does not.
+     */
+    boolean separate(double[] candidate, CutManager cutManager);
+
+}
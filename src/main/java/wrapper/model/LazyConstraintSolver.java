@@ -0,0 +1,67 @@
+package wrapper.model;
+
+import lombok.Getter;
+import lombok.NonNull;
+import wrapper.solution.Solution;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Solves a model whose constraints are only added once violated. HiGHS v1.12 declares the callback type
+ * kCallbackMipDefineLazyConstraints but the MIP solver never calls it, so the constraints are separated on the optimal
+ * solution of each solve, added in bulk, and the model is solved again until the separator accepts the solution.
+ */
+public final class LazyConstraintSolver {
+
+    private final LazyConstraintSeparator separator;
+    private final CutManager cutManager;
+
+    @Getter
+    private int nmbRounds = 0;
+
+    public LazyConstraintSolver(@NonNull final Model model, @NonNull final LazyConstraintSeparator separator) {
+        this.separator = separator;
+        // With an infinite slack tolerance, the lazy constraints never get older and are never evicted
+        this.cutManager = new CutManager(model, Integer.MAX_VALUE, Double.MAX_VALUE);
+    }
+
+    /**
+     * Separates the optimal solutions until one violates no lazy constraint, for at most the given number of rounds.
+     * Returns empty if the rounds run out on a violated candidate, or if the separator finds a violated candidate but
+     * only adds duplicates of constraints already in the model, which would not cut it off.
+     */
+    public Optional<Solution> minimize(int maxRounds) {
+        return solve(this.cutManager::minimize, maxRounds);
+    }
+
+    /**
+     * Same as minimize.
+     */
+    public Optional<Solution> maximize(int maxRounds) {
+        return solve(this.cutManager::maximize, maxRounds);
+    }
+
+    public int getNmbLazyConstraints() {
+        return this.cutManager.getNmbActiveCuts() + this.cutManager.getNmbPendingCuts();
+    }
+
+    private Optional<Solution> solve(final Supplier<Optional<Solution>> solver, int maxRounds) {
+        for (int round = 0; round < maxRounds; ++round) {
+            final Optional<Solution> solution = solver.get();
+            ++this.nmbRounds;
+            // Only a feasible solution can be separated, and adding constraints does not repair the others
+            if (solution.isEmpty() || !solution.get().isFeasible()) {
+                return solution;
+            }
+            if (!this.separator.separate(solution.get().getVariableValues(), this.cutManager)) {
+                return solution;
+            }
+            if (this.cutManager.getNmbPendingCuts() == 0) {
+                return Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+
+}
@@ -0,0 +1,127 @@
+package wrapper.model;
+
+import highs.Highs;
+import highs.HighsStatus;
+import highs.SWIGTYPE_p_HighsVarType;
+import wrapper.util.NativeArrays;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Snapshot of the costs, bounds and row-wise matrix of a HiGHS model, read in bulk.
+ */
+final class LpData {
+
+    final int nmbColumns;
+    final int nmbRows;
+    final double[] costs;
+    final double[] columnLowerBounds;
+    final double[] columnUpperBounds;
+    final double[] rowLowerBounds;
+    final double[] rowUpperBounds;
+    // Row i has the coefficients rowValues[rowStarts[i]..rowStarts[i + 1]) on the columns rowIndices[...]
+    final int[] rowStarts;
+    final int[] rowIndices;
+    final double[] rowValues;
+
+    private LpData(final Highs highs) {
+        this.nmbColumns = (int) highs.getNumCol();
+        this.nmbRows = (int) highs.getNumRow();
+        final long nmbNonZeros = highs.getNumNz();
+        try (Arena arena = Arena.ofConfined()) {
+            final MemorySegment count = arena.allocate(ValueLayout.JAVA_LONG);
+            final MemorySegment nmbEntries = arena.allocate(ValueLayout.JAVA_LONG);
+            final MemorySegment costs = arena.allocate(ValueLayout.JAVA_DOUBLE, Math.max(this.nmbColumns, 1));
+            final MemorySegment columnLowerBounds = arena.allocate(ValueLayout.JAVA_DOUBLE, Math.max(this.nmbColumns, 1));
+            final MemorySegment columnUpperBounds = arena.allocate(ValueLayout.JAVA_DOUBLE, Math.max(this.nmbColumns, 1));
+            final MemorySegment rowLowerBounds = arena.allocate(ValueLayout.JAVA_DOUBLE, Math.max(this.nmbRows, 1));
+            final MemorySegment rowUpperBounds = arena.allocate(ValueLayout.JAVA_DOUBLE, Math.max(this.nmbRows, 1));
+            final MemorySegment starts = arena.allocate(ValueLayout.JAVA_LONG, Math.max(Math.max(this.nmbColumns, this.nmbRows), 1));
+            final MemorySegment indices = arena.allocate(ValueLayout.JAVA_LONG, Math.max(nmbNonZeros, 1));
+            final MemorySegment values = arena.allocate(ValueLayout.JAVA_DOUBLE, Math.max(nmbNonZeros, 1));
+            if (this.nmbColumns > 0) {
+                // The column-wise matrix is not needed, only the costs and bounds
+                highs.getCols(0, this.nmbColumns - 1, NativeArrays.asLongLongPointer(count), NativeArrays.asDoublePointer(costs),
+                        NativeArrays.asDoublePointer(columnLowerBounds), NativeArrays.asDoublePointer(columnUpperBounds),
+                        NativeArrays.asLongLongPointer(nmbEntries), null, null, null);
+            }
+            this.costs = toArray(costs, this.nmbColumns);
+            this.columnLowerBounds = toArray(columnLowerBounds, this.nmbColumns);
+            this.columnUpperBounds = toArray(columnUpperBounds, this.nmbColumns);
+            nmbEntries.set(ValueLayout.JAVA_LONG, 0, 0);
+            if (this.nmbRows > 0) {
+                highs.getRows(0, this.nmbRows - 1, NativeArrays.asLongLongPointer(count),
+                        NativeArrays.asDoublePointer(rowLowerBounds), NativeArrays.asDoublePointer(rowUpperBounds),
+                        NativeArrays.asLongLongPointer(nmbEntries), NativeArrays.asLongLongPointer(starts),
+                        NativeArrays.asLongLongPointer(indices), NativeArrays.asDoublePointer(values));
+            }
+            this.rowLowerBounds = toArray(rowLowerBounds, this.nmbRows);
+            this.rowUpperBounds = toArray(rowUpperBounds, this.nmbRows);
+            final int nmbRowEntries = (int) nmbEntries.get(ValueLayout.JAVA_LONG, 0);
+            this.rowStarts = new int[this.nmbRows + 1];
+            for (int i = 0; i < this.nmbRows; ++i) {
+                this.rowStarts[i] = (int) starts.getAtIndex(ValueLayout.JAVA_LONG, i);
+            }
+            this.rowStarts[this.nmbRows] = nmbRowEntries;
+            this.rowIndices = new int[nmbRowEntries];
+            for (int k = 0; k < nmbRowEntries; ++k) {
+                this.rowIndices[k] = (int) indices.getAtIndex(ValueLayout.JAVA_LONG, k);
+            }
+            this.rowValues = toArray(values, nmbRowEntries);
+        }
+    }
+
+    static LpData of(final Highs highs) {
+        return new LpData(highs);
+    }
+
+    /**
+     * Reads only the costs of the columns, in one call.
+     */
+    static double[] readCosts(final Highs highs) {
+        final int nmbColumns = (int) highs.getNumCol();
+        if (nmbColumns == 0) {
+            return new double[0];
+        }
+        try (Arena arena = Arena.ofConfined()) {
+            final MemorySegment count = arena.allocate(ValueLayout.JAVA_LONG);
+            final MemorySegment nmbEntries = arena.allocate(ValueLayout.JAVA_LONG);
+            final MemorySegment costs = arena.allocate(ValueLayout.JAVA_DOUBLE, nmbColumns);
+            highs.getCols(0, nmbColumns - 1, NativeArrays.asLongLongPointer(count), NativeArrays.asDoublePointer(costs),
+                    null, null, NativeArrays.asLongLongPointer(nmbEntries), null, null, null);
+            return toArray(costs, nmbColumns);
+        }
+    }
+
+    /**
+     * Reads the HiGHS integrality of the columns, which getCols does not return, as HighsVarType values. The bindings
+     * have no bulk getter, so a model without integer columns is detected in one call and only a MIP is read per column.
+     */
+    static int[] readIntegrality(final Highs highs) {
+        final int nmbColumns = (int) highs.getNumCol();
+        final int[] integrality = new int[nmbColumns];
+        // HiGHS keeps no integrality at all for a pure LP, and then fails on every column
+        if (!highs.getModel().isMip()) {
+            return integrality;
+        }
+        try (Arena arena = Arena.ofConfined()) {
+            // HighsVarType is a one-byte enumeration
+            final MemorySegment varType = arena.allocate(ValueLayout.JAVA_BYTE);
+            final SWIGTYPE_p_HighsVarType varTypePointer = new SWIGTYPE_p_HighsVarType(varType.address(), false);
+            for (int j = 0; j < nmbColumns; ++j) {
+                if (highs.getColIntegrality(j, varTypePointer) != HighsStatus.kOk) {
+                    return new int[nmbColumns];
+                }
+                integrality[j] = varType.get(ValueLayout.JAVA_BYTE, 0);
+            }
+        }
+        return integrality;
+    }
+
+    private static double[] toArray(final MemorySegment segment, int nmbValues) {
+        return segment.asSlice(0, (long) nmbValues * Double.BYTES).toArray(ValueLayout.JAVA_DOUBLE);
+    }
+
+}
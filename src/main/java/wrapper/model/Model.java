@@ -2,27 +2,73 @@ package wrapper.model;
 
 import highs.*;
 import lombok.NonNull;
+import wrapper.callback.CallbackBridge;
+import wrapper.callback.CallbackContext;
+import wrapper.callback.CallbackException;
+import wrapper.callback.LogBridge;
 import wrapper.model.constraint.Constraint;
 import wrapper.model.constraint.ConstraintException;
 import wrapper.model.constraint.ConstraintType;
 import wrapper.model.expression.ExpressionCoefficient;
 import wrapper.model.expression.LinearExpression;
 import wrapper.model.option.*;
+import wrapper.model.variable.Column;
 import wrapper.model.variable.Variable;
 import wrapper.model.variable.VariableException;
+import wrapper.solution.AnytimeSolution;
+import wrapper.solution.Basis;
 import wrapper.solution.InitialSolution;
+import wrapper.solution.SavedMipSolution;
+import wrapper.solution.SensitivityReport;
 import wrapper.solution.Solution;
-
+import wrapper.solution.SolutionFile;
+import wrapper.solution.ViolationReport;
+import wrapper.util.NativeArrays;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.ObjDoubleConsumer;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 
 public class Model {
 
-    private final Highs highs = new Highs();
+    private static final HighsCallbackType[] INTERRUPT_CALLBACK_TYPES = {
+            HighsCallbackType.kCallbackSimplexInterrupt,
+            HighsCallbackType.kCallbackIpmInterrupt,
+            HighsCallbackType.kCallbackMipInterrupt
+    };
+    private static final double INFINITE_BOUND = 1E20;
+    private static final long FINGERPRINT_SEED = 0xCBF29CE484222325L;
+    private static final long FINGERPRINT_PRIME = 0x100000001B3L;
+
+    private final Highs highs;
+
+    // Tells a SolverPool whether the options must be reset before recycling the HiGHS instance
+    private boolean optionsModified = false;
+
+    private Consumer<CallbackContext> callbackHandler = null;
+    private HighsCallbackType[] callbackTypes = new HighsCallbackType[0];
+
+    private LogBridge logBridge = null;
+    // Output options as they were before the log handler was set, restored when it is removed
+    private List<Option> outputOptionsBeforeLogHandler = List.of();
 
     public Model() {
+        this(new Highs());
         try {
             addOption(CommonBooleanOptions.SOLVER_OUTPUT.getOption(false));
         } catch (OptionException _) {
@@ -30,19 +76,49 @@ public class Model {
         }
     }
 
+    Model(@NonNull final Highs highs) {
+        this.highs = highs;
+    }
+
+    /**
+     * Copies the model and its options into a new HiGHS instance, e.g. to solve variants of the model in parallel.
+     */
+    public Model copy() {
+        final Model copy = new Model(new Highs());
+        copy.highs.passOptions(this.highs.getOptions());
+        copy.highs.passModel(this.highs.getModel());
+        return copy;
+    }
+
     public boolean addOption(@NonNull final Option option) throws OptionException {
+        this.optionsModified = true;
+        return setOption(this.highs, option);
+    }
+
+    /**
+     * Sets an option whose type is known to be supported, e.g. one of the common options.
+     */
+    static void setSupportedOption(final Highs highs, final Option option) {
+        try {
+            setOption(highs, option);
+        } catch (OptionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static boolean setOption(final Highs highs, final Option option) throws OptionException {
         switch (option) {
             case StringOption stringOption -> {
-                return this.highs.setOptionValue(option.getOptionName(), stringOption.getValue()) == HighsStatus.kOk;
+                return highs.setOptionValue(option.getOptionName(), stringOption.getValue()) == HighsStatus.kOk;
             }
             case BooleanOption booleanOption -> {
-                return this.highs.setOptionValue(option.getOptionName(), booleanOption.getValue()) == HighsStatus.kOk;
+                return highs.setOptionValue(option.getOptionName(), booleanOption.getValue()) == HighsStatus.kOk;
             }
             case DoubleOption doubleOption -> {
-                return this.highs.setOptionValue(option.getOptionName(), doubleOption.getValue()) == HighsStatus.kOk;
+                return highs.setOptionValue(option.getOptionName(), doubleOption.getValue()) == HighsStatus.kOk;
             }
             case IntegerOption integerOption -> {
-                return this.highs.setOptionValue(option.getOptionName(), integerOption.getValue()) == HighsStatus.kOk;
+                return highs.setOptionValue(option.getOptionName(), integerOption.getValue()) == HighsStatus.kOk;
             }
             default -> throw new OptionException("Option is not supported");
         }
@@ -64,6 +140,51 @@ public class Model {
         return new Variable(variableIndex);
     }
 
+    /**
+     * Adds the columns into their existing constraints in one batch, e.g. the columns generated by a pricing round.
+     * The basis of the model stays valid, so that the next solve is warm.
+     */
+    public List<Variable> addColumns(@NonNull final List<Column> columns) throws ConstraintException {
+        final int nmbColumns = columns.size();
+        final int nmbNonZeros = columns.stream().mapToInt(Column::getNmbCoefficients).sum();
+        for (final Column column : columns) {
+            for (int i = 0; i < column.getNmbCoefficients(); ++i) {
+                if (column.getConstraintIndex(i) >= this.highs.getNumRow()) {
+                    throw new ConstraintException(String.format("Constraint with index %d does not exist in the model", column.getConstraintIndex(i)));
+                }
+            }
+        }
+        if (nmbColumns == 0) {
+            return List.of();
+        }
+        final long firstColumn = this.highs.getNumCol();
+        try (Arena arena = Arena.ofConfined()) {
+            final MemorySegment costs = arena.allocate(ValueLayout.JAVA_DOUBLE, nmbColumns);
+            final MemorySegment lowerBounds = arena.allocate(ValueLayout.JAVA_DOUBLE, nmbColumns);
+            final MemorySegment upperBounds = arena.allocate(ValueLayout.JAVA_DOUBLE, nmbColumns);
+            final MemorySegment starts = arena.allocate(ValueLayout.JAVA_LONG, nmbColumns);
+            final MemorySegment indices = arena.allocate(ValueLayout.JAVA_LONG, Math.max(nmbNonZeros, 1));
+            final MemorySegment values = arena.allocate(ValueLayout.JAVA_DOUBLE, Math.max(nmbNonZeros, 1));
+            int start = 0;
+            for (int j = 0; j < nmbColumns; ++j) {
+                final Column column = columns.get(j);
+                costs.setAtIndex(ValueLayout.JAVA_DOUBLE, j, column.getCost());
+                lowerBounds.setAtIndex(ValueLayout.JAVA_DOUBLE, j, column.getLb());
+                upperBounds.setAtIndex(ValueLayout.JAVA_DOUBLE, j, column.getUb());
+                starts.setAtIndex(ValueLayout.JAVA_LONG, j, start);
+                for (int i = 0; i < column.getNmbCoefficients(); ++i) {
+                    indices.setAtIndex(ValueLayout.JAVA_LONG, start, column.getConstraintIndex(i));
+                    values.setAtIndex(ValueLayout.JAVA_DOUBLE, start, column.getCoefficient(i));
+                    ++start;
+                }
+            }
+            this.highs.addCols(nmbColumns, NativeArrays.asDoublePointer(costs), NativeArrays.asDoublePointer(lowerBounds),
+                    NativeArrays.asDoublePointer(upperBounds), nmbNonZeros, NativeArrays.asLongLongPointer(starts),
+                    NativeArrays.asLongLongPointer(indices), NativeArrays.asDoublePointer(values));
+        }
+        return LongStream.range(firstColumn, firstColumn + nmbColumns).mapToObj(Variable::new).toList();
+    }
+
     public void updateVariableCost(double newCost, @NonNull final Variable variable) {
         checkVariable(variable);
         this.highs.changeColCost(variable.index(), newCost);
@@ -147,6 +268,309 @@ public class Model {
         return solve();
     }
 
+    /**
+     * Minimizes on the executor. Cancelling the returned future stops the native solve through the HiGHS interrupt
+     * callbacks. The model must not be modified or solved by other threads until the future completes.
+     */
+    public CompletableFuture<Solution> minimizeAsync(@NonNull final Executor executor) {
+        return solveAsync(ObjSense.kMinimize, executor);
+    }
+
+    /**
+     * Maximizes on the executor. Cancelling the returned future stops the native solve through the HiGHS interrupt
+     * callbacks. The model must not be modified or solved by other threads until the future completes.
+     */
+    public CompletableFuture<Solution> maximizeAsync(@NonNull final Executor executor) {
+        return solveAsync(ObjSense.kMaximize, executor);
+    }
+
+    /**
+     * Minimizes within the time budget, stopping the solve through both the HiGHS time limit and the interrupt
+     * callbacks, which are checked more often. The best solution found so far is returned along with the MIP gap and
+     * dual bound, even if the solve is stopped or fails.
+     */
+    public AnytimeSolution minimizeWithin(@NonNull final Duration timeBudget) {
+        this.highs.changeObjectiveSense(ObjSense.kMinimize);
+        return solveWithin(timeBudget);
+    }
+
+    /**
+     * Maximizes within the time budget, stopping the solve through both the HiGHS time limit and the interrupt
+     * callbacks, which are checked more often. The best solution found so far is returned along with the MIP gap and
+     * dual bound, even if the solve is stopped or fails.
+     */
+    public AnytimeSolution maximizeWithin(@NonNull final Duration timeBudget) {
+        this.highs.changeObjectiveSense(ObjSense.kMaximize);
+        return solveWithin(timeBudget);
+    }
+
+    /**
+     * Captures the simplex factorization of the last solve. Returns an empty optional if no valid factorization is
+     * available, e.g. before any simplex solve.
+     */
+    public Optional<HotStart> captureHotStart() {
+        final highs.HotStart highsHotStart = this.highs.getHotStart();
+        if (!highsHotStart.getValid()) {
+            return Optional.empty();
+        }
+        return Optional.of(HotStart.copyOf(highsHotStart));
+    }
+
+    /**
+     * Solves again, with the objective sense of the last solve, restarting from a captured factorization. Falls back to
+     * a regular solve if HiGHS rejects the hot start, e.g. because the model dimensions changed since it was captured.
+     */
+    public Optional<Solution> resolveFrom(@NonNull final HotStart hotStart) {
+        this.highs.setHotStart(hotStart.getHighsHotStart());
+        return solve();
+    }
+
+    /**
+     * Copies the current simplex basis, e.g. the optimal basis of the last solve. Returns an empty optional if HiGHS has
+     * no valid basis.
+     */
+    public Optional<Basis> getBasis() {
+        final HighsBasis highsBasis = this.highs.getBasis();
+        if (!highsBasis.getValid()) {
+            return Optional.empty();
+        }
+        return Optional.of(Basis.copyOf(highsBasis));
+    }
+
+    /**
+     * Makes the next solve start from the basis, e.g. one captured on another model with the same structure. Returns
+     * false if the basis does not match the numbers of variables and constraints or if HiGHS rejects it.
+     */
+    public boolean setBasis(@NonNull final Basis basis) {
+        if (basis.getNmbVariables() != this.highs.getNumCol() || basis.getNmbConstraints() != this.highs.getNumRow()) {
+            return false;
+        }
+        return this.highs.setBasis(basis.toHighsBasis()) == HighsStatus.kOk;
+    }
+
+    /**
+     * Freezes the current basis and its factorization, typically the optimal one, before exploring what-if changes:
+     * {@code try (BasisCheckpoint checkpoint = model.freezeBasis()) { ... }}. Throws an IllegalStateException if there
+     * is no factorized basis, e.g. before the first simplex solve.
+     */
+    public BasisCheckpoint freezeBasis() {
+        return BasisCheckpoint.freeze(this.highs);
+    }
+
+    /**
+     * Sets the handler called by HiGHS for the given callback types during the next solves, replacing the previous one.
+     * An exception thrown by the handler interrupts the solve, which then throws a CallbackException.
+     */
+    public void setCallbackHandler(@NonNull final Consumer<CallbackContext> callbackHandler, @NonNull final HighsCallbackType... callbackTypes) {
+        this.callbackHandler = callbackHandler;
+        this.callbackTypes = callbackTypes.clone();
+    }
+
+    public void removeCallbackHandler() {
+        this.callbackHandler = null;
+        this.callbackTypes = new HighsCallbackType[0];
+    }
+
+    public Optional<Consumer<CallbackContext>> getCallbackHandler() {
+        return Optional.ofNullable(this.callbackHandler);
+    }
+
+    /**
+     * Callback types the handler was set for, empty without handler.
+     */
+    public HighsCallbackType[] getCallbackTypes() {
+        return this.callbackTypes.clone();
+    }
+
+    /**
+     * Sends the HiGHS log messages to the handler instead of the console, replacing the previous handler.
+     * An exception thrown by the handler drops the next messages and makes the solve throw a CallbackException.
+     */
+    public void setLogHandler(@NonNull final BiConsumer<HighsLogType, String> logHandler) throws OptionException {
+        removeLogHandler();
+        this.outputOptionsBeforeLogHandler = List.of(getBooleanOption(CommonBooleanOptions.SOLVER_OUTPUT),
+                getBooleanOption(CommonBooleanOptions.LOG_TO_CONSOLE));
+        this.logBridge = LogBridge.attach(this.highs, logHandler);
+        addOption(CommonBooleanOptions.SOLVER_OUTPUT.getOption(true));
+        addOption(CommonBooleanOptions.LOG_TO_CONSOLE.getOption(false));
+    }
+
+    /**
+     * Detaches the log handler and restores the output options it changed.
+     */
+    public void removeLogHandler() throws OptionException {
+        if (this.logBridge == null) {
+            return;
+        }
+        for (final Option option : this.outputOptionsBeforeLogHandler) {
+            addOption(option);
+        }
+        this.logBridge.close();
+        this.logBridge = null;
+    }
+
+    /**
+     * Streams the improving solutions saved during the last MIP solve, from the first one found to the best one.
+     * MIP_IMPROVING_SOLUTION_SAVE must be enabled before solving, otherwise the stream is empty.
+     * The solutions are copied before returning, as the native vector is owned by HiGHS and replaced by the next solve.
+     */
+    public Stream<SavedMipSolution> streamSavedMipSolutions() {
+        final HighsObjectiveSolutionVector savedMipSolutions = this.highs.getSavedMipSolutions();
+        final List<SavedMipSolution> copies = IntStream.range(0, savedMipSolutions.size())
+                .mapToObj(i -> SavedMipSolution.of(savedMipSolutions.get(i)))
+                .toList();
+        return copies.stream();
+    }
+
+    /**
+     * Tells whether the last solve found a feasible solution, which a solve stopped by a limit or an interrupt may not.
+     */
+    public boolean hasPrimalSolution() {
+        try (Arena arena = Arena.ofConfined()) {
+            final MemorySegment primalSolutionStatus = arena.allocate(ValueLayout.JAVA_LONG);
+            this.highs.getInfoValue("primal_solution_status", NativeArrays.asLongLongPointer(primalSolutionStatus));
+            return primalSolutionStatus.get(ValueLayout.JAVA_LONG, 0) == SolutionStatus.kSolutionStatusFeasible.swigValue();
+        }
+    }
+
+    /**
+     * Computes the cost and bound ranging of the last LP solved to optimality in a single native call.
+     * Returns an empty optional if HiGHS cannot compute the ranging, e.g. for MIPs or without a valid basis.
+     */
+    public Optional<SensitivityReport> getSensitivityReport() {
+        final HighsRanging highsRanging = new HighsRanging();
+        if (this.highs.getRanging(highsRanging) == HighsStatus.kError) {
+            return Optional.empty();
+        }
+        return Optional.of(SensitivityReport.of(highsRanging));
+    }
+
+    /**
+     * Finds in one solve the minimal repair of an infeasible model: the bounds and constraints may be violated, at the
+     * given cost per unit of violation, and the total cost of the violations is minimized. A negative penalty forbids
+     * the violation. The model itself is not modified.
+     */
+    public Optional<ViolationReport> relaxFeasibility(double lowerBoundPenalty, double upperBoundPenalty, double constraintPenalty) {
+        final int nmbVariables = (int) this.highs.getNumCol();
+        final int nmbConstraints = (int) this.highs.getNumRow();
+        final double[] lowerBoundPenalties = new double[nmbVariables];
+        final double[] upperBoundPenalties = new double[nmbVariables];
+        final double[] constraintPenalties = new double[nmbConstraints];
+        Arrays.fill(lowerBoundPenalties, lowerBoundPenalty);
+        Arrays.fill(upperBoundPenalties, upperBoundPenalty);
+        Arrays.fill(constraintPenalties, constraintPenalty);
+        return relaxFeasibility(lowerBoundPenalties, upperBoundPenalties, constraintPenalties);
+    }
+
+    /**
+     * Same as above with one penalty per variable lower bound, per variable upper bound and per constraint, indexed by
+     * variable and constraint index. The violation of a constraint is penalized on the side it violates.
+     */
+    public Optional<ViolationReport> relaxFeasibility(@NonNull final double[] lowerBoundPenalties, @NonNull final double[] upperBoundPenalties,
+                                                      @NonNull final double[] constraintPenalties) {
+        final LpData lpData = LpData.of(this.highs);
+        if (lowerBoundPenalties.length != lpData.nmbColumns || upperBoundPenalties.length != lpData.nmbColumns) {
+            throw new IllegalArgumentException("There must be one bound penalty per variable");
+        }
+        if (constraintPenalties.length != lpData.nmbRows) {
+            throw new IllegalArgumentException("There must be one penalty per constraint");
+        }
+        final HighsStatus status;
+        try (Arena arena = Arena.ofConfined()) {
+            // The global penalties are ignored since the local ones are all given
+            status = this.highs.feasibilityRelaxation(-1.0, -1.0, -1.0, toDoublePointer(arena, lowerBoundPenalties),
+                    toDoublePointer(arena, upperBoundPenalties), toDoublePointer(arena, constraintPenalties));
+        }
+        if (status == HighsStatus.kError) {
+            return Optional.empty();
+        }
+        final Solution solution = getSolution();
+        if (solution.getNmbVariables() < lpData.nmbColumns) {
+            return Optional.empty();
+        }
+        final double[] variableValues = solution.getVariableValues();
+        final double[] variableViolations = new double[lpData.nmbColumns];
+        double weightedViolation = 0.0;
+        for (int j = 0; j < lpData.nmbColumns; ++j) {
+            variableViolations[j] = getViolation(variableValues[j], lpData.columnLowerBounds[j], lpData.columnUpperBounds[j]);
+            weightedViolation += Math.abs(variableViolations[j]) * Math.max(variableViolations[j] < 0.0 ? lowerBoundPenalties[j] : upperBoundPenalties[j], 0.0);
+        }
+        final double[] constraintViolations = new double[lpData.nmbRows];
+        final Constraint[] constraints = new Constraint[lpData.nmbRows];
+        for (int i = 0; i < lpData.nmbRows; ++i) {
+            constraints[i] = new Constraint(i, getConstraintType(lpData.rowLowerBounds[i], lpData.rowUpperBounds[i]));
+            double activity = 0.0;
+            for (int k = lpData.rowStarts[i]; k < lpData.rowStarts[i + 1]; ++k) {
+                activity += lpData.rowValues[k] * variableValues[lpData.rowIndices[k]];
+            }
+            constraintViolations[i] = getViolation(activity, lpData.rowLowerBounds[i], lpData.rowUpperBounds[i]);
+            weightedViolation += Math.abs(constraintViolations[i]) * Math.max(constraintPenalties[i], 0.0);
+        }
+        final double tolerance = getDoubleOption(CommonDoubleOptions.PRIMAL_FEASIBILITY_TOLERANCE);
+        return Optional.of(ViolationReport.of(solution, variableViolations, List.of(constraints), constraintViolations, weightedViolation, tolerance));
+    }
+
+    /**
+     * Hashes the dimensions, costs, bounds and constraint matrix of the model, extracted in bulk.
+     * Two models built identically have the same fingerprint, which is used to tag the solutions stored in a {@link SolutionFile}.
+     */
+    public long getFingerprint() {
+        return computeFingerprint(true);
+    }
+
+    /**
+     * Same hash without the costs but with the integrality, which only changes with the feasible set of the model.
+     */
+    long getStructureFingerprint() {
+        long fingerprint = computeFingerprint(false);
+        for (final int integrality : LpData.readIntegrality(this.highs)) {
+            fingerprint = hash(fingerprint, integrality);
+        }
+        return fingerprint;
+    }
+
+    private long computeFingerprint(boolean withCosts) {
+        final long nmbVariables = this.highs.getNumCol();
+        final long nmbConstraints = this.highs.getNumRow();
+        final long nmbNonZeros = this.highs.getNumNz();
+        long fingerprint = hash(hash(hash(FINGERPRINT_SEED, nmbVariables), nmbConstraints), nmbNonZeros);
+        try (Arena arena = Arena.ofConfined()) {
+            final MemorySegment count = arena.allocate(ValueLayout.JAVA_LONG);
+            final MemorySegment nmbEntries = arena.allocate(ValueLayout.JAVA_LONG);
+            final MemorySegment starts = arena.allocate(ValueLayout.JAVA_LONG, Math.max(nmbVariables, nmbConstraints));
+            final MemorySegment indices = arena.allocate(ValueLayout.JAVA_LONG, nmbNonZeros);
+            final MemorySegment values = arena.allocate(ValueLayout.JAVA_DOUBLE, nmbNonZeros);
+            if (nmbVariables > 0) {
+                final MemorySegment costs = arena.allocate(ValueLayout.JAVA_DOUBLE, nmbVariables);
+                final MemorySegment lowerBounds = arena.allocate(ValueLayout.JAVA_DOUBLE, nmbVariables);
+                final MemorySegment upperBounds = arena.allocate(ValueLayout.JAVA_DOUBLE, nmbVariables);
+                this.highs.getCols(0, nmbVariables - 1, NativeArrays.asLongLongPointer(count),
+                        NativeArrays.asDoublePointer(costs), NativeArrays.asDoublePointer(lowerBounds), NativeArrays.asDoublePointer(upperBounds),
+                        NativeArrays.asLongLongPointer(nmbEntries), NativeArrays.asLongLongPointer(starts),
+                        NativeArrays.asLongLongPointer(indices), NativeArrays.asDoublePointer(values));
+                if (withCosts) {
+                    fingerprint = hash(fingerprint, costs);
+                }
+                fingerprint = hash(fingerprint, lowerBounds);
+                fingerprint = hash(fingerprint, upperBounds);
+                fingerprint = hash(fingerprint, starts.asSlice(0, nmbVariables * Long.BYTES));
+                fingerprint = hash(fingerprint, indices);
+                fingerprint = hash(fingerprint, values);
+            }
+            if (nmbConstraints > 0) {
+                final MemorySegment lowerBounds = arena.allocate(ValueLayout.JAVA_DOUBLE, nmbConstraints);
+                final MemorySegment upperBounds = arena.allocate(ValueLayout.JAVA_DOUBLE, nmbConstraints);
+                this.highs.getRows(0, nmbConstraints - 1, NativeArrays.asLongLongPointer(count),
+                        NativeArrays.asDoublePointer(lowerBounds), NativeArrays.asDoublePointer(upperBounds),
+                        NativeArrays.asLongLongPointer(nmbEntries), NativeArrays.asLongLongPointer(starts),
+                        NativeArrays.asLongLongPointer(indices), NativeArrays.asDoublePointer(values));
+                fingerprint = hash(fingerprint, lowerBounds);
+                fingerprint = hash(fingerprint, upperBounds);
+            }
+        }
+        return fingerprint;
+    }
+
     public boolean parseInitialSolution(@NonNull final InitialSolution initialSolution) {
 
         class InitialSolutionConsumer implements ObjDoubleConsumer<Variable> {
@@ -176,11 +600,181 @@ public class Model {
         return this.highs.setSolution(nmbVariables, consumer.indices.cast(), consumer.values.cast()) == HighsStatus.kOk;
     }
 
+    private static SWIGTYPE_p_double toDoublePointer(final Arena arena, final double[] values) {
+        final MemorySegment segment = arena.allocate(ValueLayout.JAVA_DOUBLE, Math.max(values.length, 1));
+        MemorySegment.copy(values, 0, segment, ValueLayout.JAVA_DOUBLE, 0, values.length);
+        return NativeArrays.asDoublePointer(segment);
+    }
+
+    private static double getViolation(double value, double lb, double ub) {
+        if (value > ub) {
+            return value - ub;
+        }
+        return value < lb ? value - lb : 0.0;
+    }
+
+    private static boolean isOneOf(final CallbackContext context, final HighsCallbackType[] callbackTypes) {
+        for (final HighsCallbackType callbackType : callbackTypes) {
+            if (context.is(callbackType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // FNV-1a over 64-bit words
+    private static long hash(long fingerprint, long word) {
+        return (fingerprint ^ word) * FINGERPRINT_PRIME;
+    }
+
+    private static long hash(long fingerprint, final MemorySegment words) {
+        final long nmbWords = words.byteSize() / Long.BYTES;
+        for (long i = 0; i < nmbWords; ++i) {
+            fingerprint = hash(fingerprint, words.getAtIndex(ValueLayout.JAVA_LONG, i));
+        }
+        return fingerprint;
+    }
+
+    Highs getHighs() {
+        return this.highs;
+    }
+
+    boolean isOptionsModified() {
+        return this.optionsModified;
+    }
+
+    private CompletableFuture<Solution> solveAsync(final ObjSense objSense, final Executor executor) {
+        final CompletableFuture<Solution> future = new CompletableFuture<>();
+        final Consumer<CallbackContext> callbackHandler = composeCallbackHandler(_ -> future.isCancelled());
+        final HighsCallbackType[] callbackTypes = composeCallbackTypes();
+        executor.execute(() -> {
+            if (future.isDone()) {
+                return;
+            }
+            this.highs.changeObjectiveSense(objSense);
+            try {
+                if (run(callbackHandler, callbackTypes) == HighsStatus.kError) {
+                    future.completeExceptionally(new NoSuchElementException("HiGHS failed to solve the model"));
+                } else {
+                    future.complete(getSolution());
+                }
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    private AnytimeSolution solveWithin(final Duration timeBudget) {
+        final long deadline = System.nanoTime() + timeBudget.toNanos();
+        final Option budgetTimeLimit = CommonDoubleOptions.TIME_LIMIT.getOption(timeBudget.toNanos() / 1e9);
+        try (Arena arena = Arena.ofConfined()) {
+            final MemorySegment timeLimit = arena.allocate(ValueLayout.JAVA_DOUBLE);
+            this.highs.getOptionValue(budgetTimeLimit.getOptionName(), NativeArrays.asDoublePointer(timeLimit));
+            final double previousTimeLimit = timeLimit.get(ValueLayout.JAVA_DOUBLE, 0);
+            setSupportedOption(this.highs, CommonDoubleOptions.TIME_LIMIT.getOption(Math.min(previousTimeLimit, timeBudget.toNanos() / 1e9)));
+            try {
+                run(composeCallbackHandler(_ -> System.nanoTime() >= deadline), composeCallbackTypes());
+            } finally {
+                setSupportedOption(this.highs, CommonDoubleOptions.TIME_LIMIT.getOption(previousTimeLimit));
+            }
+            final MemorySegment mipGap = arena.allocate(ValueLayout.JAVA_DOUBLE);
+            final MemorySegment mipDualBound = arena.allocate(ValueLayout.JAVA_DOUBLE);
+            this.highs.getInfoValue("mip_gap", NativeArrays.asDoublePointer(mipGap));
+            this.highs.getInfoValue("mip_dual_bound", NativeArrays.asDoublePointer(mipDualBound));
+            final Solution incumbent = hasPrimalSolution() ? getSolution() : null;
+            return new AnytimeSolution(incumbent, mipGap.get(ValueLayout.JAVA_DOUBLE, 0), mipDualBound.get(ValueLayout.JAVA_DOUBLE, 0),
+                    System.nanoTime() >= deadline);
+        }
+    }
+
+    // Interrupts the solve when the predicate holds during an interrupt callback, and otherwise calls the handler set
+    // through setCallbackHandler for the callback types it was set for
+    private Consumer<CallbackContext> composeCallbackHandler(final Predicate<CallbackContext> interruptPredicate) {
+        final Consumer<CallbackContext> callbackHandler = this.callbackHandler;
+        final HighsCallbackType[] callbackTypes = this.callbackTypes;
+        return context -> {
+            if (isOneOf(context, INTERRUPT_CALLBACK_TYPES) && interruptPredicate.test(context)) {
+                context.interrupt();
+            } else if (callbackHandler != null && isOneOf(context, callbackTypes)) {
+                callbackHandler.accept(context);
+            }
+        };
+    }
+
+    private HighsCallbackType[] composeCallbackTypes() {
+        return Stream.concat(Stream.of(INTERRUPT_CALLBACK_TYPES), Stream.of(this.callbackTypes))
+                .distinct()
+                .toArray(HighsCallbackType[]::new);
+    }
+
     private Optional<Solution> solve() {
-        if (this.highs.run() == HighsStatus.kError) {
+        final HighsStatus status = this.callbackHandler == null
+                ? runHighs()
+                : run(this.callbackHandler, this.callbackTypes);
+        if (status == HighsStatus.kError) {
             return Optional.empty();
         }
-        return Optional.of(new Solution(this.highs.getSolution(), this.highs.getModelStatus(), this.highs.getObjectiveValue()));
+        return Optional.of(getSolution());
+    }
+
+    private HighsStatus run(final Consumer<CallbackContext> callbackHandler, final HighsCallbackType[] callbackTypes) {
+        final HighsStatus status;
+        final Optional<Throwable> failure;
+        try (CallbackBridge callbackBridge = CallbackBridge.attach(this.highs, callbackHandler, callbackTypes)) {
+            status = runHighs();
+            failure = callbackBridge.getFailure();
+        }
+        if (failure.isPresent()) {
+            throw new CallbackException("The callback handler failed during the solve", failure.get());
+        }
+        return status;
+    }
+
+    // Runs HiGHS and throws the failure of the log handler, if any
+    private HighsStatus runHighs() {
+        final HighsStatus status = this.highs.run();
+        final Optional<Throwable> logFailure = this.logBridge == null ? Optional.empty() : this.logBridge.takeFailure();
+        if (logFailure.isPresent()) {
+            throw new CallbackException("The log handler failed during the solve", logFailure.get());
+        }
+        return status;
+    }
+
+    private Option getBooleanOption(final CommonBooleanOptions commonBooleanOption) {
+        final String optionName = commonBooleanOption.getOption(false).getOptionName();
+        try (Arena arena = Arena.ofConfined()) {
+            // A C++ bool takes one byte
+            final MemorySegment value = arena.allocate(ValueLayout.JAVA_BYTE);
+            this.highs.getOptionValue(optionName, new SWIGTYPE_p_bool(value.address(), false));
+            return commonBooleanOption.getOption(value.get(ValueLayout.JAVA_BYTE, 0) != 0);
+        }
+    }
+
+    private double getDoubleOption(final CommonDoubleOptions commonDoubleOption) {
+        final String optionName = commonDoubleOption.getOption(0.0).getOptionName();
+        try (Arena arena = Arena.ofConfined()) {
+            final MemorySegment value = arena.allocate(ValueLayout.JAVA_DOUBLE);
+            this.highs.getOptionValue(optionName, NativeArrays.asDoublePointer(value));
+            return value.get(ValueLayout.JAVA_DOUBLE, 0);
+        }
+    }
+
+    /**
+     * Type of a constraint read back from its sides, GENERAL when both are finite and different.
+     */
+    private static ConstraintType getConstraintType(double lhs, double rhs) {
+        if (lhs == rhs) {
+            return ConstraintType.EQUALITY;
+        }
+        if (lhs <= -INFINITE_BOUND) {
+            return ConstraintType.LESS_THAN_OR_EQUAL_TO;
+        }
+        return rhs >= INFINITE_BOUND ? ConstraintType.GREATER_THAN_OR_EQUAL_TO : ConstraintType.GENERAL;
+    }
+
+    private Solution getSolution() {
+        return Solution.copyOf(this.highs.getSolution(), this.highs.getModelStatus(), this.highs.getObjectiveValue());
     }
 
     private Constraint addConstraint(double lhs, double rhs, final LinearExpression linearExpression, final ConstraintType constraintType) {
@@ -213,7 +807,7 @@ public class Model {
         return new Constraint(this.highs.getNumRow() - 1, constraintType);
     }
 
-    private void checkVariable(final Variable variable) throws VariableException {
+    void checkVariable(final Variable variable) throws VariableException {
         if (variable.index() >= this.highs.getNumCol()) {
             throw new VariableException(String.format("Variable with index %d does not exist in the model", variable.index()));
         }
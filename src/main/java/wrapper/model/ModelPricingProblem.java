@@ -0,0 +1,49 @@
+package wrapper.model;
+
+import lombok.NonNull;
+import wrapper.model.constraint.ConstraintException;
+import wrapper.model.variable.Column;
+import wrapper.solution.Solution;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+/**
+ * Pricing problem solved as a model, whose objective is updated from the dual values before each minimization and
+ * whose optimal solution is turned into columns.
+ */
+public final class ModelPricingProblem implements PricingProblem {
+
+    /**
+     * Builds the columns of an optimal solution of the pricing model.
+     */
+    @FunctionalInterface
+    public interface ColumnBuilder {
+
+        List<Column> build(Solution solution) throws ConstraintException;
+
+    }
+
+    private final Model model;
+    private final BiConsumer<Model, double[]> objectiveUpdater;
+    private final ColumnBuilder columnBuilder;
+
+    public ModelPricingProblem(@NonNull final Model model, @NonNull final BiConsumer<Model, double[]> objectiveUpdater,
+                               @NonNull final ColumnBuilder columnBuilder) {
+        this.model = model;
+        this.objectiveUpdater = objectiveUpdater;
+        this.columnBuilder = columnBuilder;
+    }
+
+    @Override
+    public List<Column> price(@NonNull final double[] dualValues) throws ConstraintException {
+        this.objectiveUpdater.accept(this.model, dualValues);
+        final Optional<Solution> solution = this.model.minimize();
+        if (solution.isEmpty() || !solution.get().isOptimal()) {
+            return List.of();
+        }
+        return this.columnBuilder.build(solution.get());
+    }
+
+}
@@ -0,0 +1,14 @@
+package wrapper.model;
+
+/**
+ * Moves the Lagrangian multipliers of a {@link LagrangianSolver} towards the maximum of the Lagrangian dual function.
+ */
+public interface MultiplierUpdate {
+
+    /**
+     * Returns the next multipliers, within their bounds, from the value of the dual function at the current multipliers
+     * and a supergradient there.
+     */
+    double[] next(double[] multipliers, double lagrangianValue, double[] subgradient, double[] lowerBounds, double[] upperBounds);
+
+}
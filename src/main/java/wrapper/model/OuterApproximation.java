@@ -0,0 +1,115 @@
+package wrapper.model;
+
+import lombok.Getter;
+import lombok.NonNull;
+import wrapper.model.expression.LinearExpression;
+import wrapper.model.expression.LinearExpressionException;
+import wrapper.model.variable.Variable;
+import wrapper.solution.Solution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Piecewise-linear outer approximation of convex separable terms of a minimization objective. Each term weight * f(x)
+ * is modeled by an epigraph variable t, with cost weight, bounded from below by tangents of f. Instead of a fixed grid,
+ * the tangents are added only where the last solution underestimates a term by more than the tolerance, in one batch
+ * per round through a {@link CutManager}, and the model is re-solved warm until every term is within the tolerance.
+ */
+public final class OuterApproximation {
+
+    private final Model model;
+    private final CutManager cutManager;
+    private final List<ConvexTerm> convexTerms = new ArrayList<>();
+
+    @Getter
+    private int nmbRounds = 0;
+    /**
+     * Whether the last minimization reached the tolerance. It did not if the rounds ran out, or if a term was still
+     * above the tolerance but its new tangent was rejected as a duplicate of one already in the model, which happens
+     * when the tolerance is below the precision of the cuts.
+     */
+    @Getter
+    private boolean converged = false;
+
+    public OuterApproximation(@NonNull final Model model) {
+        this.model = model;
+        // With an infinite slack tolerance, the tangents never get older and are never evicted
+        this.cutManager = new CutManager(model, Integer.MAX_VALUE, Double.MAX_VALUE);
+    }
+
+    /**
+     * Adds weight * f(argument) to the objective, with the tangents of f at the initial points. The weight must be
+     * positive, so that the epigraph variable is pushed down to the function, and the initial points must bound the
+     * first solve, e.g. the bounds of the argument.
+     */
+    public ConvexTerm addConvexTerm(@NonNull final Variable argument, double weight, @NonNull final DoubleUnaryOperator function,
+                                    @NonNull final DoubleUnaryOperator derivative, @NonNull final double... initialPoints) {
+        if (weight <= 0.0) {
+            throw new IllegalArgumentException("The weight of a convex term must be positive");
+        }
+        if (initialPoints.length == 0) {
+            throw new IllegalArgumentException("A convex term needs at least one initial tangent");
+        }
+        this.model.checkVariable(argument);
+        final Variable epigraph = this.model.addContinuousVariable(-Double.MAX_VALUE, Double.MAX_VALUE, weight);
+        final ConvexTerm convexTerm = new ConvexTerm(argument, epigraph, function, derivative);
+        this.convexTerms.add(convexTerm);
+        for (final double initialPoint : initialPoints) {
+            addTangent(convexTerm, initialPoint);
+        }
+        return convexTerm;
+    }
+
+    /**
+     * Refines the tangents until no term is underestimated by more than tolerance * max(1, |f(x)|), or until the
+     * maximum number of rounds. Returns the last solution, whose objective value is then a lower bound of the optimal
+     * one, and stops early if no new tangent can be added.
+     */
+    public Optional<Solution> minimize(double tolerance, int maxRounds) {
+        this.converged = false;
+        Optional<Solution> solution = Optional.empty();
+        for (int round = 0; round < maxRounds; ++round) {
+            solution = this.cutManager.minimize();
+            ++this.nmbRounds;
+            if (solution.isEmpty() || !solution.get().isOptimal()) {
+                return solution;
+            }
+            boolean rejected = false;
+            for (final ConvexTerm convexTerm : this.convexTerms) {
+                final double argumentValue = solution.get().getVariableValue(convexTerm.getArgument());
+                final double value = convexTerm.getValue(argumentValue);
+                if (convexTerm.getApproximationError(solution.get()) > tolerance * Math.max(1.0, Math.abs(value))) {
+                    rejected |= !addTangent(convexTerm, argumentValue);
+                }
+            }
+            if (this.cutManager.getNmbPendingCuts() == 0) {
+                this.converged = !rejected;
+                break;
+            }
+        }
+        return solution;
+    }
+
+    public int getNmbTangents() {
+        return this.cutManager.getNmbActiveCuts() + this.cutManager.getNmbPendingCuts();
+    }
+
+    // t - f'(x0) x >= f(x0) - f'(x0) x0, false if the cut manager rejected it as a duplicate
+    private boolean addTangent(final ConvexTerm convexTerm, double point) {
+        final double value = convexTerm.getValue(point);
+        final double slope = convexTerm.getDerivative(point);
+        final LinearExpression tangent = new LinearExpression();
+        try {
+            tangent.addCoefficient(convexTerm.getEpigraph(), 1.0);
+            tangent.addCoefficient(convexTerm.getArgument(), -slope);
+        } catch (LinearExpressionException e) {
+            // The epigraph variable is not the argument
+            throw new IllegalStateException(e);
+        }
+        return this.cutManager.addGreaterThanOrEqualToCut(value - slope * point, tangent);
+    }
+
+}
@@ -0,0 +1,233 @@
+package wrapper.model;
+
+import highs.Highs;
+import highs.HighsModelStatus;
+import highs.HighsPresolveStatus;
+import highs.HighsSolution;
+import highs.HighsStatus;
+import highs.ObjSense;
+import highs.PresolveRuleType;
+import highs.SWIGTYPE_p_long_long;
+import lombok.NonNull;
+import wrapper.model.option.CommonIntegerOptions;
+import wrapper.model.option.CommonStringOptions;
+import wrapper.model.variable.Variable;
+import wrapper.model.variable.VariableException;
+import wrapper.solution.Solution;
+import wrapper.util.NativeArrays;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Presolves a model once and runs the next solves on the reduced model, postsolving their solutions back to the
+ * variables and constraints of the original model. The presolve runs on a copy of the model without the reductions
+ * that depend on the costs, and is only repeated when the matrix, the bounds, the integrality or the objective sense
+ * changes. New costs are written into the reduced model before each solve; an LP solution whose postsolved duals do
+ * not prove it optimal for them, or a MIP with new costs, falls back to a new presolve.
+ * Models that presolve cannot reduce, or proves infeasible or unbounded, are solved directly.
+ */
+public final class PresolvedModel {
+
+    // Reductions which can be switched off and whose result depends on the costs
+    private static final int COST_DEPENDENT_RULES = ruleMask(PresolveRuleType.kPresolveRuleForcingCol,
+            PresolveRuleType.kPresolveRuleFreeColSubstitution, PresolveRuleType.kPresolveRuleDoubletonEquation,
+            PresolveRuleType.kPresolveRuleDependentFreeCols, PresolveRuleType.kPresolveRuleAggregator,
+            PresolveRuleType.kPresolveRuleParallelRowsAndCols, PresolveRuleType.kPresolveRuleSparsify);
+    private static final double DUAL_TOLERANCE = 1E-7;
+
+    private final Model model;
+
+    // Copy of the model which ran the presolve and keeps what the postsolve needs
+    private Model presolver = null;
+    private Model reducedModel = null;
+    private HighsPresolveStatus presolveStatus = HighsPresolveStatus.kNotPresolved;
+    private long[] originalVariableIndices = new long[0];
+    private long[] originalConstraintIndices = new long[0];
+    private long structureFingerprint;
+    private ObjSense objSense;
+    private LpData lpData;
+    private boolean mip;
+    // Costs the presolve ran with
+    private double[] presolveCosts = new double[0];
+
+    public PresolvedModel(@NonNull final Model model) {
+        this.model = model;
+    }
+
+    public Optional<Solution> minimize() {
+        return solve(ObjSense.kMinimize);
+    }
+
+    public Optional<Solution> maximize() {
+        return solve(ObjSense.kMaximize);
+    }
+
+    /**
+     * Status of the last presolve, kNotPresolved before the first solve.
+     */
+    public HighsPresolveStatus getPresolveStatus() {
+        return this.presolveStatus;
+    }
+
+    public int getNmbReducedVariables() {
+        return this.originalVariableIndices.length;
+    }
+
+    public int getNmbReducedConstraints() {
+        return this.originalConstraintIndices.length;
+    }
+
+    /**
+     * Maps a variable of the reduced model to the variable of the original model it stands for.
+     */
+    public Variable getOriginalVariable(@NonNull final Variable reducedVariable) throws VariableException {
+        if (reducedVariable.index() >= this.originalVariableIndices.length) {
+            throw new VariableException(String.format("Variable with index %d does not exist in the reduced model", reducedVariable.index()));
+        }
+        return new Variable(this.originalVariableIndices[(int) reducedVariable.index()]);
+    }
+
+    private Optional<Solution> solve(final ObjSense objSense) {
+        final double[] costs = LpData.readCosts(this.model.getHighs());
+        final long modelFingerprint = this.model.getStructureFingerprint();
+        boolean presolved = false;
+        if (this.presolver == null || modelFingerprint != this.structureFingerprint || objSense != this.objSense
+                || this.mip && !Arrays.equals(costs, this.presolveCosts)) {
+            presolve(objSense, modelFingerprint, costs);
+            presolved = true;
+        }
+        if (this.presolveStatus != HighsPresolveStatus.kReduced && this.presolveStatus != HighsPresolveStatus.kReducedToEmpty) {
+            return objSense == ObjSense.kMinimize ? this.model.minimize() : this.model.maximize();
+        }
+        final Optional<Solution> solution = solveReduced(objSense, costs);
+        if (presolved || solution.isEmpty() || !solution.get().isOptimal() || isDualFeasible(solution.get(), objSense, costs)) {
+            return solution;
+        }
+        // The kept reductions fixed some removed variables for the old costs
+        presolve(objSense, modelFingerprint, costs);
+        return solveReduced(objSense, costs);
+    }
+
+    private Optional<Solution> solveReduced(final ObjSense objSense, final double[] costs) {
+        final Highs reducedHighs = this.reducedModel.getHighs();
+        final int nmbReducedVariables = this.originalVariableIndices.length;
+        if (nmbReducedVariables > 0) {
+            try (Arena arena = Arena.ofConfined()) {
+                final MemorySegment reducedCosts = arena.allocate(ValueLayout.JAVA_DOUBLE, nmbReducedVariables);
+                for (int k = 0; k < nmbReducedVariables; ++k) {
+                    reducedCosts.setAtIndex(ValueLayout.JAVA_DOUBLE, k, costs[(int) this.originalVariableIndices[k]]);
+                }
+                reducedHighs.changeColsCost(0, nmbReducedVariables - 1, NativeArrays.asDoublePointer(reducedCosts));
+            }
+        }
+        final Optional<Solution> reducedSolution = objSense == ObjSense.kMinimize ? this.reducedModel.minimize() : this.reducedModel.maximize();
+        if (reducedSolution.isEmpty()) {
+            return reducedSolution;
+        }
+        final Highs highs = this.presolver.getHighs();
+        if (highs.postsolve(reducedHighs.getSolution(), reducedHighs.getBasis()) == HighsStatus.kError) {
+            return Optional.empty();
+        }
+        final HighsModelStatus modelStatus = this.presolveStatus == HighsPresolveStatus.kReducedToEmpty
+                ? HighsModelStatus.kOptimal
+                : reducedHighs.getModelStatus();
+        final HighsSolution postsolvedSolution = highs.getSolution();
+        // The offset of the reduced model holds the removed variables at their presolve costs, so the objective is
+        // recomputed on the postsolved values in place before the single copy
+        double objectiveValue = getObjectiveOffset(this.model.getHighs());
+        final MemorySegment variableValues = NativeArrays.view(postsolvedSolution.getCol_value());
+        for (int j = 0; j < costs.length; ++j) {
+            objectiveValue += costs[j] * variableValues.getAtIndex(ValueLayout.JAVA_DOUBLE, j);
+        }
+        return Optional.of(Solution.copyOf(postsolvedSolution, modelStatus, objectiveValue));
+    }
+
+    /**
+     * Checks the postsolved LP solution against the current costs: reduced costs of the right sign at the bounds and
+     * zero in between, row duals of the right sign on the active side and zero on inactive rows.
+     */
+    private boolean isDualFeasible(final Solution solution, final ObjSense objSense, final double[] costs) {
+        if (this.mip) {
+            return true;
+        }
+        final double sense = objSense == ObjSense.kMinimize ? 1.0 : -1.0;
+        final double[] variableValues = solution.getVariableValues();
+        final double[] constraintValues = solution.getConstraintValues();
+        final double[] dualValues = solution.getDualValues();
+        if (dualValues.length != this.lpData.nmbRows) {
+            return false;
+        }
+        final double[] reducedCosts = new double[this.lpData.nmbColumns];
+        for (int j = 0; j < reducedCosts.length; ++j) {
+            reducedCosts[j] = sense * costs[j];
+        }
+        for (int i = 0; i < this.lpData.nmbRows; ++i) {
+            final double dual = sense * dualValues[i];
+            if (dual > DUAL_TOLERANCE && constraintValues[i] > this.lpData.rowLowerBounds[i] + DUAL_TOLERANCE
+                    || dual < -DUAL_TOLERANCE && constraintValues[i] < this.lpData.rowUpperBounds[i] - DUAL_TOLERANCE) {
+                return false;
+            }
+            for (int k = this.lpData.rowStarts[i]; k < this.lpData.rowStarts[i + 1]; ++k) {
+                reducedCosts[this.lpData.rowIndices[k]] -= this.lpData.rowValues[k] * dual;
+            }
+        }
+        for (int j = 0; j < reducedCosts.length; ++j) {
+            final double tolerance = DUAL_TOLERANCE * Math.max(1.0, Math.abs(costs[j]));
+            if (reducedCosts[j] > tolerance && variableValues[j] > this.lpData.columnLowerBounds[j] + DUAL_TOLERANCE
+                    || reducedCosts[j] < -tolerance && variableValues[j] < this.lpData.columnUpperBounds[j] - DUAL_TOLERANCE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void presolve(final ObjSense objSense, long modelFingerprint, final double[] costs) {
+        this.presolver = this.model.copy();
+        final Highs highs = this.presolver.getHighs();
+        highs.changeObjectiveSense(objSense);
+        Model.setSupportedOption(highs, CommonStringOptions.PRESOLVE.getOption("on"));
+        Model.setSupportedOption(highs, CommonIntegerOptions.PRESOLVE_RULE_OFF.getOption(COST_DEPENDENT_RULES));
+        highs.presolve();
+        this.presolveStatus = highs.getModelPresolveStatus();
+        this.structureFingerprint = modelFingerprint;
+        this.objSense = objSense;
+        this.presolveCosts = costs;
+        this.lpData = LpData.of(highs);
+        this.mip = highs.getModel().isMip();
+        final Highs reducedHighs = new Highs();
+        reducedHighs.passOptions(highs.getOptions());
+        Model.setSupportedOption(reducedHighs, CommonStringOptions.PRESOLVE.getOption("off"));
+        reducedHighs.passModel(highs.getPresolvedModel());
+        this.reducedModel = new Model(reducedHighs);
+        this.originalVariableIndices = toArray(highs.getPresolveOrigColsIndex(), reducedHighs.getNumCol());
+        this.originalConstraintIndices = toArray(highs.getPresolveOrigRowsIndex(), reducedHighs.getNumRow());
+    }
+
+    private static double getObjectiveOffset(final Highs highs) {
+        try (Arena arena = Arena.ofConfined()) {
+            final MemorySegment offset = arena.allocate(ValueLayout.JAVA_DOUBLE);
+            highs.getObjectiveOffset(NativeArrays.asDoublePointer(offset));
+            return offset.get(ValueLayout.JAVA_DOUBLE, 0);
+        }
+    }
+
+    private static int ruleMask(final PresolveRuleType... rules) {
+        int mask = 0;
+        for (final PresolveRuleType rule : rules) {
+            mask |= 1 << rule.swigValue();
+        }
+        return mask;
+    }
+
+    private static long[] toArray(final SWIGTYPE_p_long_long indices, long nmbIndices) {
+        if (indices == null || nmbIndices == 0) {
+            return new long[0];
+        }
+        return MemorySegment.ofAddress(SWIGTYPE_p_long_long.getCPtr(indices)).reinterpret(nmbIndices * Long.BYTES).toArray(ValueLayout.JAVA_LONG);
+    }
+
+}
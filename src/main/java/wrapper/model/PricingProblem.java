@@ -0,0 +1,21 @@
+package wrapper.model;
+
+import wrapper.model.constraint.ConstraintException;
+import wrapper.model.variable.Column;
+
+import java.util.List;
+
+/**
+ * Prices columns for a {@link ColumnGenerationSolver}, e.g. a shortest path or a knapsack problem.
+ * Pricing problems run concurrently, so an implementation must not share mutable state with the other ones.
+ */
+@FunctionalInterface
+public interface PricingProblem {
+
+    /**
+     * Returns candidate columns for the dual values of the master constraints. The candidates whose reduced cost is
+     * not improving are ignored by the solver.
+     */
+    List<Column> price(double[] dualValues) throws ConstraintException;
+
+}
@@ -0,0 +1,118 @@
+package wrapper.model;
+
+import highs.Highs;
+import lombok.NonNull;
+import wrapper.model.option.CommonBooleanOptions;
+import wrapper.model.option.Option;
+import wrapper.model.option.OptionException;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Pool of HiGHS instances with their options already applied, to serve many small models without paying for the
+ * creation and configuration of a HiGHS instance per model. Checkout and release do not lock: the idle instances are
+ * kept in a lock-free stack, so the most recently released (and cache-warm) instance is reused first, and the lent
+ * models in a concurrent set, so that a model is released only once and only to the pool which lent it.
+ * A model must not be used anymore once released.
+ */
+public class SolverPool {
+
+    private final List<Option> options;
+    private final ConcurrentLinkedDeque<Highs> idleSolvers = new ConcurrentLinkedDeque<>();
+    // Model does not override equals, so this set compares the lent models by identity
+    private final Set<Model> lentModels = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates the given number (at least one) of HiGHS instances upfront, with the solver output disabled and the
+     * options applied.
+     */
+    public SolverPool(int initialSize, @NonNull final Option... options) throws OptionException {
+        if (initialSize < 1) {
+            throw new IllegalArgumentException("A solver pool must start with at least one HiGHS instance");
+        }
+        this.options = Stream.concat(Stream.of(CommonBooleanOptions.SOLVER_OUTPUT.getOption(false)), Stream.of(options)).toList();
+        for (int i = 0; i < initialSize; ++i) {
+            this.idleSolvers.push(createSolver());
+        }
+    }
+
+    /**
+     * Lends an empty model, creating a new HiGHS instance only if none is idle.
+     */
+    public Model checkout() {
+        final Highs highs = this.idleSolvers.poll();
+        final Model model;
+        try {
+            model = new Model(highs != null ? highs : createSolver());
+        } catch (OptionException _) {
+            // Should never throw, the options were applied successfully when creating the pool.
+            throw new IllegalStateException("Options of the pool could not be applied");
+        }
+        this.lentModels.add(model);
+        return model;
+    }
+
+    /**
+     * Clears the model, removes the callback and log handlers the borrower set, and gives its HiGHS instance back to the
+     * pool. The options are reset only if they were modified through the model.
+     * Throws an IllegalArgumentException if the model was not lent by this pool or was already released.
+     */
+    public void release(@NonNull final Model model) {
+        if (!this.lentModels.remove(model)) {
+            throw new IllegalArgumentException("Model was not lent by this pool or was already released");
+        }
+        final Highs highs = model.getHighs();
+        highs.clearModel();
+        model.removeCallbackHandler();
+        try {
+            model.removeLogHandler();
+        } catch (OptionException _) {
+            // Should never throw, the output options are boolean options.
+        }
+        if (model.isOptionsModified()) {
+            highs.resetOptions();
+            try {
+                configure(highs);
+            } catch (OptionException _) {
+                // Should never throw, the options were applied successfully when creating the pool.
+            }
+        }
+        this.idleSolvers.push(highs);
+    }
+
+    /**
+     * Runs the work on a model checked out of the pool and releases it afterward.
+     */
+    public <T> T withModel(@NonNull final Function<Model, T> work) {
+        final Model model = checkout();
+        try {
+            return work.apply(model);
+        } finally {
+            release(model);
+        }
+    }
+
+    public int getNmbIdleSolvers() {
+        return this.idleSolvers.size();
+    }
+
+    private Highs createSolver() throws OptionException {
+        final Highs highs = new Highs();
+        configure(highs);
+        return highs;
+    }
+
+    private void configure(final Highs highs) throws OptionException {
+        for (final Option option : this.options) {
+            if (!Model.setOption(highs, option)) {
+                throw new OptionException(String.format("Option %s could not be applied", option.getOptionName()));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+package wrapper.model;
+
+/**
+ * Projected subgradient steps. With a target value, e.g. the objective value of a known feasible solution, the step is
+ * Polyak's stepScale * (target - value) / |subgradient|^2; without one, it is stepScale / |subgradient|. The step scale
+ * is halved whenever the dual value did not improve for the given number of iterations.
+ */
+public final class SubgradientUpdate implements MultiplierUpdate {
+
+    private final double targetValue;
+    private final int patience;
+    private double stepScale;
+    private double bestValue = Double.NEGATIVE_INFINITY;
+    private int nmbNonImprovingIterations = 0;
+
+    public SubgradientUpdate(double stepScale, double targetValue, int patience) {
+        if (stepScale <= 0.0) {
+            throw new IllegalArgumentException("The step scale must be positive");
+        }
+        if (patience < 1) {
+            throw new IllegalArgumentException("The patience must be at least 1");
+        }
+        this.stepScale = stepScale;
+        this.targetValue = targetValue;
+        this.patience = patience;
+    }
+
+    /**
+     * Steps without target value.
+     */
+    public SubgradientUpdate(double stepScale, int patience) {
+        this(stepScale, Double.NaN, patience);
+    }
+
+    @Override
+    public double[] next(final double[] multipliers, double lagrangianValue, final double[] subgradient, final double[] lowerBounds,
+                         final double[] upperBounds) {
+        if (lagrangianValue > this.bestValue) {
+            this.bestValue = lagrangianValue;
+            this.nmbNonImprovingIterations = 0;
+        } else if (++this.nmbNonImprovingIterations >= this.patience) {
+            this.stepScale /= 2.0;
+            this.nmbNonImprovingIterations = 0;
+        }
+        double squaredNorm = 0.0;
+        for (final double value : subgradient) {
+            squaredNorm += value * value;
+        }
+        if (squaredNorm == 0.0) {
+            return multipliers.clone();
+        }
+        final double step = Double.isNaN(this.targetValue)
+                ? this.stepScale / Math.sqrt(squaredNorm)
+                : this.stepScale * Math.max(this.targetValue - lagrangianValue, 0.0) / squaredNorm;
+        final double[] next = new double[multipliers.length];
+        for (int i = 0; i < multipliers.length; ++i) {
+            next[i] = Math.clamp(multipliers[i] + step * subgradient[i], lowerBounds[i], upperBounds[i]);
+        }
+        return next;
+    }
+
+}
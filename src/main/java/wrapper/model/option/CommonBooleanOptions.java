@@ -18,6 +18,18 @@ public enum CommonBooleanOptions {
         String getHighsOptionName() {
             return "mip_allow_restart";
         }
+    },
+
+    MIP_IMPROVING_SOLUTION_SAVE {
+        String getHighsOptionName() {
+            return "mip_improving_solution_save";
+        }
+    },
+
+    LOG_TO_CONSOLE {
+        String getHighsOptionName() {
+            return "log_to_console";
+        }
     };
 
     abstract String getHighsOptionName();
@@ -24,6 +24,12 @@ public enum CommonDoubleOptions {
         String getHighsOptionName() {
             return "time_limit";
         }
+    },
+
+    PRIMAL_FEASIBILITY_TOLERANCE {
+        String getHighsOptionName() {
+            return "primal_feasibility_tolerance";
+        }
     };
 
     abstract String getHighsOptionName();
@@ -0,0 +1,29 @@
+package wrapper.model.option;
+
+public enum CommonIntegerOptions {
+
+    THREADS {
+        String getHighsOptionName() {
+            return "threads";
+        }
+    },
+
+    RANDOM_SEED {
+        String getHighsOptionName() {
+            return "random_seed";
+        }
+    },
+
+    // Bit mask of the presolve rules to switch off, bit i standing for the PresolveRuleType of value i
+    PRESOLVE_RULE_OFF {
+        String getHighsOptionName() {
+            return "presolve_rule_off";
+        }
+    };
+
+    abstract String getHighsOptionName();
+
+    public Option getOption(int value) {
+        return new IntegerOption(getHighsOptionName(), value);
+    }
+}
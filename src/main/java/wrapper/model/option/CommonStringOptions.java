@@ -0,0 +1,22 @@
+package wrapper.model.option;
+
+public enum CommonStringOptions {
+
+    SOLVER {
+        String getHighsOptionName() {
+            return "solver";
+        }
+    },
+
+    PRESOLVE {
+        String getHighsOptionName() {
+            return "presolve";
+        }
+    };
+
+    abstract String getHighsOptionName();
+
+    public Option getOption(String value) {
+        return new StringOption(getHighsOptionName(), value);
+    }
+}
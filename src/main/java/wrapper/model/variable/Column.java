@@ -0,0 +1,68 @@
+package wrapper.model.variable;
+
+import lombok.Getter;
+import lombok.NonNull;
+import wrapper.model.constraint.Constraint;
+import wrapper.model.constraint.ConstraintException;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Continuous variable together with its coefficients in existing constraints, e.g. a column generated by pricing.
+ */
+public final class Column {
+
+    @Getter
+    private final double lb;
+    @Getter
+    private final double ub;
+    @Getter
+    private final double cost;
+
+    private final Set<Long> constraintIndices = new HashSet<>();
+    private long[] indices = new long[4];
+    private double[] values = new double[4];
+    @Getter
+    private int nmbCoefficients = 0;
+
+    public Column(double lb, double ub, double cost) {
+        this.lb = lb;
+        this.ub = ub;
+        this.cost = cost;
+    }
+
+    public void addCoefficient(@NonNull final Constraint constraint, double coefficient) throws ConstraintException {
+        if (!this.constraintIndices.add(constraint.index())) {
+            throw new ConstraintException(String.format("Constraint with index %d is already in column", constraint.index()));
+        }
+        if (this.nmbCoefficients == this.indices.length) {
+            this.indices = Arrays.copyOf(this.indices, 2 * this.nmbCoefficients);
+            this.values = Arrays.copyOf(this.values, 2 * this.nmbCoefficients);
+        }
+        this.indices[this.nmbCoefficients] = constraint.index();
+        this.values[this.nmbCoefficients] = coefficient;
+        ++this.nmbCoefficients;
+    }
+
+    /**
+     * Cost minus the sum of the coefficients times the dual values of their constraints.
+     */
+    public double getReducedCost(@NonNull final double[] dualValues) {
+        double reducedCost = this.cost;
+        for (int i = 0; i < this.nmbCoefficients; ++i) {
+            reducedCost -= this.values[i] * dualValues[(int) this.indices[i]];
+        }
+        return reducedCost;
+    }
+
+    public long getConstraintIndex(int i) {
+        return this.indices[i];
+    }
+
+    public double getCoefficient(int i) {
+        return this.values[i];
+    }
+
+}
@@ -0,0 +1,78 @@
+package wrapper.parallel;
+
+import highs.HighsCallbackType;
+import lombok.NonNull;
+import wrapper.callback.CallbackContext;
+import wrapper.callback.SolutionInjector;
+import wrapper.model.Model;
+import wrapper.solution.Solution;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Solves a MIP while heuristics run on threads owned by the solver, and injects the solutions they find into the
+ * branch-and-bound through the kCallbackMipUserSolution callback. The callback handler of the model is replaced during
+ * the solve and restored afterward.
+ */
+public class HeuristicMipSolver implements AutoCloseable {
+
+    private static final int INJECTOR_CAPACITY = 16;
+
+    private final List<MipHeuristic> heuristics;
+    private final ExecutorService executor;
+    private volatile long nmbAcceptedSolutions = 0;
+
+    public HeuristicMipSolver(@NonNull final List<MipHeuristic> heuristics) {
+        if (heuristics.isEmpty()) {
+            throw new IllegalArgumentException("A heuristic MIP solver needs at least one heuristic");
+        }
+        this.heuristics = List.copyOf(heuristics);
+        this.executor = Executors.newFixedThreadPool(heuristics.size());
+    }
+
+    public Optional<Solution> minimize(@NonNull final Model model) {
+        return solve(model, Model::minimize);
+    }
+
+    public Optional<Solution> maximize(@NonNull final Model model) {
+        return solve(model, Model::maximize);
+    }
+
+    /**
+     * Number of heuristic solutions HiGHS accepted during the last solve, see
+     * {@link SolutionInjector#getNmbAcceptedSolutions()}.
+     */
+    public long getNmbAcceptedSolutions() {
+        return this.nmbAcceptedSolutions;
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdownNow();
+    }
+
+    private Optional<Solution> solve(final Model model, final Function<Model, Optional<Solution>> solver) {
+        final SolutionInjector injector = new SolutionInjector(INJECTOR_CAPACITY);
+        final Optional<Consumer<CallbackContext>> previousCallbackHandler = model.getCallbackHandler();
+        final HighsCallbackType[] previousCallbackTypes = model.getCallbackTypes();
+        model.setCallbackHandler(injector, SolutionInjector.CALLBACK_TYPE);
+        final List<Future<?>> searches = this.heuristics.stream()
+                .<Future<?>>map(heuristic -> this.executor.submit(() -> heuristic.search(injector)))
+                .toList();
+        try {
+            return solver.apply(model);
+        } finally {
+            searches.forEach(search -> search.cancel(true));
+            this.nmbAcceptedSolutions = injector.getNmbAcceptedSolutions();
+            previousCallbackHandler.ifPresentOrElse(callbackHandler -> model.setCallbackHandler(callbackHandler, previousCallbackTypes),
+                    model::removeCallbackHandler);
+        }
+    }
+
+}
@@ -0,0 +1,17 @@
+package wrapper.parallel;
+
+import wrapper.callback.SolutionInjector;
+
+/**
+ * Heuristic run alongside the branch-and-bound of a {@link HeuristicMipSolver}.
+ */
+@FunctionalInterface
+public interface MipHeuristic {
+
+    /**
+     * Searches for solutions and offers them to the injector, until the search is over or the thread is interrupted,
+     * which happens when the MIP solve ends.
+     */
+    void search(SolutionInjector injector);
+
+}
@@ -0,0 +1,127 @@
+package wrapper.parallel;
+
+import highs.HighsCallbackType;
+import lombok.NonNull;
+import wrapper.callback.CallbackContext;
+import wrapper.model.Model;
+import wrapper.model.option.CommonDoubleOptions;
+import wrapper.model.option.CommonIntegerOptions;
+import wrapper.model.option.OptionException;
+import wrapper.solution.Solution;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * Races copies of a MIP with different HiGHS random seeds until one of them proves optimality or the deadline passes,
+ * and returns the best solution found. The racers share their improving solutions: each new incumbent is proposed to
+ * the other racers through the kCallbackMipUserSolution callback, when the HiGHS library supports user solutions, and
+ * the racers run without sharing otherwise.
+ * As for the {@link ScenarioSolver}, the solves run on threads owned by the solver, and the processors are split
+ * between the racers through the HiGHS threads option.
+ */
+public class MultiSeedMipSolver implements AutoCloseable {
+
+    private record Incumbent(double objectiveValue, double[] variableValues) {
+    }
+
+    private final int nmbRacers;
+    private final int threadsPerSolve;
+    private final ExecutorService executor;
+
+    /**
+     * Races the random seeds 0 to nmbRacers - 1.
+     */
+    public MultiSeedMipSolver(int nmbRacers) {
+        if (nmbRacers < 1) {
+            throw new IllegalArgumentException("A multi-seed MIP solver needs at least one racer");
+        }
+        this.nmbRacers = nmbRacers;
+        this.threadsPerSolve = Math.max(1, Runtime.getRuntime().availableProcessors() / nmbRacers);
+        this.executor = Executors.newFixedThreadPool(nmbRacers);
+    }
+
+    public Optional<Solution> minimize(@NonNull final Model model, @NonNull final Duration deadline) throws OptionException, InterruptedException {
+        return race(model, deadline, Model::minimizeAsync, Comparator.comparingDouble(Solution::getObjectiveValue), (a, b) -> a < b);
+    }
+
+    public Optional<Solution> maximize(@NonNull final Model model, @NonNull final Duration deadline) throws OptionException, InterruptedException {
+        return race(model, deadline, Model::maximizeAsync, Comparator.comparingDouble(Solution::getObjectiveValue).reversed(), (a, b) -> a > b);
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdownNow();
+    }
+
+    @FunctionalInterface
+    private interface ObjectiveOrder {
+
+        boolean isBetter(double objectiveValue, double otherObjectiveValue);
+
+    }
+
+    private Optional<Solution> race(final Model model, final Duration deadline,
+                                    final BiFunction<Model, ExecutorService, CompletableFuture<Solution>> solveAsync,
+                                    final Comparator<Solution> bestFirst, final ObjectiveOrder objectiveOrder)
+            throws OptionException, InterruptedException {
+        final AtomicReference<Incumbent> bestIncumbent = new AtomicReference<>();
+        final List<Model> copies = new ArrayList<>(this.nmbRacers);
+        for (int seed = 0; seed < this.nmbRacers; ++seed) {
+            final Model copy = model.copy();
+            copy.addOption(CommonIntegerOptions.RANDOM_SEED.getOption(seed));
+            copy.addOption(CommonIntegerOptions.THREADS.getOption(this.threadsPerSolve));
+            if (!copy.addOption(CommonDoubleOptions.TIME_LIMIT.getOption(deadline.toNanos() / 1e9))) {
+                throw new OptionException(String.format("Deadline %s is not a valid time limit", deadline));
+            }
+            if (CallbackContext.isUserSolutionSupported()) {
+                copy.setCallbackHandler(shareIncumbents(bestIncumbent, objectiveOrder),
+                        HighsCallbackType.kCallbackMipImprovingSolution, HighsCallbackType.kCallbackMipUserSolution);
+            }
+            copies.add(copy);
+        }
+        final List<CompletableFuture<Solution>> racers = copies.stream()
+                .map(copy -> solveAsync.apply(copy, this.executor))
+                .toList();
+        // The best incumbent when no racer proves optimality before its time limit, the racers stopped without one
+        // having a feasible status but no solution
+        return OptimalityRace.run(racers, indices -> indices
+                .filter(i -> copies.get(i).hasPrimalSolution())
+                .mapToObj(i -> racers.get(i).join())
+                .min(bestFirst));
+    }
+
+    // Publishes the improving solutions of a racer and proposes the best one of the other racers when HiGHS asks for
+    // a user solution
+    private static Consumer<CallbackContext> shareIncumbents(final AtomicReference<Incumbent> bestIncumbent, final ObjectiveOrder objectiveOrder) {
+        final AtomicReference<Incumbent> lastProposedIncumbent = new AtomicReference<>();
+        return context -> {
+            if (context.is(HighsCallbackType.kCallbackMipImprovingSolution)) {
+                context.getMipSolution().ifPresent(variableValues -> {
+                    final Incumbent incumbent = new Incumbent(context.getObjectiveFunctionValue(), variableValues);
+                    // The racer knows its own incumbent already
+                    lastProposedIncumbent.set(incumbent);
+                    bestIncumbent.accumulateAndGet(incumbent, (current, candidate) ->
+                            current == null || objectiveOrder.isBetter(candidate.objectiveValue(), current.objectiveValue()) ? candidate : current);
+                });
+            } else if (context.is(HighsCallbackType.kCallbackMipUserSolution)) {
+                final Incumbent incumbent = bestIncumbent.get();
+                // HiGHS discards the proposed solution if it does not improve the incumbent of the racer
+                if (incumbent != null && incumbent != lastProposedIncumbent.get()) {
+                    lastProposedIncumbent.set(incumbent);
+                    context.setUserSolution(incumbent.variableValues());
+                }
+            }
+        };
+    }
+
+}
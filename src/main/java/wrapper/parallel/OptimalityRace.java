@@ -0,0 +1,50 @@
+package wrapper.parallel;
+
+import wrapper.solution.Solution;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Waits for the first racer solved to optimality and cancels the others, which stops their solves through the HiGHS
+ * interrupt callbacks.
+ */
+final class OptimalityRace {
+
+    private OptimalityRace() {
+    }
+
+    /**
+     * Returns the first optimal solution, or lets the fallback pick a solution from the indices of the racers which
+     * completed normally, in increasing order, when no racer reaches optimality.
+     */
+    static Optional<Solution> run(final List<CompletableFuture<Solution>> racers,
+                                  final Function<IntStream, Optional<Solution>> fallback) throws InterruptedException {
+        final CompletableFuture<Solution> winner = new CompletableFuture<>();
+        racers.forEach(racer -> racer.thenAccept(solution -> {
+            if (solution.isOptimal()) {
+                winner.complete(solution);
+            }
+        }));
+        // Completed with null if no racer proves optimality
+        CompletableFuture.allOf(racers.toArray(CompletableFuture[]::new))
+                .whenComplete((_, _) -> winner.complete(null));
+        try {
+            final Solution solution = winner.get();
+            if (solution != null) {
+                return Optional.of(solution);
+            }
+            return fallback.apply(IntStream.range(0, racers.size()).filter(i -> !racers.get(i).isCompletedExceptionally()));
+        } catch (ExecutionException e) {
+            // Never completed exceptionally.
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            racers.forEach(racer -> racer.cancel(true));
+        }
+    }
+
+}
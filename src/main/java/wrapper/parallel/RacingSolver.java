@@ -0,0 +1,86 @@
+package wrapper.parallel;
+
+import lombok.NonNull;
+import wrapper.model.Model;
+import wrapper.model.option.CommonIntegerOptions;
+import wrapper.model.option.CommonStringOptions;
+import wrapper.model.option.OptionException;
+import wrapper.solution.Solution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+
+/**
+ * Races LP algorithms on copies of a model, one copy per value of the HiGHS solver option. The first copy solved to
+ * optimality wins and the other solves are stopped through the HiGHS interrupt callbacks.
+ * As for the {@link ScenarioSolver}, the solves run on threads owned by the racing solver, and the processors are split
+ * between the racers through the HiGHS threads option.
+ */
+public class RacingSolver implements AutoCloseable {
+
+    public static final List<String> DEFAULT_SOLVERS = List.of("simplex", "ipm", "pdlp");
+
+    private final List<String> solvers;
+    private final int threadsPerSolve;
+    private final ExecutorService executor;
+
+    /**
+     * Races the given values of the HiGHS solver option, e.g. "simplex", "ipm" or "pdlp".
+     */
+    public RacingSolver(@NonNull final List<String> solvers) {
+        if (solvers.isEmpty()) {
+            throw new IllegalArgumentException("A racing solver needs at least one solver");
+        }
+        this.solvers = List.copyOf(solvers);
+        this.threadsPerSolve = Math.max(1, Runtime.getRuntime().availableProcessors() / solvers.size());
+        this.executor = Executors.newFixedThreadPool(solvers.size());
+    }
+
+    public RacingSolver() {
+        this(DEFAULT_SOLVERS);
+    }
+
+    /**
+     * Returns the first optimal solution, or the solution of the first solver in the list when no solver reaches
+     * optimality (e.g. for an infeasible model). The model itself is not modified.
+     */
+    public Optional<Solution> minimize(@NonNull final Model model) throws OptionException, InterruptedException {
+        return race(model, Model::minimizeAsync);
+    }
+
+    /**
+     * Returns the first optimal solution, or the solution of the first solver in the list when no solver reaches
+     * optimality (e.g. for an infeasible model). The model itself is not modified.
+     */
+    public Optional<Solution> maximize(@NonNull final Model model) throws OptionException, InterruptedException {
+        return race(model, Model::maximizeAsync);
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdownNow();
+    }
+
+    private Optional<Solution> race(final Model model, final BiFunction<Model, ExecutorService, CompletableFuture<Solution>> solveAsync)
+            throws OptionException, InterruptedException {
+        final List<Model> copies = new ArrayList<>(this.solvers.size());
+        for (final String solver : this.solvers) {
+            final Model copy = model.copy();
+            if (!copy.addOption(CommonStringOptions.SOLVER.getOption(solver))) {
+                throw new OptionException(String.format("Solver %s is not supported", solver));
+            }
+            copy.addOption(CommonIntegerOptions.THREADS.getOption(this.threadsPerSolve));
+            copies.add(copy);
+        }
+        final List<CompletableFuture<Solution>> racers = copies.stream()
+                .map(copy -> solveAsync.apply(copy, this.executor))
+                .toList();
+        return OptimalityRace.run(racers, indices -> indices.mapToObj(i -> racers.get(i).join()).findFirst());
+    }
+
+}
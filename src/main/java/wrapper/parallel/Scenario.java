@@ -0,0 +1,51 @@
+package wrapper.parallel;
+
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import wrapper.model.Model;
+import wrapper.model.constraint.Constraint;
+import wrapper.model.constraint.ConstraintException;
+import wrapper.model.variable.Variable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Updates of variable costs and constraint sides turning the base model of a {@link ScenarioSolver} into a variant.
+ * The updates are applied in the order they were added, with the same semantics as the corresponding Model methods.
+ */
+@NoArgsConstructor
+public class Scenario {
+
+    @FunctionalInterface
+    private interface Update {
+
+        void applyTo(Model model) throws ConstraintException;
+
+    }
+
+    private final List<Update> updates = new ArrayList<>();
+
+    public void updateVariableCost(double newCost, @NonNull final Variable variable) {
+        this.updates.add(model -> model.updateVariableCost(newCost, variable));
+    }
+
+    public void updateConstraintRightHandSide(double rhs, @NonNull final Constraint constraint) {
+        this.updates.add(model -> model.updateConstraintRightHandSide(rhs, constraint));
+    }
+
+    public void updateConstraintSides(double lhs, double rhs, @NonNull final Constraint constraint) {
+        this.updates.add(model -> model.updateConstraintSides(lhs, rhs, constraint));
+    }
+
+    public int getNmbUpdates() {
+        return this.updates.size();
+    }
+
+    void applyTo(final Model model) throws ConstraintException {
+        for (final Update update : this.updates) {
+            update.applyTo(model);
+        }
+    }
+
+}
@@ -0,0 +1,108 @@
+package wrapper.parallel;
+
+import lombok.NonNull;
+import wrapper.model.Model;
+import wrapper.model.constraint.ConstraintException;
+import wrapper.model.option.CommonIntegerOptions;
+import wrapper.solution.Solution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Solves variants of a base model concurrently, each one on a copy of the base model. The solves run on a fixed number
+ * of threads and the HiGHS threads option of each copy is set so that the solves share the available processors
+ * without oversubscribing them.
+ * HiGHS keeps one task scheduler per calling thread, sized by the threads option of the first solve on that thread,
+ * which is why the solver runs on its own threads rather than on a caller-provided executor.
+ */
+public class ScenarioSolver implements AutoCloseable {
+
+    private final Model baseModel;
+    private final int threadsPerSolve;
+    private final ExecutorService executor;
+
+    /**
+     * Runs up to parallelism solves at the same time.
+     */
+    public ScenarioSolver(@NonNull final Model baseModel, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism of a scenario solver must be at least one");
+        }
+        this.baseModel = baseModel;
+        this.threadsPerSolve = Math.max(1, Runtime.getRuntime().availableProcessors() / parallelism);
+        this.executor = Executors.newFixedThreadPool(parallelism);
+    }
+
+    /**
+     * Runs one single-threaded solve per available processor at the same time.
+     */
+    public ScenarioSolver(@NonNull final Model baseModel) {
+        this(baseModel, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Minimizes all the scenarios and returns their solutions in the order of the stream.
+     * The base model must not be modified until this method returns.
+     */
+    public List<Optional<Solution>> minimizeAll(@NonNull final Stream<Scenario> scenarios) throws ConstraintException, InterruptedException {
+        return solveAll(scenarios, Model::minimize);
+    }
+
+    /**
+     * Maximizes all the scenarios and returns their solutions in the order of the stream.
+     * The base model must not be modified until this method returns.
+     */
+    public List<Optional<Solution>> maximizeAll(@NonNull final Stream<Scenario> scenarios) throws ConstraintException, InterruptedException {
+        return solveAll(scenarios, Model::maximize);
+    }
+
+    public int getThreadsPerSolve() {
+        return this.threadsPerSolve;
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdownNow();
+    }
+
+    private List<Optional<Solution>> solveAll(final Stream<Scenario> scenarios, final Function<Model, Optional<Solution>> solve)
+            throws ConstraintException, InterruptedException {
+        final List<Future<Optional<Solution>>> futures = new ArrayList<>();
+        scenarios.forEachOrdered(scenario -> futures.add(this.executor.submit(() -> {
+            final Model model = this.baseModel.copy();
+            // The number of threads is at least one, so HiGHS rejecting it is a bug rather than an invalid argument
+            if (!model.addOption(CommonIntegerOptions.THREADS.getOption(this.threadsPerSolve))) {
+                throw new IllegalStateException(String.format("HiGHS rejected %d threads per solve", this.threadsPerSolve));
+            }
+            scenario.applyTo(model);
+            return solve.apply(model);
+        })));
+        final List<Optional<Solution>> solutions = new ArrayList<>(futures.size());
+        try {
+            for (final Future<Optional<Solution>> future : futures) {
+                solutions.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(false));
+            switch (e.getCause()) {
+                case ConstraintException constraintException -> throw constraintException;
+                case RuntimeException runtimeException -> throw runtimeException;
+                case Error error -> throw error;
+                default -> throw new IllegalStateException(e.getCause());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(false));
+            throw e;
+        }
+        return solutions;
+    }
+
+}
@@ -0,0 +1,35 @@
+package wrapper.solution;
+
+import lombok.Getter;
+
+import java.util.Optional;
+
+/**
+ * Outcome of a solve bounded in time: the best solution found, if any, with the MIP gap and dual bound proving how far
+ * from optimal it can be.
+ */
+public class AnytimeSolution {
+
+    private final Solution incumbent;
+
+    @Getter
+    private final double mipGap;
+
+    @Getter
+    private final double mipDualBound;
+
+    @Getter
+    private final boolean deadlineReached;
+
+    public AnytimeSolution(final Solution incumbent, double mipGap, double mipDualBound, boolean deadlineReached) {
+        this.incumbent = incumbent;
+        this.mipGap = mipGap;
+        this.mipDualBound = mipDualBound;
+        this.deadlineReached = deadlineReached;
+    }
+
+    public Optional<Solution> getIncumbent() {
+        return Optional.ofNullable(this.incumbent);
+    }
+
+}
@@ -0,0 +1,133 @@
+package wrapper.solution;
+
+import highs.HighsBasis;
+import highs.HighsBasisStatus;
+import highs.SWIGTYPE_p_std__vectorT_HighsBasisStatus_t;
+import highs.SWIGTYPE_p_void;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import wrapper.model.constraint.Constraint;
+import wrapper.model.constraint.ConstraintException;
+import wrapper.model.variable.Variable;
+import wrapper.model.variable.VariableException;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Simplex basis detached from any HiGHS instance, with one status byte per variable and per constraint. It can be stored
+ * with {@link #toBytes()} and applied to any model with the same number of variables and constraints.
+ */
+@EqualsAndHashCode
+public final class Basis {
+
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+
+    private final byte[] variableStatuses;
+
+    private final byte[] constraintStatuses;
+
+    private Basis(final byte[] variableStatuses, final byte[] constraintStatuses) {
+        this.variableStatuses = variableStatuses;
+        this.constraintStatuses = constraintStatuses;
+    }
+
+    /**
+     * Copies the statuses of the HiGHS basis, as many as its status vectors hold.
+     */
+    public static Basis copyOf(@NonNull final HighsBasis highsBasis) {
+        return new Basis(toArray(highsBasis.getCol_status()), toArray(highsBasis.getRow_status()));
+    }
+
+    /**
+     * Reads a basis written by {@link #toBytes()}.
+     */
+    public static Basis fromBytes(@NonNull final byte[] bytes) {
+        if (bytes.length < HEADER_SIZE) {
+            throw new IllegalArgumentException("Bytes do not contain a basis");
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        final int nmbVariables = buffer.getInt();
+        final int nmbConstraints = buffer.getInt();
+        if (nmbVariables < 0 || nmbConstraints < 0 || (long) nmbVariables + nmbConstraints != buffer.remaining()) {
+            throw new IllegalArgumentException("Bytes do not contain a basis");
+        }
+        final byte[] variableStatuses = new byte[nmbVariables];
+        final byte[] constraintStatuses = new byte[nmbConstraints];
+        buffer.get(variableStatuses).get(constraintStatuses);
+        return new Basis(variableStatuses, constraintStatuses);
+    }
+
+    /**
+     * Writes the numbers of variables and constraints (little-endian ints) followed by the status bytes.
+     */
+    public byte[] toBytes() {
+        return ByteBuffer.allocate(HEADER_SIZE + this.variableStatuses.length + this.constraintStatuses.length)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(this.variableStatuses.length)
+                .putInt(this.constraintStatuses.length)
+                .put(this.variableStatuses)
+                .put(this.constraintStatuses)
+                .array();
+    }
+
+    /**
+     * Creates a new valid HiGHS basis holding a copy of the statuses.
+     */
+    public HighsBasis toHighsBasis() {
+        final HighsBasis highsBasis = new HighsBasis();
+        highsBasis.resizeStatus(this.variableStatuses.length, this.constraintStatuses.length);
+        copy(this.variableStatuses, highsBasis.colStatusData());
+        copy(this.constraintStatuses, highsBasis.rowStatusData());
+        highsBasis.setValid(true);
+        highsBasis.setAlien(false);
+        highsBasis.setUseful(true);
+        return highsBasis;
+    }
+
+    public HighsBasisStatus getVariableStatus(@NonNull final Variable variable) throws VariableException {
+        if (variable.index() >= this.variableStatuses.length) {
+            throw new VariableException(String.format("Variable with index %d does not exist in the basis", variable.index()));
+        }
+        return HighsBasisStatus.swigToEnum(this.variableStatuses[(int) variable.index()]);
+    }
+
+    public HighsBasisStatus getConstraintStatus(@NonNull final Constraint constraint) throws ConstraintException {
+        if (constraint.index() >= this.constraintStatuses.length) {
+            throw new ConstraintException(String.format("Constraint with index %d does not exist in the basis", constraint.index()));
+        }
+        return HighsBasisStatus.swigToEnum(this.constraintStatuses[(int) constraint.index()]);
+    }
+
+    public int getNmbVariables() {
+        return this.variableStatuses.length;
+    }
+
+    public int getNmbConstraints() {
+        return this.constraintStatuses.length;
+    }
+
+    // HighsBasisStatus is a uint8_t enum, so a status vector is a plain byte array. The standard libraries all start a
+    // std::vector with the pointers to its first element and past its last element.
+    private static byte[] toArray(final SWIGTYPE_p_std__vectorT_HighsBasisStatus_t statusVector) {
+        final MemorySegment vector = MemorySegment.ofAddress(SWIGTYPE_p_std__vectorT_HighsBasisStatus_t.getCPtr(statusVector))
+                .reinterpret(2 * ValueLayout.ADDRESS.byteSize());
+        final MemorySegment begin = vector.getAtIndex(ValueLayout.ADDRESS, 0);
+        final long nmbStatuses = vector.getAtIndex(ValueLayout.ADDRESS, 1).address() - begin.address();
+        if (nmbStatuses == 0) {
+            return new byte[0];
+        }
+        return begin.reinterpret(nmbStatuses).toArray(ValueLayout.JAVA_BYTE);
+    }
+
+    private static void copy(final byte[] statuses, final SWIGTYPE_p_void data) {
+        if (statuses.length == 0) {
+            return;
+        }
+        MemorySegment.copy(statuses, 0, MemorySegment.ofAddress(SWIGTYPE_p_void.getCPtr(data)).reinterpret(statuses.length),
+                ValueLayout.JAVA_BYTE, 0, statuses.length);
+    }
+
+}
@@ -19,6 +19,18 @@ public class InitialSolution {
         return initialSolution;
     }
 
+    /**
+     * Reuses all the variable values of a solution, e.g. one read from a {@link SolutionFile}.
+     */
+    public static InitialSolution of(@NonNull final Solution solution) {
+        final InitialSolution initialSolution = new InitialSolution();
+        final double[] variableValues = solution.getVariableValues();
+        for (int i = 0; i < variableValues.length; ++i) {
+            initialSolution.addVariable(new Variable(i), variableValues[i]);
+        }
+        return initialSolution;
+    }
+
     public void consumeSolution(@NonNull final ObjDoubleConsumer<Variable> consumer) {
         this.initialValueByVariable.forEach(consumer::accept);
     }
@@ -0,0 +1,56 @@
+package wrapper.solution;
+
+import highs.HighsRangingRecord;
+import lombok.NonNull;
+import wrapper.util.NativeArrays;
+
+/**
+ * One direction of the ranging of either costs or bounds. For each variable (or constraint) i:
+ * - values[i] is the limit up to which the cost (or bound) can move before the basis changes,
+ * - objectiveValues[i] is the objective value reached at this limit,
+ * - enteringVariableIndices[i] and leavingVariableIndices[i] are the variables entering and leaving the basis at this limit.
+ */
+public class RangingRecord {
+
+    private final double[] values;
+    private final double[] objectiveValues;
+    private final long[] enteringVariableIndices;
+    private final long[] leavingVariableIndices;
+
+    private RangingRecord(final double[] values, final double[] objectiveValues, final long[] enteringVariableIndices, final long[] leavingVariableIndices) {
+        this.values = values;
+        this.objectiveValues = objectiveValues;
+        this.enteringVariableIndices = enteringVariableIndices;
+        this.leavingVariableIndices = leavingVariableIndices;
+    }
+
+    static RangingRecord of(@NonNull final HighsRangingRecord highsRangingRecord) {
+        return new RangingRecord(
+                NativeArrays.toArray(highsRangingRecord.getValue_()),
+                NativeArrays.toArray(highsRangingRecord.getObjective_()),
+                NativeArrays.toArray(highsRangingRecord.getIn_var_()),
+                NativeArrays.toArray(highsRangingRecord.getOu_var_())
+        );
+    }
+
+    public double[] getValues() {
+        return this.values.clone();
+    }
+
+    public double[] getObjectiveValues() {
+        return this.objectiveValues.clone();
+    }
+
+    public long[] getEnteringVariableIndices() {
+        return this.enteringVariableIndices.clone();
+    }
+
+    public long[] getLeavingVariableIndices() {
+        return this.leavingVariableIndices.clone();
+    }
+
+    public int size() {
+        return this.values.length;
+    }
+
+}
@@ -0,0 +1,46 @@
+package wrapper.solution;
+
+import highs.HighsObjectiveSolution;
+import lombok.Getter;
+import lombok.NonNull;
+import wrapper.model.variable.Variable;
+import wrapper.model.variable.VariableException;
+import wrapper.util.NativeArrays;
+
+/**
+ * Copy of an improving MIP solution saved by HiGHS during the branch-and-bound search.
+ * The saved solutions are only recorded when the option MIP_IMPROVING_SOLUTION_SAVE is enabled.
+ */
+public class SavedMipSolution {
+
+    @Getter
+    private final double objectiveValue;
+
+    private final double[] variableValues;
+
+    private SavedMipSolution(double objectiveValue, final double[] variableValues) {
+        this.objectiveValue = objectiveValue;
+        this.variableValues = variableValues;
+    }
+
+    public static SavedMipSolution of(@NonNull final HighsObjectiveSolution highsObjectiveSolution) {
+        final double[] variableValues = NativeArrays.toArray(highsObjectiveSolution.getCol_value());
+        return new SavedMipSolution(highsObjectiveSolution.getObjective(), variableValues);
+    }
+
+    public double getVariableValue(@NonNull final Variable variable) throws VariableException {
+        if (variable.index() >= this.variableValues.length) {
+            throw new VariableException(String.format("Variable with index %d does not exist in the solution", variable.index()));
+        }
+        return this.variableValues[(int) variable.index()];
+    }
+
+    public double[] getVariableValues() {
+        return this.variableValues.clone();
+    }
+
+    public int getNmbVariables() {
+        return this.variableValues.length;
+    }
+
+}
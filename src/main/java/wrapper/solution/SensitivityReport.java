@@ -0,0 +1,35 @@
+package wrapper.solution;
+
+import highs.HighsRanging;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Cost and bound ranging of an LP solved to optimality, extracted in bulk from HiGHS.
+ * Variable records are indexed by variable index, constraint records by constraint index.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SensitivityReport {
+
+    private final RangingRecord costUp;
+    private final RangingRecord costDown;
+    private final RangingRecord variableBoundUp;
+    private final RangingRecord variableBoundDown;
+    private final RangingRecord constraintBoundUp;
+    private final RangingRecord constraintBoundDown;
+
+    public static SensitivityReport of(@NonNull final HighsRanging highsRanging) {
+        return new SensitivityReport(
+                RangingRecord.of(highsRanging.getCol_cost_up()),
+                RangingRecord.of(highsRanging.getCol_cost_dn()),
+                RangingRecord.of(highsRanging.getCol_bound_up()),
+                RangingRecord.of(highsRanging.getCol_bound_dn()),
+                RangingRecord.of(highsRanging.getRow_bound_up()),
+                RangingRecord.of(highsRanging.getRow_bound_dn())
+        );
+    }
+
+}
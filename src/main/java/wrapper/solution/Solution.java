@@ -1,46 +1,174 @@
 package wrapper.solution;
 
-import highs.DoubleVector;
 import highs.HighsModelStatus;
 import highs.HighsSolution;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import wrapper.model.constraint.Constraint;
 import wrapper.model.constraint.ConstraintException;
 import wrapper.model.variable.Variable;
 import wrapper.model.variable.VariableException;
+import wrapper.util.NativeArrays;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+import java.util.List;
 
-@AllArgsConstructor
 public class Solution {
 
-    @NonNull
-    private final HighsSolution highsSolution;
+    // Heap copies of the HiGHS vectors, or read-only mappings of a solution file
+    private final MemorySegment variableValues;
+
+    private final MemorySegment reducedCosts;
+
+    private final MemorySegment constraintValues;
 
-    @NonNull
+    private final MemorySegment dualValues;
+
+    @Getter(AccessLevel.PACKAGE)
     private final HighsModelStatus highsModelStatus;
 
     @Getter
     private final double objectiveValue;
 
+    /**
+     * Whether the solution is an incumbent found during a MIP solve, which is feasible although the solve has no model
+     * status yet.
+     */
+    @Getter
+    private final boolean incumbent;
+
+    /**
+     * Copies the values of the HiGHS solution in bulk, so that the solution is not modified by the next solves.
+     */
+    public Solution(@NonNull final HighsSolution highsSolution, @NonNull final HighsModelStatus highsModelStatus, double objectiveValue) {
+        this.variableValues = MemorySegment.ofArray(NativeArrays.toArray(highsSolution.getCol_value()));
+        this.reducedCosts = MemorySegment.ofArray(NativeArrays.toArray(highsSolution.getCol_dual()));
+        this.constraintValues = MemorySegment.ofArray(NativeArrays.toArray(highsSolution.getRow_value()));
+        this.dualValues = MemorySegment.ofArray(NativeArrays.toArray(highsSolution.getRow_dual()));
+        this.highsModelStatus = highsModelStatus;
+        this.objectiveValue = objectiveValue;
+        this.incumbent = false;
+    }
+
+    Solution(@NonNull final MemorySegment variableValues, @NonNull final MemorySegment reducedCosts,
+             @NonNull final MemorySegment constraintValues, @NonNull final MemorySegment dualValues,
+             @NonNull final HighsModelStatus highsModelStatus, double objectiveValue, boolean incumbent) {
+        this.variableValues = variableValues;
+        this.reducedCosts = reducedCosts;
+        this.constraintValues = constraintValues;
+        this.dualValues = dualValues;
+        this.highsModelStatus = highsModelStatus;
+        this.objectiveValue = objectiveValue;
+        this.incumbent = incumbent;
+    }
+
+    /**
+     * Same as the constructor, which copies the values of the HiGHS solution.
+     */
+    public static Solution copyOf(@NonNull final HighsSolution highsSolution, @NonNull final HighsModelStatus highsModelStatus, double objectiveValue) {
+        return new Solution(highsSolution, highsModelStatus, objectiveValue);
+    }
+
+    /**
+     * Wraps a copy of the variable values of a MIP solution found during the search, e.g. in a callback. The solve is
+     * still running, so the model status is not set and the solution has no dual values, but it is feasible.
+     */
+    public static Solution ofIncumbent(@NonNull final double[] variableValues, double objectiveValue) {
+        final MemorySegment empty = MemorySegment.ofArray(new double[0]);
+        return new Solution(MemorySegment.ofArray(variableValues.clone()), empty, empty, empty, HighsModelStatus.kNotset, objectiveValue, true);
+    }
+
+    /**
+     * Wraps copies of arrays of values, e.g. merged from the solutions of independent parts of a model.
+     */
+    public static Solution ofValues(@NonNull final double[] variableValues, @NonNull final double[] reducedCosts,
+                                    @NonNull final double[] constraintValues, @NonNull final double[] dualValues,
+                                    @NonNull final HighsModelStatus highsModelStatus, double objectiveValue) {
+        return new Solution(MemorySegment.ofArray(variableValues.clone()), MemorySegment.ofArray(reducedCosts.clone()),
+                MemorySegment.ofArray(constraintValues.clone()), MemorySegment.ofArray(dualValues.clone()), highsModelStatus, objectiveValue, false);
+    }
+
+    /**
+     * Segments of variable values, reduced costs, constraint values and dual values, in this order.
+     */
+    List<MemorySegment> getValueSegments() {
+        return List.of(this.variableValues, this.reducedCosts, this.constraintValues, this.dualValues);
+    }
+
     public double getVariableValue(@NonNull final Variable variable) throws VariableException {
-        final DoubleVector variableValues = this.highsSolution.getCol_value();
-        if (variable.index() >= variableValues.size()) {
+        if (variable.index() >= getNmbVariables()) {
             throw new VariableException(String.format("Variable with index %d does not exist in the solution", variable.index()));
         }
-        return variableValues.get((int) variable.index());
+        return this.variableValues.getAtIndex(ValueLayout.JAVA_DOUBLE, variable.index());
     }
 
     public double getDualValue(@NonNull final Constraint constraint) throws ConstraintException {
-        final DoubleVector dualValues = this.highsSolution.getRow_dual();
-        if (constraint.index() >= dualValues.size()) {
+        if (constraint.index() >= this.dualValues.byteSize() / Double.BYTES) {
             throw new ConstraintException(String.format("Constraint with index %d does not exist in the solution", constraint.index()));
         }
-        return dualValues.get((int) constraint.index());
+        return this.dualValues.getAtIndex(ValueLayout.JAVA_DOUBLE, constraint.index());
+    }
+
+    public double[] getVariableValues() {
+        return this.variableValues.toArray(ValueLayout.JAVA_DOUBLE);
+    }
+
+    public double[] getReducedCosts() {
+        return this.reducedCosts.toArray(ValueLayout.JAVA_DOUBLE);
+    }
+
+    public double[] getConstraintValues() {
+        return this.constraintValues.toArray(ValueLayout.JAVA_DOUBLE);
+    }
+
+    public double[] getDualValues() {
+        return this.dualValues.toArray(ValueLayout.JAVA_DOUBLE);
+    }
+
+    /**
+     * Collects the variables whose value moved by more than the tolerance since the previous solution, as well as the
+     * variables which did not exist in the previous solution. The variables which only exist in the previous solution are
+     * counted as removed. The values are compared in place, without copying them again.
+     */
+    public SolutionDelta diff(@NonNull final Solution previous, double tolerance) {
+        final int nmbVariables = getNmbVariables();
+        final int nmbPreviousVariables = Math.min(previous.getNmbVariables(), nmbVariables);
+        final MemorySegment previousValues = previous.variableValues;
+        int[] indices = new int[16];
+        double[] values = new double[16];
+        int nmbChanges = 0;
+        for (int i = 0; i < nmbVariables; ++i) {
+            final double value = this.variableValues.getAtIndex(ValueLayout.JAVA_DOUBLE, i);
+            // Written so that NaN values count as changes
+            if (i < nmbPreviousVariables && Math.abs(value - previousValues.getAtIndex(ValueLayout.JAVA_DOUBLE, i)) <= tolerance) {
+                continue;
+            }
+            if (nmbChanges == indices.length) {
+                indices = Arrays.copyOf(indices, 2 * nmbChanges);
+                values = Arrays.copyOf(values, 2 * nmbChanges);
+            }
+            indices[nmbChanges] = i;
+            values[nmbChanges] = value;
+            ++nmbChanges;
+        }
+        return new SolutionDelta(Arrays.copyOf(indices, nmbChanges), Arrays.copyOf(values, nmbChanges),
+                Math.max(previous.getNmbVariables() - nmbVariables, 0));
+    }
+
+    public int getNmbVariables() {
+        return (int) (this.variableValues.byteSize() / Double.BYTES);
+    }
+
+    public boolean isOptimal() {
+        return this.highsModelStatus == HighsModelStatus.kOptimal;
     }
 
     public boolean isFeasible() {
-        return this.highsModelStatus == HighsModelStatus.kOptimal
+        return this.incumbent
+                || this.highsModelStatus == HighsModelStatus.kOptimal
                 || this.highsModelStatus == HighsModelStatus.kObjectiveBound
                 || this.highsModelStatus == HighsModelStatus.kObjectiveTarget
                 || this.highsModelStatus == HighsModelStatus.kTimeLimit
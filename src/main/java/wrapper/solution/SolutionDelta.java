@@ -0,0 +1,49 @@
+package wrapper.solution;
+
+/**
+ * Variable values which changed between two solutions, as parallel arrays of variable indices (in increasing order) and
+ * new values.
+ */
+public class SolutionDelta {
+
+    private final int[] variableIndices;
+    private final double[] variableValues;
+    private final int nmbRemovedVariables;
+
+    SolutionDelta(final int[] variableIndices, final double[] variableValues, int nmbRemovedVariables) {
+        this.variableIndices = variableIndices;
+        this.variableValues = variableValues;
+        this.nmbRemovedVariables = nmbRemovedVariables;
+    }
+
+    public int[] getVariableIndices() {
+        return this.variableIndices.clone();
+    }
+
+    public double[] getVariableValues() {
+        return this.variableValues.clone();
+    }
+
+    public int getNmbChanges() {
+        return this.variableIndices.length;
+    }
+
+    /**
+     * Number of variables at the end of the previous solution which do not exist in the new one, e.g. after columns
+     * were deleted from the model.
+     */
+    public int getNmbRemovedVariables() {
+        return this.nmbRemovedVariables;
+    }
+
+    /**
+     * Overwrites the changed values in the full array of variable values of the previous solution. The values of the
+     * removed variables, at the end of the array, are left as they were.
+     */
+    public void applyTo(final double[] previousVariableValues) {
+        for (int i = 0; i < this.variableIndices.length; ++i) {
+            previousVariableValues[this.variableIndices[i]] = this.variableValues[i];
+        }
+    }
+
+}
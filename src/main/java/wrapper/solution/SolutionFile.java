@@ -0,0 +1,184 @@
+package wrapper.solution;
+
+import highs.HighsModelStatus;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Compact binary storage of solutions. A file starts with a 64-byte header:
+ * - magic number and format version (2 ints),
+ * - fingerprint of the model the solution belongs to (long),
+ * - HiGHS model status and flags (2 ints),
+ * - objective value (double),
+ * - number of variable values, reduced costs, constraint values and dual values (4 longs),
+ * followed by the raw arrays of variable values, reduced costs, constraint values and dual values, and by the bytes of
+ * the basis ({@link Basis#toBytes()}) when the basis flag is set. The incumbent flag is set for the solutions found
+ * during a MIP solve ({@link Solution#isIncumbent()}). All the numbers are little-endian.
+ * Files of version 1, whose flags are always 0, can still be read.
+ */
+public final class SolutionFile {
+
+    private static final int MAGIC = 0x4C4F5348; // "HSOL"
+    private static final int VERSION = 2;
+    private static final int FIRST_READABLE_VERSION = 1;
+    private static final int BASIS_FLAG = 1;
+    private static final int INCUMBENT_FLAG = 2;
+    private static final long HEADER_SIZE = 64;
+
+    private static final long MAGIC_OFFSET = 0;
+    private static final long VERSION_OFFSET = 4;
+    private static final long MODEL_FINGERPRINT_OFFSET = 8;
+    private static final long MODEL_STATUS_OFFSET = 16;
+    private static final long FLAGS_OFFSET = 20;
+    private static final long OBJECTIVE_VALUE_OFFSET = 24;
+    private static final long SIZES_OFFSET = 32;
+    private static final int NMB_ARRAYS = 4;
+
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfDouble DOUBLE = ValueLayout.JAVA_DOUBLE.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private SolutionFile() {
+    }
+
+    /**
+     * Writes the solution through a memory mapping of the file, copying the values directly from their native memory.
+     */
+    public static void write(@NonNull final Path path, @NonNull final Solution solution, long modelFingerprint) throws IOException {
+        writeFile(path, solution, null, modelFingerprint);
+    }
+
+    /**
+     * Writes the solution with the basis it was found with, so that a restarted model can be warm started from both.
+     */
+    public static void write(@NonNull final Path path, @NonNull final Solution solution, @NonNull final Basis basis,
+                             long modelFingerprint) throws IOException {
+        writeFile(path, solution, basis.toBytes(), modelFingerprint);
+    }
+
+    /**
+     * Maps the file in memory and returns a solution reading its values lazily from the mapping.
+     * Throws an IOException if the file is not a solution file or if it was written for a model with another fingerprint.
+     */
+    public static Solution read(@NonNull final Path path, long modelFingerprint) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final MemorySegment file = map(channel, path, modelFingerprint);
+            final HighsModelStatus highsModelStatus = readModelStatus(file, path);
+            final MemorySegment[] valueSegments = new MemorySegment[NMB_ARRAYS];
+            long offset = HEADER_SIZE;
+            for (int i = 0; i < NMB_ARRAYS; ++i) {
+                final long nmbValues = readNmbValues(file, i, offset, path);
+                valueSegments[i] = toNativeOrder(file.asSlice(offset, nmbValues * Double.BYTES));
+                offset += nmbValues * Double.BYTES;
+            }
+            return new Solution(valueSegments[0], valueSegments[1], valueSegments[2], valueSegments[3],
+                    highsModelStatus, file.get(DOUBLE, OBJECTIVE_VALUE_OFFSET), (file.get(INT, FLAGS_OFFSET) & INCUMBENT_FLAG) != 0);
+        }
+    }
+
+    /**
+     * Reads the basis stored with the solution, empty if the solution was written without one.
+     * Throws an IOException if the file is not a solution file or if it was written for a model with another fingerprint.
+     */
+    public static Optional<Basis> readBasis(@NonNull final Path path, long modelFingerprint) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final MemorySegment file = map(channel, path, modelFingerprint);
+            if ((file.get(INT, FLAGS_OFFSET) & BASIS_FLAG) == 0) {
+                return Optional.empty();
+            }
+            long offset = HEADER_SIZE;
+            for (int i = 0; i < NMB_ARRAYS; ++i) {
+                offset += readNmbValues(file, i, offset, path) * Double.BYTES;
+            }
+            try {
+                return Optional.of(Basis.fromBytes(file.asSlice(offset).toArray(ValueLayout.JAVA_BYTE)));
+            } catch (IllegalArgumentException e) {
+                throw new IOException(String.format("Solution file %s has a corrupted basis", path), e);
+            }
+        }
+    }
+
+    private static void writeFile(final Path path, final Solution solution, final byte[] basisBytes, long modelFingerprint) throws IOException {
+        final List<MemorySegment> valueSegments = solution.getValueSegments();
+        final long basisSize = basisBytes == null ? 0 : basisBytes.length;
+        final long fileSize = HEADER_SIZE + valueSegments.stream().mapToLong(MemorySegment::byteSize).sum() + basisSize;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+             Arena arena = Arena.ofConfined()) {
+            final MemorySegment file = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize, arena);
+            file.set(INT, MAGIC_OFFSET, MAGIC);
+            file.set(INT, VERSION_OFFSET, VERSION);
+            file.set(LONG, MODEL_FINGERPRINT_OFFSET, modelFingerprint);
+            file.set(INT, MODEL_STATUS_OFFSET, solution.getHighsModelStatus().swigValue());
+            file.set(INT, FLAGS_OFFSET, (basisBytes == null ? 0 : BASIS_FLAG) | (solution.isIncumbent() ? INCUMBENT_FLAG : 0));
+            file.set(DOUBLE, OBJECTIVE_VALUE_OFFSET, solution.getObjectiveValue());
+            long offset = HEADER_SIZE;
+            for (int i = 0; i < NMB_ARRAYS; ++i) {
+                final MemorySegment values = valueSegments.get(i);
+                final long nmbValues = values.byteSize() / Double.BYTES;
+                file.set(LONG, SIZES_OFFSET + (long) i * Long.BYTES, nmbValues);
+                MemorySegment.copy(values, ValueLayout.JAVA_DOUBLE, 0, file, DOUBLE, offset, nmbValues);
+                offset += values.byteSize();
+            }
+            if (basisBytes != null) {
+                MemorySegment.copy(basisBytes, 0, file, ValueLayout.JAVA_BYTE, offset, basisBytes.length);
+            }
+            file.force();
+        }
+    }
+
+    // Maps the whole file after checking its header
+    private static MemorySegment map(final FileChannel channel, final Path path, long modelFingerprint) throws IOException {
+        final long fileSize = channel.size();
+        if (fileSize < HEADER_SIZE) {
+            throw new IOException(String.format("File %s is not a solution file", path));
+        }
+        final MemorySegment file = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize, Arena.ofAuto());
+        final int version = file.get(INT, VERSION_OFFSET);
+        if (file.get(INT, MAGIC_OFFSET) != MAGIC || version < FIRST_READABLE_VERSION || version > VERSION) {
+            throw new IOException(String.format("File %s is not a solution file", path));
+        }
+        if (file.get(LONG, MODEL_FINGERPRINT_OFFSET) != modelFingerprint) {
+            throw new IOException(String.format("Solution file %s was written for another model", path));
+        }
+        return file;
+    }
+
+    private static long readNmbValues(final MemorySegment file, int array, long offset, final Path path) throws IOException {
+        final long nmbValues = file.get(LONG, SIZES_OFFSET + (long) array * Long.BYTES);
+        if (nmbValues < 0 || nmbValues > (file.byteSize() - offset) / Double.BYTES) {
+            throw new IOException(String.format("Solution file %s is truncated", path));
+        }
+        return nmbValues;
+    }
+
+    private static HighsModelStatus readModelStatus(final MemorySegment file, final Path path) throws IOException {
+        try {
+            return HighsModelStatus.swigToEnum(file.get(INT, MODEL_STATUS_OFFSET));
+        } catch (IllegalArgumentException e) {
+            throw new IOException(String.format("Solution file %s has an unknown model status", path), e);
+        }
+    }
+
+    // The mapped values can be used as they are on little-endian platforms, they are copied in the native order otherwise
+    private static MemorySegment toNativeOrder(final MemorySegment values) {
+        if (ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN) {
+            return values;
+        }
+        final long nmbValues = values.byteSize() / Double.BYTES;
+        final MemorySegment copy = MemorySegment.ofArray(new double[(int) nmbValues]);
+        MemorySegment.copy(values, DOUBLE, 0, copy, ValueLayout.JAVA_DOUBLE, 0, nmbValues);
+        return copy;
+    }
+
+}
@@ -0,0 +1,94 @@
+package wrapper.solution;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
+import wrapper.model.constraint.Constraint;
+import wrapper.model.constraint.ConstraintException;
+import wrapper.model.variable.Variable;
+import wrapper.model.variable.VariableException;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Minimal violations of the bounds and constraints of an infeasible model, found by a feasibility relaxation.
+ * A violation is the signed distance from the value to its bounds or sides: positive above the upper one, negative
+ * below the lower one, and zero when they are satisfied.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ViolationReport {
+
+    /**
+     * Solution of the relaxation, whose values are those of the repaired model.
+     */
+    @Getter
+    private final Solution solution;
+    private final double[] variableViolations;
+    // Constraints of the model in index order, with the same length as their violations
+    private final List<Constraint> constraints;
+    private final double[] constraintViolations;
+    /**
+     * Sum of the absolute violations times their penalties.
+     */
+    @Getter
+    private final double weightedViolation;
+    private final double tolerance;
+
+    /**
+     * The constraints are those of the model in index order, one per constraint violation. The violations whose
+     * magnitude does not exceed the tolerance are considered zero.
+     */
+    public static ViolationReport of(@NonNull final Solution solution, @NonNull final double[] variableViolations,
+                                     @NonNull final List<Constraint> constraints, @NonNull final double[] constraintViolations,
+                                     double weightedViolation, double tolerance) {
+        if (constraints.size() != constraintViolations.length) {
+            throw new IllegalArgumentException("There must be one violation per constraint");
+        }
+        return new ViolationReport(solution, variableViolations, List.copyOf(constraints), constraintViolations, weightedViolation, tolerance);
+    }
+
+    public double getVariableViolation(@NonNull final Variable variable) throws VariableException {
+        if (variable.index() >= this.variableViolations.length) {
+            throw new VariableException(String.format("Variable with index %d does not exist in the report", variable.index()));
+        }
+        return clean(this.variableViolations[(int) variable.index()]);
+    }
+
+    public double getConstraintViolation(@NonNull final Constraint constraint) throws ConstraintException {
+        if (constraint.index() >= this.constraintViolations.length) {
+            throw new ConstraintException(String.format("Constraint with index %d does not exist in the report", constraint.index()));
+        }
+        return clean(this.constraintViolations[(int) constraint.index()]);
+    }
+
+    /**
+     * Variables whose bounds are violated, in index order.
+     */
+    public List<Variable> getViolatedVariables() {
+        return IntStream.range(0, this.variableViolations.length)
+                .filter(j -> clean(this.variableViolations[j]) != 0.0)
+                .mapToObj(Variable::new)
+                .toList();
+    }
+
+    /**
+     * Constraints whose sides are violated, in index order.
+     */
+    public List<Constraint> getViolatedConstraints() {
+        return IntStream.range(0, this.constraintViolations.length)
+                .filter(i -> clean(this.constraintViolations[i]) != 0.0)
+                .mapToObj(this.constraints::get)
+                .toList();
+    }
+
+    public boolean isFeasible() {
+        return getViolatedVariables().isEmpty() && getViolatedConstraints().isEmpty();
+    }
+
+    private double clean(double violation) {
+        return Math.abs(violation) <= this.tolerance ? 0.0 : violation;
+    }
+
+}
@@ -0,0 +1,66 @@
+package wrapper.util;
+
+import highs.DoubleVector;
+import highs.LongLongVector;
+import highs.SWIGTYPE_p_double;
+import highs.SWIGTYPE_p_long_long;
+import lombok.NonNull;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Bulk access to the memory behind the native HiGHS vectors and arrays, avoiding one JNI call per element.
+ */
+public final class NativeArrays {
+
+    private NativeArrays() {
+    }
+
+    /**
+     * Views the elements of the vector without copying them. The view is only valid as long as the vector is alive and
+     * not resized.
+     */
+    public static MemorySegment view(@NonNull final DoubleVector vector) {
+        final int size = vector.size();
+        if (size == 0) {
+            return MemorySegment.ofArray(new double[0]);
+        }
+        return MemorySegment.ofAddress(SWIGTYPE_p_double.getCPtr(vector.data())).reinterpret((long) size * Double.BYTES);
+    }
+
+    /**
+     * Views the elements of the vector without copying them. The view is only valid as long as the vector is alive and
+     * not resized.
+     */
+    public static MemorySegment view(@NonNull final LongLongVector vector) {
+        final int size = vector.size();
+        if (size == 0) {
+            return MemorySegment.ofArray(new long[0]);
+        }
+        return MemorySegment.ofAddress(SWIGTYPE_p_long_long.getCPtr(vector.data())).reinterpret((long) size * Long.BYTES);
+    }
+
+    public static double[] toArray(@NonNull final DoubleVector vector) {
+        return view(vector).toArray(ValueLayout.JAVA_DOUBLE);
+    }
+
+    public static long[] toArray(@NonNull final LongLongVector vector) {
+        return view(vector).toArray(ValueLayout.JAVA_LONG);
+    }
+
+    /**
+     * Passes a native segment to the HiGHS methods expecting a {@code double*}.
+     */
+    public static SWIGTYPE_p_double asDoublePointer(@NonNull final MemorySegment segment) {
+        return new SWIGTYPE_p_double(segment.address(), false);
+    }
+
+    /**
+     * Passes a native segment to the HiGHS methods expecting a {@code HighsInt*}.
+     */
+    public static SWIGTYPE_p_long_long asLongLongPointer(@NonNull final MemorySegment segment) {
+        return new SWIGTYPE_p_long_long(segment.address(), false);
+    }
+
+}
@@ -0,0 +1,101 @@
+package wrapper.callback;
+
+import org.junit.jupiter.api.Test;
+import wrapper.model.Model;
+import wrapper.model.expression.LinearExpression;
+import wrapper.model.expression.LinearExpressionException;
+import wrapper.model.option.OptionException;
+import wrapper.model.option.StringOption;
+import wrapper.solution.Solution;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static wrapper.util.Constants.EPSILON;
+
+class SolutionPublisherTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    private static Model createKnapsackModel() throws LinearExpressionException, OptionException {
+        final double[] values = {1, 2, 3.5, 4.6, 7.2};
+        final double[] weights = {0.5, 1, 4.5, 1.0, 4.3};
+        final Model model = new Model();
+        final LinearExpression capacityExpression = new LinearExpression();
+        for (int i = 0; i < values.length; ++i) {
+            capacityExpression.addCoefficient(model.addIntegerVariable(0.0, Double.MAX_VALUE, values[i]), weights[i]);
+        }
+        model.addLessThanOrEqualToConstraint(50, capacityExpression);
+        model.addOption(new StringOption("presolve", "off"));
+        return model;
+    }
+
+    private static final class CollectingSubscriber implements Flow.Subscriber<Solution> {
+
+        private final List<Solution> solutions = new CopyOnWriteArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(final Solution solution) {
+            this.solutions.add(solution);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            this.completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed.countDown();
+        }
+
+    }
+
+    @Test
+    void improvingSolutionsMustBePublished() throws LinearExpressionException, OptionException, InterruptedException {
+        final Model model = createKnapsackModel();
+        final CollectingSubscriber subscriber = new CollectingSubscriber();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final Solution solution;
+        try (SolutionPublisher publisher = new SolutionPublisher(executor, 64, true)) {
+            publisher.subscribe(subscriber);
+            model.setCallbackHandler(publisher, SolutionPublisher.CALLBACK_TYPES);
+            solution = model.maximize().orElseThrow();
+        }
+
+        assertTrue(subscriber.completed.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertFalse(subscriber.solutions.isEmpty());
+        assertEquals(230.0, solution.getObjectiveValue(), EPSILON);
+        assertEquals(230.0, subscriber.solutions.getLast().getObjectiveValue(), EPSILON);
+        assertArrayEquals(solution.getVariableValues(), subscriber.solutions.getLast().getVariableValues(), EPSILON);
+    }
+
+    @Test
+    void incumbentMustCopyTheValues() {
+        final double[] values = {1.0, 2.0};
+        final Solution incumbent = Solution.ofIncumbent(values, 3.0);
+        values[0] = 5.0;
+
+        assertArrayEquals(new double[]{1.0, 2.0}, incumbent.getVariableValues(), EPSILON);
+        assertEquals(3.0, incumbent.getObjectiveValue(), EPSILON);
+        assertFalse(incumbent.isOptimal());
+        assertTrue(incumbent.isFeasible());
+    }
+
+}
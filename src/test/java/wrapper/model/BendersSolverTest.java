@@ -0,0 +1,73 @@
+package wrapper.model;
+
+import org.junit.jupiter.api.Test;
+import wrapper.model.constraint.Constraint;
+import wrapper.model.constraint.ConstraintException;
+import wrapper.model.expression.ExpressionCoefficient;
+import wrapper.model.expression.LinearExpression;
+import wrapper.model.expression.LinearExpressionException;
+import wrapper.model.variable.Variable;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static wrapper.util.Constants.EPSILON;
+
+class BendersSolverTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    private static final double CAPACITY = 10.0;
+
+    // Facility location: opening the facilities costs 3 and 4, and each customer is served by the open facilities
+    private final Model master = new Model();
+    private final Variable open1 = this.master.addBinaryVariable(3.0);
+    private final Variable open2 = this.master.addBinaryVariable(4.0);
+
+    // Serves the demand of a customer at the given unit costs, from the open facilities only
+    private BendersSubproblem getCustomer(double demand, double cost1, double cost2) throws LinearExpressionException, ConstraintException {
+        final Model model = new Model();
+        final Variable x1 = model.addContinuousVariable(0.0, Double.MAX_VALUE, cost1);
+        final Variable x2 = model.addContinuousVariable(0.0, Double.MAX_VALUE, cost2);
+        model.addGreaterThanOrEqualToConstraint(demand, LinearExpression.of(new ExpressionCoefficient(x1, 1.0), new ExpressionCoefficient(x2, 1.0)));
+        final Constraint capacity1 = model.addLessThanOrEqualToConstraint(0.0, LinearExpression.of(new ExpressionCoefficient(x1, 1.0)));
+        final Constraint capacity2 = model.addLessThanOrEqualToConstraint(0.0, LinearExpression.of(new ExpressionCoefficient(x2, 1.0)));
+        final BendersSubproblem subproblem = new BendersSubproblem(model);
+        subproblem.addLinkingCoefficient(capacity1, this.open1, -CAPACITY);
+        subproblem.addLinkingCoefficient(capacity2, this.open2, -CAPACITY);
+        return subproblem;
+    }
+
+    @Test
+    void decompositionMustReachTheOptimum() throws LinearExpressionException, ConstraintException, InterruptedException {
+        final List<BendersSubproblem> subproblems = List.of(getCustomer(4.0, 1.0, 2.0), getCustomer(3.0, 3.0, 1.0));
+        try (BendersSolver solver = new BendersSolver(this.master, subproblems, 0.0, 2)) {
+            final BendersSolution solution = solver.minimize(1E-6, 20).orElseThrow();
+
+            // Opening only the first facility costs 16, only the second one 15, and both 14
+            assertEquals(14.0, solution.getObjectiveValue(), EPSILON);
+            assertEquals(14.0, solution.getLowerBound(), EPSILON);
+            assertEquals(1.0, solution.getMasterSolution().getVariableValue(this.open1), EPSILON);
+            assertEquals(1.0, solution.getMasterSolution().getVariableValue(this.open2), EPSILON);
+            assertEquals(4.0, solution.getSubproblemSolutions().get(0).getObjectiveValue(), EPSILON);
+            assertEquals(3.0, solution.getSubproblemSolutions().get(1).getObjectiveValue(), EPSILON);
+            assertTrue(solver.getNmbCuts() > 0);
+        }
+    }
+
+    @Test
+    void infeasibleSubproblemsMustAddFeasibilityCuts() throws LinearExpressionException, ConstraintException, InterruptedException {
+        // More demand than a single facility can serve
+        final List<BendersSubproblem> subproblems = List.of(getCustomer(15.0, 1.0, 1.0));
+        try (BendersSolver solver = new BendersSolver(this.master, subproblems, 0.0, 1)) {
+            final BendersSolution solution = solver.minimize(1E-6, 20).orElseThrow();
+
+            assertEquals(3.0 + 4.0 + 15.0, solution.getObjectiveValue(), EPSILON);
+            assertTrue(solution.getNmbIterations() > 1);
+        }
+    }
+
+}
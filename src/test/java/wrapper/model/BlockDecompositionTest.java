@@ -0,0 +1,71 @@
+package wrapper.model;
+
+import org.junit.jupiter.api.Test;
+import wrapper.model.constraint.Constraint;
+import wrapper.model.constraint.ConstraintException;
+import wrapper.model.expression.ExpressionCoefficient;
+import wrapper.model.expression.LinearExpression;
+import wrapper.model.expression.LinearExpressionException;
+import wrapper.model.variable.Variable;
+import wrapper.model.variable.VariableException;
+import wrapper.solution.Solution;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static wrapper.util.Constants.EPSILON;
+
+class BlockDecompositionTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    private final Model model = new Model();
+    private final Variable x1 = this.model.addContinuousVariable(0.0, 10.0, 1.0);
+    private final Variable y1 = this.model.addContinuousVariable(0.0, 10.0, 3.0);
+    private final Variable x2 = this.model.addContinuousVariable(0.0, 10.0, 2.0);
+    private final Variable y2 = this.model.addContinuousVariable(0.0, 10.0, 1.0);
+    private final Variable z = this.model.addIntegerVariable(1.0, 5.0, 1.0);
+    private final Constraint xDemand;
+    private final Constraint yDemand;
+
+    // Two independent regions and an isolated variable
+    BlockDecompositionTest() throws LinearExpressionException {
+        this.xDemand = this.model.addGreaterThanOrEqualToConstraint(2.0, LinearExpression.of(new ExpressionCoefficient(this.x1, 1.0),
+                new ExpressionCoefficient(this.x2, 1.0)));
+        this.yDemand = this.model.addGreaterThanOrEqualToConstraint(3.0, LinearExpression.of(new ExpressionCoefficient(this.y1, 1.0),
+                new ExpressionCoefficient(this.y2, 1.0)));
+        this.model.addGreaterThanOrEqualToConstraint(1.0, LinearExpression.of(new ExpressionCoefficient(this.y1, 1.0),
+                new ExpressionCoefficient(this.y2, -1.0)));
+    }
+
+    @Test
+    void independentBlocksMustBeDetected() {
+        try (BlockDecomposition decomposition = new BlockDecomposition(this.model, 2)) {
+            assertEquals(3, decomposition.getNmbBlocks());
+            assertEquals(0, decomposition.getBlock(this.x1));
+            assertEquals(1, decomposition.getBlock(this.y1));
+            assertEquals(0, decomposition.getBlock(this.x2));
+            assertEquals(1, decomposition.getBlock(this.y2));
+            assertEquals(2, decomposition.getBlock(this.z));
+            assertThrows(VariableException.class, () -> decomposition.getBlock(new Variable(5)));
+        }
+    }
+
+    @Test
+    void mergedSolutionMustMatchTheMonolithicSolve() throws ConstraintException, InterruptedException {
+        final Solution expected = this.model.minimize().orElseThrow();
+        try (BlockDecomposition decomposition = new BlockDecomposition(this.model, 2)) {
+            final Solution solution = decomposition.minimize().orElseThrow();
+
+            assertTrue(solution.isOptimal());
+            assertEquals(2.0 + 7.0 + 1.0, solution.getObjectiveValue(), EPSILON);
+            assertEquals(expected.getObjectiveValue(), solution.getObjectiveValue(), EPSILON);
+            assertArrayEquals(new double[]{2.0, 2.0, 0.0, 1.0, 1.0}, solution.getVariableValues(), EPSILON);
+            assertArrayEquals(expected.getConstraintValues(), solution.getConstraintValues(), EPSILON);
+            assertEquals(1.0, solution.getDualValue(this.xDemand), EPSILON);
+            assertEquals(2.0, solution.getDualValue(this.yDemand), EPSILON);
+        }
+    }
+
+}
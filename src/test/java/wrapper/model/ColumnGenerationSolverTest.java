@@ -0,0 +1,106 @@
+package wrapper.model;
+
+import org.junit.jupiter.api.Test;
+import wrapper.model.constraint.Constraint;
+import wrapper.model.constraint.ConstraintException;
+import wrapper.model.expression.LinearExpression;
+import wrapper.model.expression.LinearExpressionException;
+import wrapper.model.expression.ExpressionCoefficient;
+import wrapper.model.variable.Column;
+import wrapper.model.variable.Variable;
+import wrapper.solution.Solution;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static wrapper.util.Constants.EPSILON;
+
+class ColumnGenerationSolverTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    // Cutting stock: rolls of width 10 are cut into items of widths 3, 4 and 5, with demands 4, 2 and 3
+    private static final double ROLL_WIDTH = 10.0;
+    private static final double[] WIDTHS = {3.0, 4.0, 5.0};
+    private static final double[] DEMANDS = {4.0, 2.0, 3.0};
+
+    private final Model master = new Model();
+    private final List<Constraint> demandConstraints = new ArrayList<>();
+
+    private Column getPattern(final double[] nmbItems) throws ConstraintException {
+        final Column pattern = new Column(0.0, Double.MAX_VALUE, 1.0);
+        for (int i = 0; i < nmbItems.length; ++i) {
+            if (nmbItems[i] > 0.5) {
+                pattern.addCoefficient(this.demandConstraints.get(i), Math.round(nmbItems[i]));
+            }
+        }
+        return pattern;
+    }
+
+    // Knapsack of the most valuable pattern for the dual values of the demand constraints
+    private ModelPricingProblem getKnapsack() throws LinearExpressionException {
+        final Model knapsack = new Model();
+        final LinearExpression width = new LinearExpression();
+        for (final double itemWidth : WIDTHS) {
+            width.addCoefficient(knapsack.addIntegerVariable(0.0, Math.floor(ROLL_WIDTH / itemWidth), 0.0), itemWidth);
+        }
+        knapsack.addLessThanOrEqualToConstraint(ROLL_WIDTH, width);
+        return new ModelPricingProblem(knapsack, (model, dualValues) -> {
+            for (int i = 0; i < WIDTHS.length; ++i) {
+                model.updateVariableCost(-dualValues[i], new Variable(i));
+            }
+        }, solution -> List.of(getPattern(solution.getVariableValues())));
+    }
+
+    @Test
+    void columnGenerationMustReachTheLinearRelaxationOptimum() throws ConstraintException, LinearExpressionException, InterruptedException {
+        final List<Column> initialPatterns = new ArrayList<>();
+        for (int i = 0; i < WIDTHS.length; ++i) {
+            this.demandConstraints.add(this.master.addGreaterThanOrEqualToConstraint(DEMANDS[i], new LinearExpression()));
+        }
+        for (int i = 0; i < WIDTHS.length; ++i) {
+            final double[] nmbItems = new double[WIDTHS.length];
+            nmbItems[i] = Math.floor(ROLL_WIDTH / WIDTHS[i]);
+            initialPatterns.add(getPattern(nmbItems));
+        }
+        assertEquals(3, this.master.addColumns(initialPatterns).size());
+
+        try (ColumnGenerationSolver solver = new ColumnGenerationSolver(this.master, List.of(getKnapsack(), _ -> List.of()), 2)) {
+            // Two patterns 3+3+4 and one and a half patterns 5+5
+            assertEquals(3.5, solver.minimize(EPSILON, 20).orElseThrow().getObjectiveValue(), EPSILON);
+
+            final List<ColumnGenerationIteration> iterations = solver.getIterations();
+            assertTrue(iterations.size() > 1);
+            assertTrue(iterations.getFirst().nmbColumnsAdded() > 0);
+            assertEquals(0, iterations.getLast().nmbColumnsAdded());
+            assertTrue(iterations.getLast().bestReducedCost() >= -EPSILON);
+        }
+    }
+
+    @Test
+    void lastIterationMustNotAddColumns() throws ConstraintException, LinearExpressionException, InterruptedException {
+        final List<Column> initialPatterns = new ArrayList<>();
+        for (int i = 0; i < WIDTHS.length; ++i) {
+            this.demandConstraints.add(this.master.addGreaterThanOrEqualToConstraint(DEMANDS[i], new LinearExpression()));
+        }
+        for (int i = 0; i < WIDTHS.length; ++i) {
+            final double[] nmbItems = new double[WIDTHS.length];
+            nmbItems[i] = Math.floor(ROLL_WIDTH / WIDTHS[i]);
+            initialPatterns.add(getPattern(nmbItems));
+        }
+        this.master.addColumns(initialPatterns);
+
+        try (ColumnGenerationSolver solver = new ColumnGenerationSolver(this.master, List.of(getKnapsack()), 1)) {
+            final Solution solution = solver.minimize(EPSILON, 1).orElseThrow();
+
+            assertEquals(3, solution.getNmbVariables());
+            assertEquals(0, solver.getIterations().getLast().nmbColumnsAdded());
+            assertTrue(solver.getIterations().getLast().bestReducedCost() < -EPSILON);
+        }
+    }
+
+}
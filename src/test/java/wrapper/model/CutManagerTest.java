@@ -0,0 +1,61 @@
+package wrapper.model;
+
+import org.junit.jupiter.api.Test;
+import wrapper.model.expression.ExpressionCoefficient;
+import wrapper.model.expression.LinearExpression;
+import wrapper.model.expression.LinearExpressionException;
+import wrapper.model.variable.Variable;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static wrapper.util.Constants.EPSILON;
+
+class CutManagerTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    private final Model model = new Model();
+    private final Variable x = this.model.addContinuousVariable(0.0, 3.0, 0.001);
+    private final Variable y = this.model.addContinuousVariable(-Double.MAX_VALUE, Double.MAX_VALUE, 1.0);
+
+    // Tangent of y = (x - 1)^2 at x0: y - 2(x0 - 1)x >= 1 - x0^2
+    private LinearExpression getTangent(double x0, double factor) throws LinearExpressionException {
+        return LinearExpression.of(new ExpressionCoefficient(this.y, factor), new ExpressionCoefficient(this.x, -2.0 * (x0 - 1.0) * factor));
+    }
+
+    @Test
+    void duplicateCutsMustBeIgnored() throws LinearExpressionException {
+        final CutManager cutManager = new CutManager(this.model, 3, EPSILON);
+
+        assertTrue(cutManager.addGreaterThanOrEqualToCut(1.0, getTangent(0.0, 1.0)));
+        assertTrue(cutManager.addGreaterThanOrEqualToCut(-8.0, getTangent(3.0, 1.0)));
+        assertFalse(cutManager.addGreaterThanOrEqualToCut(2.0, getTangent(0.0, 2.0)));
+        assertFalse(cutManager.addLessThanOrEqualToCut(-1.0, getTangent(0.0, -1.0)));
+        assertEquals(2, cutManager.getNmbPendingCuts());
+
+        assertEquals(-2.0 + 0.001 * 1.5, cutManager.minimize().orElseThrow().getObjectiveValue(), EPSILON);
+        assertEquals(0, cutManager.getNmbPendingCuts());
+        assertEquals(2, cutManager.getNmbActiveCuts());
+        assertFalse(cutManager.addGreaterThanOrEqualToCut(1.0, getTangent(0.0, 1.0)));
+    }
+
+    @Test
+    void slackCutsMustBeEvicted() throws LinearExpressionException {
+        final CutManager cutManager = new CutManager(this.model, 1, EPSILON);
+        cutManager.addGreaterThanOrEqualToCut(1.0, getTangent(0.0, 1.0));
+        cutManager.addGreaterThanOrEqualToCut(-8.0, getTangent(3.0, 1.0));
+        cutManager.minimize().orElseThrow();
+
+        cutManager.addGreaterThanOrEqualToCut(0.0, getTangent(1.0, 1.0));
+        assertEquals(0.0005, cutManager.minimize().orElseThrow().getObjectiveValue(), EPSILON);
+        assertEquals(3, cutManager.getNmbActiveCuts());
+
+        // The tangent at 3 is slack at x = 0.5
+        assertEquals(0.0005, cutManager.minimize().orElseThrow().getObjectiveValue(), EPSILON);
+        assertEquals(2, cutManager.getNmbActiveCuts());
+        assertTrue(cutManager.addGreaterThanOrEqualToCut(-8.0, getTangent(3.0, 1.0)));
+    }
+
+}
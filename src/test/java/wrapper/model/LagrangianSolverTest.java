@@ -0,0 +1,97 @@
+package wrapper.model;
+
+import org.junit.jupiter.api.Test;
+import wrapper.model.constraint.Constraint;
+import wrapper.model.constraint.ConstraintException;
+import wrapper.model.expression.ExpressionCoefficient;
+import wrapper.model.expression.LinearExpression;
+import wrapper.model.expression.LinearExpressionException;
+import wrapper.model.variable.Variable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static wrapper.util.Constants.EPSILON;
+
+class LagrangianSolverTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    // Generalized assignment of 3 jobs to 2 agents, whose optimal cost is 12 (jobs 0 and 2 to agent 0, job 1 to agent 1)
+    private static final double[][] COSTS = {{4.0, 6.0, 5.0}, {5.0, 3.0, 6.0}};
+    private static final double[][] WEIGHTS = {{3.0, 4.0, 2.0}, {2.0, 3.0, 4.0}};
+    private static final double[] CAPACITIES = {5.0, 6.0};
+    // The iterative methods stop within the tolerances of the block solves
+    private static final double DUAL_TOLERANCE = 1E-6;
+
+    private final Model model = new Model();
+    private final List<Constraint> assignmentConstraints = new ArrayList<>();
+
+    LagrangianSolverTest() throws LinearExpressionException {
+        final Variable[][] assignments = new Variable[COSTS.length][COSTS[0].length];
+        for (int agent = 0; agent < COSTS.length; ++agent) {
+            final LinearExpression load = new LinearExpression();
+            for (int job = 0; job < COSTS[agent].length; ++job) {
+                assignments[agent][job] = this.model.addBinaryVariable(COSTS[agent][job]);
+                load.addCoefficient(assignments[agent][job], WEIGHTS[agent][job]);
+            }
+            this.model.addLessThanOrEqualToConstraint(CAPACITIES[agent], load);
+        }
+        for (int job = 0; job < COSTS[0].length; ++job) {
+            final LinearExpression assignment = new LinearExpression();
+            for (final Variable[] agentAssignments : assignments) {
+                assignment.addCoefficient(agentAssignments[job], 1.0);
+            }
+            this.assignmentConstraints.add(this.model.addEqualityConstraint(1.0, assignment));
+        }
+    }
+
+    @Test
+    void relaxingTheAssignmentConstraintsMustSplitTheAgents() throws ConstraintException, InterruptedException {
+        try (LagrangianSolver solver = new LagrangianSolver(this.model, this.assignmentConstraints, new SubgradientUpdate(1.0, 5), 2)) {
+            assertEquals(2, solver.getNmbBlocks());
+
+            // The costs reduced by these multipliers are 0, 3, 0 for agent 0 and 1, 0, 1 for agent 1
+            final LagrangianSolution solution = solver.minimize(new double[]{4.0, 3.0, 5.0}, EPSILON, 1).orElseThrow();
+            assertEquals(12.0, solution.getLowerBound(), EPSILON);
+        }
+    }
+
+    @Test
+    void subgradientStepsMustReachTheDualOptimum() throws ConstraintException, InterruptedException {
+        try (LagrangianSolver solver = new LagrangianSolver(this.model, this.assignmentConstraints, new SubgradientUpdate(1.0, 12.0, 5), 2)) {
+            final LagrangianSolution solution = solver.minimize(new double[3], EPSILON, 100).orElseThrow();
+
+            assertEquals(12.0, solution.getLowerBound(), DUAL_TOLERANCE);
+            assertEquals(3, solution.getMultipliers().length);
+        }
+    }
+
+    @Test
+    void bundleStepsMustReachTheDualOptimum() throws ConstraintException, InterruptedException {
+        try (LagrangianSolver solver = new LagrangianSolver(this.model, this.assignmentConstraints, new BundleUpdate(2.0), 1)) {
+            final LagrangianSolution solution = solver.minimize(new double[3], EPSILON, 100).orElseThrow();
+
+            assertEquals(12.0, solution.getLowerBound(), DUAL_TOLERANCE);
+        }
+    }
+
+    @Test
+    void overEstimatedMultipliersMustBeDecreased() throws ConstraintException, InterruptedException, LinearExpressionException {
+        final Model singleVariableModel = new Model();
+        final Variable x = singleVariableModel.addContinuousVariable(0.0, 10.0, 1.0);
+        final Constraint constraint = singleVariableModel.addGreaterThanOrEqualToConstraint(1.0, LinearExpression.of(new ExpressionCoefficient(x, 1.0)));
+        try (LagrangianSolver solver = new LagrangianSolver(singleVariableModel, List.of(constraint), new SubgradientUpdate(1.0, 5), 1)) {
+            // x = 10 satisfies x >= 1 with the multiplier 2, but not the complementary slackness, hence the bound -8
+            final LagrangianSolution solution = solver.minimize(new double[]{2.0}, EPSILON, 50).orElseThrow();
+
+            assertEquals(1.0, solution.getLowerBound(), DUAL_TOLERANCE);
+            assertEquals(1.0, solution.getMultipliers()[0], DUAL_TOLERANCE);
+        }
+    }
+
+}
@@ -0,0 +1,123 @@
+package wrapper.model;
+
+import org.junit.jupiter.api.Test;
+import wrapper.model.expression.ExpressionCoefficient;
+import wrapper.model.expression.LinearExpression;
+import wrapper.model.expression.LinearExpressionException;
+import wrapper.model.variable.Variable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static wrapper.util.Constants.EPSILON;
+
+class LazyConstraintSolverTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    // Two clusters of cities, far from each other
+    private static final double[][] CITIES = {{0.0, 0.0}, {1.0, 0.0}, {0.0, 1.0}, {10.0, 0.0}, {11.0, 0.0}, {10.0, 1.0}};
+    private static final int NMB_CITIES = CITIES.length;
+
+    private final Model model = new Model();
+    private final Variable[][] edges = new Variable[NMB_CITIES][NMB_CITIES];
+
+    @Test
+    void subtoursMustBeEliminatedLazily() throws LinearExpressionException {
+        createTravelingSalesmanModel();
+        final LazyConstraintSolver solver = new LazyConstraintSolver(this.model, this::separateSubtours);
+
+        assertEquals(22.0 + Math.sqrt(2.0), solver.minimize(100).orElseThrow().getObjectiveValue(), EPSILON);
+        assertTrue(solver.getNmbRounds() >= 2);
+        assertTrue(solver.getNmbLazyConstraints() >= 2);
+    }
+
+    @Test
+    void violatedCandidateMustNotBeReturnedWhenTheRoundsRunOut() throws LinearExpressionException {
+        createTravelingSalesmanModel();
+        final LazyConstraintSolver solver = new LazyConstraintSolver(this.model, this::separateSubtours);
+
+        assertTrue(solver.minimize(1).isEmpty());
+        assertEquals(1, solver.getNmbRounds());
+    }
+
+    @Test
+    void violatedCandidateMustNotBeReturnedWhenOnlyDuplicatesAreAdded() throws LinearExpressionException {
+        final Variable x = this.model.addContinuousVariable(0.0, 10.0, -1.0);
+        final LinearExpression expression = LinearExpression.of(new ExpressionCoefficient(x, 1.0));
+        final LazyConstraintSolver solver = new LazyConstraintSolver(this.model, (candidate, cutManager) -> {
+            // The separator claims a violation on every candidate, but its constraint is already in the model after the first round
+            cutManager.addLessThanOrEqualToCut(5.0, expression);
+            return true;
+        });
+
+        assertTrue(solver.minimize(100).isEmpty());
+        assertEquals(2, solver.getNmbRounds());
+    }
+
+    private void createTravelingSalesmanModel() throws LinearExpressionException {
+        for (int i = 0; i < NMB_CITIES; ++i) {
+            for (int j = i + 1; j < NMB_CITIES; ++j) {
+                this.edges[i][j] = this.model.addBinaryVariable(Math.hypot(CITIES[i][0] - CITIES[j][0], CITIES[i][1] - CITIES[j][1]));
+                this.edges[j][i] = this.edges[i][j];
+            }
+        }
+        for (int i = 0; i < NMB_CITIES; ++i) {
+            final LinearExpression degree = new LinearExpression();
+            for (int j = 0; j < NMB_CITIES; ++j) {
+                if (i != j) {
+                    degree.addCoefficient(this.edges[i][j], 1.0);
+                }
+            }
+            this.model.addEqualityConstraint(2.0, degree);
+        }
+    }
+
+    private boolean separateSubtours(final double[] candidate, final CutManager cutManager) {
+        final int[] component = new int[NMB_CITIES];
+        final List<List<Integer>> subtours = new ArrayList<>();
+        Arrays.fill(component, -1);
+        for (int start = 0; start < NMB_CITIES; ++start) {
+            if (component[start] >= 0) {
+                continue;
+            }
+            final List<Integer> subtour = new ArrayList<>();
+            final List<Integer> stack = new ArrayList<>(List.of(start));
+            component[start] = subtours.size();
+            while (!stack.isEmpty()) {
+                final int city = stack.removeLast();
+                subtour.add(city);
+                for (int next = 0; next < NMB_CITIES; ++next) {
+                    if (next != city && component[next] < 0 && candidate[(int) this.edges[city][next].index()] > 0.5) {
+                        component[next] = subtours.size();
+                        stack.add(next);
+                    }
+                }
+            }
+            subtours.add(subtour);
+        }
+        if (subtours.size() == 1) {
+            return false;
+        }
+        for (final List<Integer> subtour : subtours) {
+            final LinearExpression expression = new LinearExpression();
+            for (int i = 0; i < subtour.size(); ++i) {
+                for (int j = i + 1; j < subtour.size(); ++j) {
+                    try {
+                        expression.addCoefficient(this.edges[subtour.get(i)][subtour.get(j)], 1.0);
+                    } catch (LinearExpressionException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+            cutManager.addLessThanOrEqualToCut(subtour.size() - 1.0, expression);
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,88 @@
+package wrapper.model;
+
+import highs.DoubleArray;
+import org.junit.jupiter.api.Test;
+import wrapper.model.expression.ExpressionCoefficient;
+import wrapper.model.expression.LinearExpression;
+import wrapper.model.expression.LinearExpressionException;
+import wrapper.model.variable.Variable;
+import wrapper.solution.AnytimeSolution;
+import wrapper.solution.Solution;
+
+import java.time.Duration;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static wrapper.util.Constants.EPSILON;
+
+class ModelAnytimeTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    // Market split instance, any assignment is feasible thanks to the slack variables but optimality is hard to prove
+    private static Model createMarketSplitModel() throws LinearExpressionException {
+        final Random random = new Random(3);
+        final Model model = new Model();
+        final Variable[] x = new Variable[40];
+        for (int j = 0; j < x.length; ++j) {
+            x[j] = model.addBinaryVariable(0.0);
+        }
+        for (int i = 0; i < 5; ++i) {
+            final LinearExpression linearExpression = new LinearExpression();
+            int sum = 0;
+            for (final Variable variable : x) {
+                final int coefficient = random.nextInt(100);
+                linearExpression.addCoefficient(variable, coefficient);
+                sum += coefficient;
+            }
+            linearExpression.addCoefficient(model.addContinuousVariable(0.0, Double.MAX_VALUE, 1.0), 1.0);
+            linearExpression.addCoefficient(model.addContinuousVariable(0.0, Double.MAX_VALUE, 1.0), -1.0);
+            model.addEqualityConstraint(sum / 2, linearExpression);
+        }
+        return model;
+    }
+
+    @Test
+    void minimizeWithinMustReturnTheIncumbentAtTheDeadline() throws LinearExpressionException {
+        final Model model = createMarketSplitModel();
+        final long start = System.nanoTime();
+
+        final AnytimeSolution anytimeSolution = model.minimizeWithin(Duration.ofMillis(300));
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(5)) < 0);
+        final Solution incumbent = anytimeSolution.getIncumbent().orElseThrow();
+        assertTrue(incumbent.isFeasible());
+        assertTrue(anytimeSolution.getMipDualBound() <= incumbent.getObjectiveValue() + EPSILON);
+    }
+
+    @Test
+    void maximizeWithinMustReturnTheOptimalSolutionWhenFastEnough() throws LinearExpressionException {
+        final Model model = new Model();
+        final Variable x = model.addIntegerVariable(0.0, 10.0, 3.0);
+        final Variable y = model.addIntegerVariable(0.0, 10.0, 2.0);
+        model.addLessThanOrEqualToConstraint(7.5, LinearExpression.of(new ExpressionCoefficient(x, 1.0),
+                new ExpressionCoefficient(y, 2.0)));
+
+        final AnytimeSolution anytimeSolution = model.maximizeWithin(Duration.ofSeconds(30));
+
+        assertFalse(anytimeSolution.isDeadlineReached());
+        assertTrue(anytimeSolution.getIncumbent().orElseThrow().isOptimal());
+        assertEquals(21.0, anytimeSolution.getIncumbent().orElseThrow().getObjectiveValue(), EPSILON);
+        assertEquals(0.0, anytimeSolution.getMipGap(), EPSILON);
+    }
+
+    @Test
+    void minimizeWithinMustRestoreTheTimeLimit() throws LinearExpressionException {
+        final Model model = createMarketSplitModel();
+
+        model.minimizeWithin(Duration.ofMillis(100));
+
+        final DoubleArray timeLimit = new DoubleArray(1);
+        model.getHighs().getOptionValue("time_limit", timeLimit.cast());
+        assertEquals(Double.POSITIVE_INFINITY, timeLimit.getitem(0));
+    }
+
+}
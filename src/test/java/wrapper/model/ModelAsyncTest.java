@@ -0,0 +1,93 @@
+package wrapper.model;
+
+import org.junit.jupiter.api.Test;
+import wrapper.model.expression.ExpressionCoefficient;
+import wrapper.model.expression.LinearExpression;
+import wrapper.model.expression.LinearExpressionException;
+import wrapper.model.variable.Variable;
+import wrapper.solution.Solution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static wrapper.util.Constants.EPSILON;
+
+class ModelAsyncTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    // Market split instance, notoriously hard for branch-and-bound
+    private static Model createMarketSplitModel() throws LinearExpressionException {
+        final Random random = new Random(42);
+        final Model model = new Model();
+        final int nmbVariables = 40;
+        final Variable[] x = new Variable[nmbVariables];
+        for (int j = 0; j < nmbVariables; ++j) {
+            x[j] = model.addBinaryVariable(0.0);
+        }
+        for (int i = 0; i < 5; ++i) {
+            final LinearExpression linearExpression = new LinearExpression();
+            int sum = 0;
+            for (int j = 0; j < nmbVariables; ++j) {
+                final int coefficient = random.nextInt(100);
+                linearExpression.addCoefficient(x[j], coefficient);
+                sum += coefficient;
+            }
+            linearExpression.addCoefficient(model.addContinuousVariable(0.0, Double.MAX_VALUE, 1.0), 1.0);
+            linearExpression.addCoefficient(model.addContinuousVariable(0.0, Double.MAX_VALUE, 1.0), -1.0);
+            model.addEqualityConstraint(sum / 2, linearExpression);
+        }
+        return model;
+    }
+
+    @Test
+    void minimizeAsyncMustGiveTheSameSolution() throws LinearExpressionException, ExecutionException, InterruptedException {
+        final Model model = new Model();
+        final Variable x = model.addContinuousVariable(0.0, Double.MAX_VALUE, 2.0);
+        final Variable y = model.addContinuousVariable(0.0, Double.MAX_VALUE, 3.0);
+        model.addGreaterThanOrEqualToConstraint(4.0, LinearExpression.of(new ExpressionCoefficient(x, 1.0), new ExpressionCoefficient(y, 1.0)));
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        final Solution solution = model.minimizeAsync(executor).get();
+        executor.shutdown();
+
+        assertTrue(solution.isFeasible());
+        assertEquals(8.0, solution.getObjectiveValue(), EPSILON);
+    }
+
+    @Test
+    void cancelMustStopTheNativeSolve() throws LinearExpressionException, InterruptedException, ExecutionException, TimeoutException {
+        final Model model = createMarketSplitModel();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final CompletableFuture<Solution> future = model.minimizeAsync(executor);
+        Thread.sleep(500);
+
+        future.cancel(true);
+
+        assertTrue(future.isCancelled());
+        // The single thread of the executor is freed once the native solve is interrupted.
+        executor.submit(() -> {
+        }).get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+    }
+
+    @Test
+    void cancelBeforeStartMustSkipTheSolve() throws LinearExpressionException {
+        final Model model = createMarketSplitModel();
+        final List<Runnable> pendingTasks = new ArrayList<>();
+        final CompletableFuture<Solution> future = model.minimizeAsync(pendingTasks::add);
+
+        future.cancel(true);
+        // Would run the whole hard solve if it was not skipped.
+        pendingTasks.forEach(Runnable::run);
+
+        assertTrue(future.isCancelled());
+    }
+
+}
@@ -0,0 +1,58 @@
+package wrapper.model;
+
+import org.junit.jupiter.api.Test;
+import wrapper.model.expression.ExpressionCoefficient;
+import wrapper.model.expression.LinearExpression;
+import wrapper.model.expression.LinearExpressionException;
+import wrapper.model.variable.Variable;
+import wrapper.solution.Basis;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static wrapper.util.Constants.EPSILON;
+
+class ModelBasisCheckpointTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    private static Model createModel() throws LinearExpressionException {
+        final Model model = new Model();
+        final Variable x = model.addContinuousVariable(0.0, 10.0, 3.0);
+        final Variable y = model.addContinuousVariable(0.0, 10.0, 2.0);
+        model.addLessThanOrEqualToConstraint(7.5, LinearExpression.of(new ExpressionCoefficient(x, 1.0), new ExpressionCoefficient(y, 2.0)));
+        model.addLessThanOrEqualToConstraint(9.0, LinearExpression.of(new ExpressionCoefficient(x, 1.0), new ExpressionCoefficient(y, 1.0)));
+        return model;
+    }
+
+    @Test
+    void basisMustNotBeFrozenBeforeASolve() throws LinearExpressionException {
+        final Model model = createModel();
+
+        assertThrows(IllegalStateException.class, model::freezeBasis);
+    }
+
+    @Test
+    void whatIfChangesMustStartFromTheFrozenBasis() throws LinearExpressionException {
+        final Model model = createModel();
+        final Variable x = new Variable(0);
+        model.maximize().orElseThrow();
+        final Basis optimalBasis = model.getBasis().orElseThrow();
+
+        try (BasisCheckpoint _ = model.freezeBasis()) {
+            model.updateVariableBounds(0.0, 5.0, x);
+            assertEquals(17.5, model.maximize().orElseThrow().getObjectiveValue(), EPSILON);
+            model.updateVariableBounds(0.0, 10.0, x);
+        }
+        assertEquals(optimalBasis, model.getBasis().orElseThrow());
+
+        try (BasisCheckpoint _ = model.freezeBasis()) {
+            model.updateVariableBounds(0.0, 6.0, x);
+            assertEquals(19.5, model.maximize().orElseThrow().getObjectiveValue(), EPSILON);
+            model.updateVariableBounds(0.0, 10.0, x);
+        }
+        assertEquals(22.5, model.maximize().orElseThrow().getObjectiveValue(), EPSILON);
+    }
+
+}
@@ -0,0 +1,59 @@
+package wrapper.model;
+
+import org.junit.jupiter.api.Test;
+import wrapper.model.expression.ExpressionCoefficient;
+import wrapper.model.expression.LinearExpression;
+import wrapper.model.expression.LinearExpressionException;
+import wrapper.model.variable.Variable;
+import wrapper.solution.Basis;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static wrapper.util.Constants.EPSILON;
+
+class ModelBasisTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    private static Model createModel() throws LinearExpressionException {
+        final Model model = new Model();
+        final Variable x = model.addContinuousVariable(0.0, 10.0, 3.0);
+        final Variable y = model.addContinuousVariable(0.0, 10.0, 2.0);
+        model.addLessThanOrEqualToConstraint(7.5, LinearExpression.of(new ExpressionCoefficient(x, 1.0), new ExpressionCoefficient(y, 2.0)));
+        model.addLessThanOrEqualToConstraint(9.0, LinearExpression.of(new ExpressionCoefficient(x, 1.0), new ExpressionCoefficient(y, 1.0)));
+        return model;
+    }
+
+    @Test
+    void basisMustNotBeAvailableBeforeASolve() throws LinearExpressionException {
+        assertTrue(createModel().getBasis().isEmpty());
+    }
+
+    @Test
+    void storedBasisMustBeAppliedToAnotherModel() throws LinearExpressionException {
+        final Model model = createModel();
+        assertEquals(22.5, model.maximize().orElseThrow().getObjectiveValue(), EPSILON);
+        final Basis basis = Basis.fromBytes(model.getBasis().orElseThrow().toBytes());
+
+        final Model otherModel = createModel();
+
+        assertTrue(otherModel.setBasis(basis));
+        assertEquals(22.5, otherModel.maximize().orElseThrow().getObjectiveValue(), EPSILON);
+        assertEquals(basis, otherModel.getBasis().orElseThrow());
+    }
+
+    @Test
+    void basisOfAnotherStructureMustBeRejected() throws LinearExpressionException {
+        final Model model = createModel();
+        model.maximize();
+        final Basis basis = model.getBasis().orElseThrow();
+
+        final Model otherModel = createModel();
+        otherModel.addContinuousVariable(0.0, 1.0, 1.0);
+
+        assertFalse(otherModel.setBasis(basis));
+    }
+
+}
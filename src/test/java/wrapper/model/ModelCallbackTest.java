@@ -0,0 +1,124 @@
+package wrapper.model;
+
+import highs.HighsCallbackType;
+import highs.SWIGTYPE_p_bool;
+import org.junit.jupiter.api.Test;
+import wrapper.callback.CallbackException;
+import wrapper.model.expression.LinearExpression;
+import wrapper.model.expression.LinearExpressionException;
+import wrapper.model.option.CommonBooleanOptions;
+import wrapper.model.option.OptionException;
+import wrapper.model.option.StringOption;
+import wrapper.solution.Solution;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static wrapper.util.Constants.EPSILON;
+
+class ModelCallbackTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    private static Model createKnapsackModel() throws LinearExpressionException, OptionException {
+        final double[] values = {1, 2, 3.5, 4.6, 7.2};
+        final double[] weights = {0.5, 1, 4.5, 1.0, 4.3};
+        final Model model = new Model();
+        final LinearExpression capacityExpression = new LinearExpression();
+        for (int i = 0; i < values.length; ++i) {
+            capacityExpression.addCoefficient(model.addIntegerVariable(0.0, Double.MAX_VALUE, values[i]), weights[i]);
+        }
+        model.addLessThanOrEqualToConstraint(50, capacityExpression);
+        // Otherwise presolve may solve the instance without any branch-and-bound callback.
+        model.addOption(new StringOption("presolve", "off"));
+        return model;
+    }
+
+    @Test
+    void callbackHandlerMustReceiveTheImprovingSolutions() throws LinearExpressionException, OptionException {
+        final Model model = createKnapsackModel();
+        final List<double[]> improvingSolutions = new ArrayList<>();
+        model.setCallbackHandler(context -> context.getMipSolution().ifPresent(improvingSolutions::add),
+                HighsCallbackType.kCallbackMipImprovingSolution);
+
+        final Solution solution = model.maximize().orElseThrow();
+
+        assertEquals(230.0, solution.getObjectiveValue(), EPSILON);
+        assertFalse(improvingSolutions.isEmpty());
+        assertArrayEquals(solution.getVariableValues(), improvingSolutions.getLast(), EPSILON);
+    }
+
+    @Test
+    void failingCallbackHandlerMustThrowAfterTheSolve() throws LinearExpressionException, OptionException {
+        final Model model = createKnapsackModel();
+        model.setCallbackHandler(_ -> {
+            throw new IllegalStateException("Handler failure");
+        }, HighsCallbackType.kCallbackMipImprovingSolution, HighsCallbackType.kCallbackMipInterrupt);
+
+        final CallbackException exception = assertThrows(CallbackException.class, model::maximize);
+        assertEquals("Handler failure", exception.getCause().getMessage());
+    }
+
+    @Test
+    void removeCallbackHandlerMustStopTheCalls() throws LinearExpressionException, OptionException {
+        final Model model = createKnapsackModel();
+        final List<double[]> improvingSolutions = new ArrayList<>();
+        model.setCallbackHandler(context -> context.getMipSolution().ifPresent(improvingSolutions::add),
+                HighsCallbackType.kCallbackMipImprovingSolution);
+
+        model.removeCallbackHandler();
+        model.maximize().orElseThrow();
+
+        assertTrue(improvingSolutions.isEmpty());
+    }
+
+    @Test
+    void logHandlerMustReceiveTheLogMessages() throws LinearExpressionException, OptionException {
+        final Model model = createKnapsackModel();
+        final List<String> messages = new ArrayList<>();
+        model.setLogHandler((_, message) -> messages.add(message));
+
+        model.maximize().orElseThrow();
+        final int nmbMessages = messages.size();
+        model.removeLogHandler();
+        model.maximize().orElseThrow();
+
+        assertTrue(nmbMessages > 0);
+        assertEquals(nmbMessages, messages.size());
+    }
+
+    @Test
+    void failingLogHandlerMustThrowAfterTheSolve() throws LinearExpressionException, OptionException {
+        final Model model = createKnapsackModel();
+        model.setLogHandler((_, _) -> {
+            throw new IllegalStateException("Log handler failure");
+        });
+
+        final CallbackException exception = assertThrows(CallbackException.class, model::maximize);
+        assertEquals("Log handler failure", exception.getCause().getMessage());
+    }
+
+    @Test
+    void removeLogHandlerMustRestoreTheSolverOutput() throws LinearExpressionException, OptionException {
+        final Model model = createKnapsackModel();
+        model.addOption(CommonBooleanOptions.SOLVER_OUTPUT.getOption(true));
+        model.setLogHandler((_, _) -> {
+        });
+
+        model.removeLogHandler();
+
+        try (Arena arena = Arena.ofConfined()) {
+            final MemorySegment outputFlag = arena.allocate(ValueLayout.JAVA_BYTE);
+            model.getHighs().getOptionValue("output_flag", new SWIGTYPE_p_bool(outputFlag.address(), false));
+            assertEquals(1, outputFlag.get(ValueLayout.JAVA_BYTE, 0));
+        }
+    }
+
+}
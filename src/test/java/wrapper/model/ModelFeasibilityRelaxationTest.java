@@ -0,0 +1,67 @@
+package wrapper.model;
+
+import org.junit.jupiter.api.Test;
+import wrapper.model.constraint.Constraint;
+import wrapper.model.constraint.ConstraintException;
+import wrapper.model.expression.ExpressionCoefficient;
+import wrapper.model.expression.LinearExpression;
+import wrapper.model.expression.LinearExpressionException;
+import wrapper.model.variable.Variable;
+import wrapper.solution.ViolationReport;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static wrapper.util.Constants.EPSILON;
+
+class ModelFeasibilityRelaxationTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    // x + y >= 10 cannot hold with x <= 3 and y <= 4
+    private final Model model = new Model();
+    private final Variable x = this.model.addContinuousVariable(0.0, 3.0, 1.0);
+    private final Variable y = this.model.addContinuousVariable(0.0, 4.0, 1.0);
+    private final Constraint demand;
+
+    ModelFeasibilityRelaxationTest() throws LinearExpressionException {
+        this.demand = this.model.addGreaterThanOrEqualToConstraint(10.0, LinearExpression.of(new ExpressionCoefficient(this.x, 1.0),
+                new ExpressionCoefficient(this.y, 1.0)));
+    }
+
+    @Test
+    void constraintMustBeRelaxedWhenBoundsAreExpensive() throws ConstraintException {
+        final ViolationReport report = this.model.relaxFeasibility(100.0, 100.0, 1.0).orElseThrow();
+
+        assertEquals(-3.0, report.getConstraintViolation(this.demand), EPSILON);
+        assertEquals(0.0, report.getVariableViolation(this.x), EPSILON);
+        assertEquals(0.0, report.getVariableViolation(this.y), EPSILON);
+        assertEquals(List.of(this.demand), report.getViolatedConstraints());
+        assertTrue(report.getViolatedVariables().isEmpty());
+        assertEquals(3.0, report.getWeightedViolation(), EPSILON);
+        assertFalse(report.isFeasible());
+    }
+
+    @Test
+    void cheapestBoundMustBeRelaxedWithPerVariablePenalties() throws ConstraintException {
+        final ViolationReport report = this.model.relaxFeasibility(new double[]{-1.0, -1.0}, new double[]{1.0, 2.0}, new double[]{-1.0})
+                .orElseThrow();
+
+        assertEquals(3.0, report.getVariableViolation(this.x), EPSILON);
+        assertEquals(0.0, report.getVariableViolation(this.y), EPSILON);
+        assertEquals(0.0, report.getConstraintViolation(this.demand), EPSILON);
+        assertEquals(List.of(this.x), report.getViolatedVariables());
+        assertEquals(3.0, report.getWeightedViolation(), EPSILON);
+        assertEquals(6.0, report.getSolution().getVariableValue(this.x), EPSILON);
+    }
+
+    @Test
+    void penaltiesMustMatchTheModelDimensions() {
+        assertThrows(IllegalArgumentException.class, () -> this.model.relaxFeasibility(new double[1], new double[2], new double[1]));
+        assertThrows(IllegalArgumentException.class, () -> this.model.relaxFeasibility(new double[2], new double[2], new double[0]));
+    }
+
+}
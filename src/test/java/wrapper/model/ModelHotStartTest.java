@@ -0,0 +1,57 @@
+package wrapper.model;
+
+import org.junit.jupiter.api.Test;
+import wrapper.model.expression.ExpressionCoefficient;
+import wrapper.model.expression.LinearExpression;
+import wrapper.model.expression.LinearExpressionException;
+import wrapper.model.variable.Variable;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static wrapper.util.Constants.EPSILON;
+
+class ModelHotStartTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    private static Model createModel() throws LinearExpressionException {
+        final Model model = new Model();
+        final Variable x = model.addContinuousVariable(0.0, 10.0, 3.0);
+        final Variable y = model.addContinuousVariable(0.0, 10.0, 2.0);
+        model.addLessThanOrEqualToConstraint(7.5, LinearExpression.of(new ExpressionCoefficient(x, 1.0), new ExpressionCoefficient(y, 2.0)));
+        model.addLessThanOrEqualToConstraint(9.0, LinearExpression.of(new ExpressionCoefficient(x, 1.0), new ExpressionCoefficient(y, 1.0)));
+        return model;
+    }
+
+    @Test
+    void hotStartMustNotBeCapturedBeforeASolve() throws LinearExpressionException {
+        assertTrue(createModel().captureHotStart().isEmpty());
+    }
+
+    @Test
+    void modifiedModelMustBeResolvedFromTheHotStart() throws LinearExpressionException {
+        final Model model = createModel();
+        assertEquals(22.5, model.maximize().orElseThrow().getObjectiveValue(), EPSILON);
+        final HotStart hotStart = model.captureHotStart().orElseThrow();
+
+        model.updateVariableCost(1.0, new Variable(0));
+
+        assertEquals(7.5, model.resolveFrom(hotStart).orElseThrow().getObjectiveValue(), EPSILON);
+    }
+
+    @Test
+    void copyMustBeResolvedFromTheHotStartOfTheOriginal() throws LinearExpressionException {
+        final Model model = createModel();
+        model.maximize().orElseThrow();
+        final HotStart hotStart = model.captureHotStart().orElseThrow();
+
+        final Model copy = model.copy();
+        copy.updateVariableCost(1.0, new Variable(0));
+
+        assertEquals(7.5, copy.resolveFrom(hotStart).orElseThrow().getObjectiveValue(), EPSILON);
+        assertEquals(22.5, model.maximize().orElseThrow().getObjectiveValue(), EPSILON);
+    }
+
+}
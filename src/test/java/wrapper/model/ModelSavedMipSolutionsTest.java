@@ -0,0 +1,67 @@
+package wrapper.model;
+
+import org.junit.jupiter.api.Test;
+import wrapper.model.expression.ExpressionCoefficient;
+import wrapper.model.expression.LinearExpression;
+import wrapper.model.expression.LinearExpressionException;
+import wrapper.model.option.CommonBooleanOptions;
+import wrapper.model.option.OptionException;
+import wrapper.model.option.StringOption;
+import wrapper.model.variable.Variable;
+import wrapper.solution.SavedMipSolution;
+import wrapper.solution.Solution;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static wrapper.util.Constants.EPSILON;
+
+class ModelSavedMipSolutionsTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    private static Model createKnapsackModel() throws LinearExpressionException {
+        final Model model = new Model();
+        final double[] weights = {12.0, 7.0, 11.0, 8.0, 9.0};
+        final double[] values = {-24.0, -13.0, -23.0, -15.0, -16.0};
+        final LinearExpression capacityExpression = new LinearExpression();
+        for (int i = 0; i < weights.length; ++i) {
+            final Variable x = model.addBinaryVariable(values[i]);
+            capacityExpression.addCoefficient(x, weights[i]);
+        }
+        model.addLessThanOrEqualToConstraint(26.0, capacityExpression);
+        return model;
+    }
+
+    @Test
+    void streamSavedMipSolutionsMustBeEmptyByDefault() throws LinearExpressionException {
+        final Model model = createKnapsackModel();
+
+        model.minimize().orElseThrow();
+
+        assertEquals(0, model.streamSavedMipSolutions().count());
+    }
+
+    @Test
+    void streamSavedMipSolutionsMustEndWithBestSolution() throws LinearExpressionException, OptionException {
+        final Model model = createKnapsackModel();
+        model.addOption(CommonBooleanOptions.MIP_IMPROVING_SOLUTION_SAVE.getOption(true));
+        model.addOption(new StringOption("presolve", "off"));
+
+        final Solution solution = model.minimize().orElseThrow();
+        final List<SavedMipSolution> savedMipSolutions = model.streamSavedMipSolutions().toList();
+
+        assertFalse(savedMipSolutions.isEmpty());
+        final SavedMipSolution bestSavedMipSolution = savedMipSolutions.getLast();
+        assertEquals(solution.getObjectiveValue(), bestSavedMipSolution.getObjectiveValue(), EPSILON);
+        assertEquals(5, bestSavedMipSolution.getNmbVariables());
+        for (int i = 0; i < savedMipSolutions.size() - 1; ++i) {
+            assertTrue(savedMipSolutions.get(i).getObjectiveValue() >= savedMipSolutions.get(i + 1).getObjectiveValue() - EPSILON);
+        }
+        assertEquals(solution.getVariableValue(new Variable(0)), bestSavedMipSolution.getVariableValue(new Variable(0)), EPSILON);
+    }
+
+}
@@ -0,0 +1,49 @@
+package wrapper.model;
+
+import org.junit.jupiter.api.Test;
+import wrapper.model.expression.ExpressionCoefficient;
+import wrapper.model.expression.LinearExpression;
+import wrapper.model.expression.LinearExpressionException;
+import wrapper.model.variable.Variable;
+import wrapper.solution.SensitivityReport;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static wrapper.util.Constants.EPSILON;
+
+class ModelSensitivityTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    @Test
+    void getSensitivityReportMustBeEmptyBeforeSolve() {
+        final Model model = new Model();
+        model.addContinuousVariable(0.0, 1.0, 1.0);
+
+        assertTrue(model.getSensitivityReport().isEmpty());
+    }
+
+    @Test
+    void getSensitivityReportMustGiveCostRanging() throws LinearExpressionException {
+        final Model model = new Model();
+        final Variable x = model.addContinuousVariable(0.0, Double.MAX_VALUE, 2.0);
+        final Variable y = model.addContinuousVariable(0.0, Double.MAX_VALUE, 3.0);
+        model.addGreaterThanOrEqualToConstraint(4.0, LinearExpression.of(new ExpressionCoefficient(x, 1.0), new ExpressionCoefficient(y, 1.0)));
+        model.minimize().orElseThrow();
+
+        final SensitivityReport sensitivityReport = model.getSensitivityReport().orElseThrow();
+
+        assertEquals(2, sensitivityReport.getCostUp().size());
+        assertEquals(1, sensitivityReport.getConstraintBoundUp().size());
+        // x remains optimal while its cost lies in [0, 3].
+        assertEquals(3.0, sensitivityReport.getCostUp().getValues()[(int) x.index()], EPSILON);
+        assertEquals(12.0, sensitivityReport.getCostUp().getObjectiveValues()[(int) x.index()], EPSILON);
+        assertEquals(0.0, sensitivityReport.getCostDown().getValues()[(int) x.index()], EPSILON);
+        // y remains at zero while its cost is greater than 2.
+        assertEquals(2.0, sensitivityReport.getCostDown().getValues()[(int) y.index()], EPSILON);
+        assertEquals(Double.POSITIVE_INFINITY, sensitivityReport.getCostUp().getValues()[(int) y.index()]);
+    }
+
+}
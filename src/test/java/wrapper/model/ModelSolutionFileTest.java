@@ -0,0 +1,70 @@
+package wrapper.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import wrapper.model.expression.ExpressionCoefficient;
+import wrapper.model.expression.LinearExpression;
+import wrapper.model.expression.LinearExpressionException;
+import wrapper.model.variable.Variable;
+import wrapper.model.variable.VariableException;
+import wrapper.solution.InitialSolution;
+import wrapper.solution.Solution;
+import wrapper.solution.SolutionFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static wrapper.util.Constants.EPSILON;
+
+class ModelSolutionFileTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    private static Model createModel() throws LinearExpressionException {
+        final Model model = new Model();
+        final Variable x = model.addIntegerVariable(0.0, 10.0, 3.0);
+        final Variable y = model.addIntegerVariable(0.0, 10.0, 2.0);
+        model.addLessThanOrEqualToConstraint(7.5, LinearExpression.of(new ExpressionCoefficient(x, 1.0), new ExpressionCoefficient(y, 2.0)));
+        return model;
+    }
+
+    @Test
+    void fingerprintMustOnlyDependOnTheModelStructure() throws LinearExpressionException {
+        final Model model = createModel();
+        final long fingerprint = model.getFingerprint();
+
+        assertEquals(fingerprint, createModel().getFingerprint());
+        model.updateVariableCost(4.0, new Variable(0));
+        assertNotEquals(fingerprint, model.getFingerprint());
+    }
+
+    @Test
+    void solutionMustNotChangeWithTheNextSolve() throws LinearExpressionException, VariableException {
+        final Model model = createModel();
+        final Solution maximum = model.maximize().orElseThrow();
+        final Solution minimum = model.minimize().orElseThrow();
+
+        assertEquals(7.0, maximum.getVariableValue(new Variable(0)), EPSILON);
+        assertEquals(0.0, minimum.getVariableValue(new Variable(0)), EPSILON);
+    }
+
+    @Test
+    void storedSolutionMustWarmStartTheModel(@TempDir final Path directory) throws LinearExpressionException, IOException, VariableException {
+        final Path path = directory.resolve("solution.bin");
+        final Model model = createModel();
+        SolutionFile.write(path, model.maximize().orElseThrow(), model.getFingerprint());
+
+        final Model restartedModel = createModel();
+        final Solution storedSolution = SolutionFile.read(path, restartedModel.getFingerprint());
+
+        assertEquals(21.0, storedSolution.getObjectiveValue(), EPSILON);
+        assertEquals(7.0, storedSolution.getVariableValue(new Variable(0)), EPSILON);
+        assertTrue(restartedModel.parseInitialSolution(InitialSolution.of(storedSolution)));
+        assertEquals(21.0, restartedModel.maximize().orElseThrow().getObjectiveValue(), EPSILON);
+    }
+
+}
@@ -2,10 +2,17 @@ package wrapper.model;
 
 
 import org.junit.jupiter.api.Test;
+import wrapper.model.constraint.Constraint;
+import wrapper.model.constraint.ConstraintException;
+import wrapper.model.constraint.ConstraintType;
+import wrapper.model.expression.LinearExpression;
+import wrapper.model.variable.Column;
 import wrapper.model.variable.Variable;
 import wrapper.model.variable.VariableException;
 import wrapper.solution.Solution;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static wrapper.util.Constants.EPSILON;
@@ -76,4 +83,28 @@ class ModelVariableTest {
         assertEquals("Variable with index 14 does not exist in the model", exception.getMessage());
     }
 
+    @Test
+    void addColumnsMustAddCoefficientsToExistingConstraints() throws ConstraintException {
+        final Model model = new Model();
+        final Constraint constraint = model.addGreaterThanOrEqualToConstraint(6.0, new LinearExpression());
+        final Column cheap = new Column(0.0, 2.0, 1.0);
+        cheap.addCoefficient(constraint, 2.0);
+        final Column expensive = new Column(0.0, Double.MAX_VALUE, 3.0);
+        expensive.addCoefficient(constraint, 1.0);
+
+        final List<Variable> variables = model.addColumns(List.of(cheap, expensive));
+        assertEquals(List.of(new Variable(0), new Variable(1)), variables);
+        assertEquals(2.0 + 3.0 * 2.0, model.minimize().orElseThrow().getObjectiveValue(), EPSILON);
+        assertThrows(ConstraintException.class, () -> cheap.addCoefficient(constraint, 1.0));
+    }
+
+    @Test
+    void addColumnsMustThrowForUnknownConstraint() throws ConstraintException {
+        final Model model = new Model();
+        final Column column = new Column(0.0, 1.0, 1.0);
+        column.addCoefficient(new Constraint(0, ConstraintType.GENERAL), 1.0);
+
+        assertThrows(ConstraintException.class, () -> model.addColumns(List.of(column)));
+    }
+
 }
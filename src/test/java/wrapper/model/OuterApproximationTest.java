@@ -0,0 +1,71 @@
+package wrapper.model;
+
+import org.junit.jupiter.api.Test;
+import wrapper.model.expression.ExpressionCoefficient;
+import wrapper.model.expression.LinearExpression;
+import wrapper.model.expression.LinearExpressionException;
+import wrapper.model.variable.Variable;
+import wrapper.solution.Solution;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OuterApproximationTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    private static final double TOLERANCE = 1E-6;
+
+    private final Model model = new Model();
+    private final Variable x = this.model.addContinuousVariable(0.0, 4.0, 0.0);
+    private final Variable y = this.model.addContinuousVariable(0.0, 4.0, 0.0);
+
+    OuterApproximationTest() throws LinearExpressionException {
+        this.model.addEqualityConstraint(3.0, LinearExpression.of(new ExpressionCoefficient(this.x, 1.0), new ExpressionCoefficient(this.y, 1.0)));
+    }
+
+    @Test
+    void tangentsMustBeRefinedUntilTheTolerance() {
+        final OuterApproximation outerApproximation = new OuterApproximation(this.model);
+        // x^2 + 2 y^2 is minimal at x = 2, y = 1 on x + y = 3
+        final ConvexTerm square = outerApproximation.addConvexTerm(this.x, 1.0, v -> v * v, v -> 2.0 * v, 0.0, 4.0);
+        final ConvexTerm doubleSquare = outerApproximation.addConvexTerm(this.y, 2.0, v -> v * v, v -> 2.0 * v, 0.0, 4.0);
+
+        final Solution solution = outerApproximation.minimize(TOLERANCE, 100).orElseThrow();
+
+        assertEquals(6.0, solution.getObjectiveValue(), 1E-4);
+        assertEquals(2.0, solution.getVariableValue(this.x), 1E-2);
+        // The tolerance is relative to the values of the functions, close to 4 and 1
+        assertTrue(square.getApproximationError(solution) <= TOLERANCE * 5.0);
+        assertTrue(doubleSquare.getApproximationError(solution) <= TOLERANCE * 2.0);
+        assertTrue(outerApproximation.getNmbTangents() < 100);
+        assertTrue(outerApproximation.getNmbRounds() > 1);
+        assertTrue(outerApproximation.isConverged());
+    }
+
+    @Test
+    void rejectedTangentMustNotBeReportedAsConverged() throws LinearExpressionException {
+        final OuterApproximation outerApproximation = new OuterApproximation(this.model);
+        this.model.addEqualityConstraint(2.0, LinearExpression.of(new ExpressionCoefficient(this.x, 1.0)));
+        outerApproximation.addConvexTerm(this.x, 1.0, v -> v * v, v -> 2.0 * v, 2.0);
+
+        // A negative tolerance asks for a tangent at x = 2 on every round, which duplicates the initial one
+        final Solution solution = outerApproximation.minimize(-1.0, 100).orElseThrow();
+
+        assertEquals(4.0, solution.getObjectiveValue(), 1E-6);
+        assertFalse(outerApproximation.isConverged());
+        assertEquals(1, outerApproximation.getNmbRounds());
+        assertEquals(1, outerApproximation.getNmbTangents());
+    }
+
+    @Test
+    void convexTermsMustHaveAPositiveWeightAndAnInitialTangent() {
+        final OuterApproximation outerApproximation = new OuterApproximation(this.model);
+
+        assertThrows(IllegalArgumentException.class, () -> outerApproximation.addConvexTerm(this.x, -1.0, v -> v * v, v -> 2.0 * v, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> outerApproximation.addConvexTerm(this.x, 1.0, v -> v * v, v -> 2.0 * v));
+    }
+
+}
@@ -0,0 +1,88 @@
+package wrapper.model;
+
+import highs.HighsPresolveStatus;
+import org.junit.jupiter.api.Test;
+import wrapper.model.expression.ExpressionCoefficient;
+import wrapper.model.expression.LinearExpression;
+import wrapper.model.expression.LinearExpressionException;
+import wrapper.model.variable.Variable;
+import wrapper.solution.Solution;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static wrapper.util.Constants.EPSILON;
+
+class PresolvedModelTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    private final Model model = new Model();
+    private final Variable x = this.model.addContinuousVariable(2.0, 2.0, 1.0);
+    private final Variable y = this.model.addContinuousVariable(0.0, 10.0, 1.0);
+    private final Variable z = this.model.addContinuousVariable(0.0, 10.0, 2.0);
+
+    private void addConstraints() throws LinearExpressionException {
+        this.model.addGreaterThanOrEqualToConstraint(3.0, LinearExpression.of(new ExpressionCoefficient(this.y, 1.0), new ExpressionCoefficient(this.z, 1.0)));
+        this.model.addLessThanOrEqualToConstraint(15.0, LinearExpression.of(new ExpressionCoefficient(this.x, 1.0), new ExpressionCoefficient(this.y, 1.0),
+                new ExpressionCoefficient(this.z, 1.0)));
+    }
+
+    @Test
+    void solutionMustBePostsolvedToTheOriginalModel() throws LinearExpressionException {
+        addConstraints();
+        final PresolvedModel presolvedModel = new PresolvedModel(this.model);
+
+        final Solution solution = presolvedModel.minimize().orElseThrow();
+
+        assertTrue(presolvedModel.getPresolveStatus() == HighsPresolveStatus.kReduced
+                || presolvedModel.getPresolveStatus() == HighsPresolveStatus.kReducedToEmpty);
+        assertTrue(presolvedModel.getNmbReducedVariables() < 3);
+        assertEquals(3, solution.getNmbVariables());
+        assertEquals(5.0, solution.getObjectiveValue(), EPSILON);
+        assertEquals(2.0, solution.getVariableValue(this.x), EPSILON);
+        assertEquals(3.0, solution.getVariableValue(this.y), EPSILON);
+        assertEquals(0.0, solution.getVariableValue(this.z), EPSILON);
+    }
+
+    @Test
+    void newCostsMustBeSolvedWithoutRepeatingThePresolve() throws LinearExpressionException {
+        addConstraints();
+        final PresolvedModel presolvedModel = new PresolvedModel(this.model);
+        assertEquals(5.0, presolvedModel.minimize().orElseThrow().getObjectiveValue(), EPSILON);
+        assertEquals(2.0 + 3.0 + 2.0 * 10.0, presolvedModel.maximize().orElseThrow().getObjectiveValue(), EPSILON);
+
+        this.model.updateVariableCost(0.5, this.z);
+
+        final Solution solution = presolvedModel.minimize().orElseThrow();
+        assertEquals(3.5, solution.getObjectiveValue(), EPSILON);
+        assertEquals(3.0, solution.getVariableValue(this.z), EPSILON);
+        assertEquals(0.0, solution.getVariableValue(this.y), EPSILON);
+    }
+
+    @Test
+    void presolveMustBeRepeatedWhenTheBoundsChange() throws LinearExpressionException {
+        addConstraints();
+        final PresolvedModel presolvedModel = new PresolvedModel(this.model);
+        assertEquals(5.0, presolvedModel.minimize().orElseThrow().getObjectiveValue(), EPSILON);
+
+        this.model.updateVariableBounds(1.0, 1.0, this.x);
+
+        final Solution solution = presolvedModel.minimize().orElseThrow();
+        assertEquals(4.0, solution.getObjectiveValue(), EPSILON);
+        assertEquals(1.0, solution.getVariableValue(this.x), EPSILON);
+    }
+
+    @Test
+    void reducedVariablesMustMapToOriginalVariables() throws LinearExpressionException {
+        addConstraints();
+        final PresolvedModel presolvedModel = new PresolvedModel(this.model);
+        presolvedModel.minimize();
+
+        for (int i = 0; i < presolvedModel.getNmbReducedVariables(); ++i) {
+            assertNotEquals(this.x, presolvedModel.getOriginalVariable(new Variable(i)));
+        }
+    }
+
+}
@@ -0,0 +1,113 @@
+package wrapper.model;
+
+import highs.DoubleArray;
+import highs.Highs;
+import org.junit.jupiter.api.Test;
+import wrapper.model.option.CommonDoubleOptions;
+import wrapper.model.option.OptionException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static wrapper.util.Constants.EPSILON;
+
+class SolverPoolTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    private static double getTimeLimit(final Highs highs) {
+        final DoubleArray timeLimit = new DoubleArray(1);
+        highs.getOptionValue("time_limit", timeLimit.cast());
+        return timeLimit.getitem(0);
+    }
+
+    @Test
+    void releaseMustRecycleAnEmptySolver() throws OptionException {
+        final SolverPool solverPool = new SolverPool(1);
+        final Model model = solverPool.checkout();
+        model.addContinuousVariable(0.0, 1.0, 1.0);
+
+        assertEquals(0, solverPool.getNmbIdleSolvers());
+        solverPool.release(model);
+        assertEquals(1, solverPool.getNmbIdleSolvers());
+
+        final Model recycledModel = solverPool.checkout();
+        assertSame(model.getHighs(), recycledModel.getHighs());
+        assertEquals(0, recycledModel.getHighs().getNumCol());
+    }
+
+    @Test
+    void checkoutMustCreateASolverWhenNoneIsIdle() throws OptionException {
+        final SolverPool solverPool = new SolverPool(1);
+
+        assertNotSame(solverPool.checkout().getHighs(), solverPool.checkout().getHighs());
+    }
+
+    @Test
+    void releaseMustRestoreThePoolOptions() throws OptionException {
+        final SolverPool solverPool = new SolverPool(1, CommonDoubleOptions.TIME_LIMIT.getOption(10.0));
+        final Model model = solverPool.checkout();
+        assertEquals(10.0, getTimeLimit(model.getHighs()), EPSILON);
+
+        model.addOption(CommonDoubleOptions.TIME_LIMIT.getOption(2.0));
+        solverPool.release(model);
+
+        assertEquals(10.0, getTimeLimit(solverPool.checkout().getHighs()), EPSILON);
+    }
+
+    @Test
+    void withModelMustSolveAndRelease() throws OptionException {
+        final SolverPool solverPool = new SolverPool(2);
+
+        final double objectiveValue = solverPool.withModel(model -> {
+            model.addContinuousVariable(1.2, 7.0, 1.0);
+            return model.minimize().orElseThrow().getObjectiveValue();
+        });
+
+        assertEquals(1.2, objectiveValue, EPSILON);
+        assertEquals(2, solverPool.getNmbIdleSolvers());
+    }
+
+    @Test
+    void releaseMustThrowForAModelReleasedTwice() throws OptionException {
+        final SolverPool solverPool = new SolverPool(1);
+        final Model model = solverPool.checkout();
+        solverPool.release(model);
+
+        assertThrows(IllegalArgumentException.class, () -> solverPool.release(model));
+        assertEquals(1, solverPool.getNmbIdleSolvers());
+    }
+
+    @Test
+    void releaseMustThrowForAModelLentByNoPool() throws OptionException {
+        final SolverPool solverPool = new SolverPool(1);
+
+        assertThrows(IllegalArgumentException.class, () -> solverPool.release(new Model()));
+        assertEquals(1, solverPool.getNmbIdleSolvers());
+    }
+
+    @Test
+    void releaseMustRemoveTheLogHandler() throws OptionException {
+        final SolverPool solverPool = new SolverPool(1);
+        final Model model = solverPool.checkout();
+        final List<String> messages = new ArrayList<>();
+        model.setLogHandler((_, message) -> messages.add(message));
+        solverPool.release(model);
+
+        final Model recycledModel = solverPool.checkout();
+        recycledModel.addContinuousVariable(0.0, 1.0, 1.0);
+        recycledModel.minimize();
+
+        assertTrue(messages.isEmpty());
+    }
+
+    @Test
+    void constructorMustThrowForInvalidOptions() {
+        assertThrows(OptionException.class, () -> new SolverPool(1, CommonDoubleOptions.TIME_LIMIT.getOption(-1.0)));
+    }
+
+}
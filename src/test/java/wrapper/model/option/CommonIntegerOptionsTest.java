@@ -0,0 +1,42 @@
+package wrapper.model.option;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import wrapper.model.Model;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommonIntegerOptionsTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    private static int computeNmbOptions() {
+        return Arrays.stream(CommonIntegerOptions.values())
+                .map(CommonIntegerOptions::getHighsOptionName)
+                .collect(Collectors.toSet())
+                .size();
+    }
+
+    @Test
+    void commonIntegerOptionsMustNotHaveDuplicates() {
+        assertEquals(CommonIntegerOptions.values().length, computeNmbOptions());
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = CommonIntegerOptions.class)
+    void allCommonIntegerOptionsMustBeValidOptions(final CommonIntegerOptions commonIntegerOptions) throws OptionException {
+        final Model model = new Model();
+
+        System.out.println(commonIntegerOptions.toString());
+        assertTrue(model.addOption(commonIntegerOptions.getOption(1)));
+    }
+
+}
@@ -0,0 +1,49 @@
+package wrapper.model.option;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import wrapper.model.Model;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommonStringOptionsTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    private static int computeNmbOptions() {
+        return Arrays.stream(CommonStringOptions.values())
+                .map(CommonStringOptions::getHighsOptionName)
+                .collect(Collectors.toSet())
+                .size();
+    }
+
+    @Test
+    void commonStringOptionsMustNotHaveDuplicates() {
+        assertEquals(CommonStringOptions.values().length, computeNmbOptions());
+    }
+
+    private static String getValidValue(final CommonStringOptions commonStringOptions) {
+        return switch (commonStringOptions) {
+            case SOLVER -> "simplex";
+            case PRESOLVE -> "off";
+        };
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = CommonStringOptions.class)
+    void allCommonStringOptionsMustBeValidOptions(final CommonStringOptions commonStringOptions) throws OptionException {
+        final Model model = new Model();
+
+        System.out.println(commonStringOptions.toString());
+        assertTrue(model.addOption(commonStringOptions.getOption(getValidValue(commonStringOptions))));
+    }
+
+}
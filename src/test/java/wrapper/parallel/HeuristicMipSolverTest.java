@@ -0,0 +1,99 @@
+package wrapper.parallel;
+
+import highs.HighsCallbackType;
+import org.junit.jupiter.api.Test;
+import wrapper.callback.CallbackContext;
+import wrapper.callback.SolutionInjector;
+import wrapper.model.Model;
+import wrapper.model.expression.LinearExpression;
+import wrapper.model.expression.LinearExpressionException;
+import wrapper.model.option.OptionException;
+import wrapper.model.option.StringOption;
+import wrapper.solution.Solution;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static wrapper.util.Constants.EPSILON;
+
+class HeuristicMipSolverTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    private static Model createKnapsackModel() throws LinearExpressionException, OptionException {
+        final double[] values = {1, 2, 3.5, 4.6, 7.2};
+        final double[] weights = {0.5, 1, 4.5, 1.0, 4.3};
+        final Model model = new Model();
+        final LinearExpression capacityExpression = new LinearExpression();
+        for (int i = 0; i < values.length; ++i) {
+            capacityExpression.addCoefficient(model.addIntegerVariable(0.0, Double.MAX_VALUE, values[i]), weights[i]);
+        }
+        model.addLessThanOrEqualToConstraint(50, capacityExpression);
+        model.addOption(new StringOption("presolve", "off"));
+        return model;
+    }
+
+    @Test
+    void heuristicSolutionsMustNotChangeTheOptimum() throws LinearExpressionException, OptionException {
+        final Model model = createKnapsackModel();
+        // Greedy by value per weight: only the item 3, offered again until the solve ends so that a user solution
+        // callback follows an offer
+        final MipHeuristic greedy = injector -> {
+            try {
+                while (true) {
+                    injector.offer(new double[]{0.0, 0.0, 0.0, 50.0, 0.0});
+                    Thread.sleep(1);
+                }
+            } catch (InterruptedException _) {
+                // The solve is over
+            }
+        };
+
+        try (HeuristicMipSolver solver = new HeuristicMipSolver(List.of(greedy))) {
+            final Solution solution = solver.maximize(model).orElseThrow();
+
+            assertEquals(230.0, solution.getObjectiveValue(), EPSILON);
+            if (CallbackContext.isUserSolutionSupported()) {
+                assertTrue(solver.getNmbAcceptedSolutions() > 0);
+            }
+        }
+    }
+
+    @Test
+    void callbackHandlerOfTheModelMustBeRestored() throws LinearExpressionException, OptionException {
+        final Model model = createKnapsackModel();
+        final Consumer<CallbackContext> callbackHandler = _ -> {
+        };
+        model.setCallbackHandler(callbackHandler, HighsCallbackType.kCallbackMipImprovingSolution);
+
+        try (HeuristicMipSolver solver = new HeuristicMipSolver(List.of(_ -> {
+        }))) {
+            solver.maximize(model).orElseThrow();
+        }
+
+        assertSame(callbackHandler, model.getCallbackHandler().orElseThrow());
+        assertArrayEquals(new HighsCallbackType[]{HighsCallbackType.kCallbackMipImprovingSolution}, model.getCallbackTypes());
+    }
+
+    @Test
+    void injectorMustDropTheOldestSolutionWhenFull() {
+        final SolutionInjector injector = new SolutionInjector(2);
+
+        injector.offer(new double[]{1.0});
+        injector.offer(new double[]{2.0});
+        injector.offer(new double[]{3.0});
+
+        assertEquals(2, injector.getNmbPendingSolutions());
+        assertEquals(0, injector.getNmbAcceptedSolutions());
+    }
+
+    @Test
+    void solverMustNeedAHeuristic() {
+        assertThrows(IllegalArgumentException.class, () -> new HeuristicMipSolver(List.of()));
+    }
+
+}
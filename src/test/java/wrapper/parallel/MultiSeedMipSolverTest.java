@@ -0,0 +1,82 @@
+package wrapper.parallel;
+
+import org.junit.jupiter.api.Test;
+import wrapper.model.Model;
+import wrapper.model.expression.LinearExpression;
+import wrapper.model.expression.LinearExpressionException;
+import wrapper.model.option.OptionException;
+import wrapper.model.variable.Variable;
+import wrapper.solution.Solution;
+
+import java.time.Duration;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static wrapper.util.Constants.EPSILON;
+
+class MultiSeedMipSolverTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    private static Model createKnapsackModel() throws LinearExpressionException {
+        final double[] values = {1, 2, 3.5, 4.6, 7.2};
+        final double[] weights = {0.5, 1, 4.5, 1.0, 4.3};
+        final Model model = new Model();
+        final LinearExpression capacityExpression = new LinearExpression();
+        for (int i = 0; i < values.length; ++i) {
+            capacityExpression.addCoefficient(model.addIntegerVariable(0.0, Double.MAX_VALUE, values[i]), weights[i]);
+        }
+        model.addLessThanOrEqualToConstraint(50, capacityExpression);
+        return model;
+    }
+
+    // Market split instance, any assignment is feasible thanks to the slack variables but optimality is hard to prove
+    private static Model createMarketSplitModel() throws LinearExpressionException {
+        final Random random = new Random(7);
+        final Model model = new Model();
+        final Variable[] x = new Variable[40];
+        for (int j = 0; j < x.length; ++j) {
+            x[j] = model.addBinaryVariable(0.0);
+        }
+        for (int i = 0; i < 5; ++i) {
+            final LinearExpression linearExpression = new LinearExpression();
+            int sum = 0;
+            for (final Variable variable : x) {
+                final int coefficient = random.nextInt(100);
+                linearExpression.addCoefficient(variable, coefficient);
+                sum += coefficient;
+            }
+            linearExpression.addCoefficient(model.addContinuousVariable(0.0, Double.MAX_VALUE, 1.0), 1.0);
+            linearExpression.addCoefficient(model.addContinuousVariable(0.0, Double.MAX_VALUE, 1.0), -1.0);
+            model.addEqualityConstraint(sum / 2, linearExpression);
+        }
+        return model;
+    }
+
+    @Test
+    void maximizeMustReturnTheOptimalSolution() throws LinearExpressionException, OptionException, InterruptedException {
+        try (MultiSeedMipSolver multiSeedMipSolver = new MultiSeedMipSolver(3)) {
+            final Solution solution = multiSeedMipSolver.maximize(createKnapsackModel(), Duration.ofSeconds(30)).orElseThrow();
+
+            assertTrue(solution.isOptimal());
+            assertEquals(230.0, solution.getObjectiveValue(), EPSILON);
+        }
+    }
+
+    @Test
+    void minimizeMustReturnTheBestIncumbentAtTheDeadline() throws LinearExpressionException, OptionException, InterruptedException {
+        final long start = System.nanoTime();
+
+        try (MultiSeedMipSolver multiSeedMipSolver = new MultiSeedMipSolver(2)) {
+            final Solution solution = multiSeedMipSolver.minimize(createMarketSplitModel(), Duration.ofSeconds(1)).orElseThrow();
+
+            assertTrue(solution.isFeasible());
+            assertTrue(solution.getObjectiveValue() >= -EPSILON);
+        }
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(20)) < 0);
+    }
+
+}
@@ -0,0 +1,68 @@
+package wrapper.parallel;
+
+import org.junit.jupiter.api.Test;
+import wrapper.model.Model;
+import wrapper.model.expression.ExpressionCoefficient;
+import wrapper.model.expression.LinearExpression;
+import wrapper.model.expression.LinearExpressionException;
+import wrapper.model.option.OptionException;
+import wrapper.model.variable.Variable;
+import wrapper.solution.Solution;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static wrapper.util.Constants.EPSILON;
+
+class RacingSolverTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    private static Model createModel(double demand) throws LinearExpressionException {
+        final Model model = new Model();
+        final Variable x = model.addContinuousVariable(0.0, 3.0, 2.0);
+        final Variable y = model.addContinuousVariable(0.0, 3.0, 3.0);
+        model.addGreaterThanOrEqualToConstraint(demand, LinearExpression.of(new ExpressionCoefficient(x, 1.0), new ExpressionCoefficient(y, 1.0)));
+        return model;
+    }
+
+    @Test
+    void minimizeMustReturnAnOptimalSolution() throws LinearExpressionException, OptionException, InterruptedException {
+        try (RacingSolver racingSolver = new RacingSolver()) {
+            final Solution solution = racingSolver.minimize(createModel(4.0)).orElseThrow();
+
+            assertTrue(solution.isOptimal());
+            assertEquals(9.0, solution.getObjectiveValue(), 1e-4);
+        }
+    }
+
+    @Test
+    void maximizeMustSupportASingleSolver() throws LinearExpressionException, OptionException, InterruptedException {
+        try (RacingSolver racingSolver = new RacingSolver(List.of("simplex"))) {
+            final Solution solution = racingSolver.maximize(createModel(4.0)).orElseThrow();
+
+            assertTrue(solution.isOptimal());
+            assertEquals(15.0, solution.getObjectiveValue(), EPSILON);
+        }
+    }
+
+    @Test
+    void minimizeMustReturnTheInfeasibleStatus() throws LinearExpressionException, OptionException, InterruptedException {
+        try (RacingSolver racingSolver = new RacingSolver(List.of("simplex", "ipm"))) {
+            final Solution solution = racingSolver.minimize(createModel(10.0)).orElseThrow();
+
+            assertFalse(solution.isFeasible());
+        }
+    }
+
+    @Test
+    void minimizeMustThrowForUnknownSolvers() {
+        try (RacingSolver racingSolver = new RacingSolver(List.of("simplex", "unknown"))) {
+            assertThrows(OptionException.class, () -> racingSolver.minimize(createModel(4.0)));
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+package wrapper.parallel;
+
+import org.junit.jupiter.api.Test;
+import wrapper.model.Model;
+import wrapper.model.constraint.Constraint;
+import wrapper.model.constraint.ConstraintException;
+import wrapper.model.constraint.ConstraintType;
+import wrapper.model.expression.ExpressionCoefficient;
+import wrapper.model.expression.LinearExpression;
+import wrapper.model.expression.LinearExpressionException;
+import wrapper.model.variable.Variable;
+import wrapper.solution.Solution;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static wrapper.util.Constants.EPSILON;
+
+class ScenarioSolverTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    private final Model baseModel = new Model();
+    private final Variable x = this.baseModel.addContinuousVariable(0.0, Double.MAX_VALUE, 2.0);
+    private final Variable y = this.baseModel.addContinuousVariable(0.0, Double.MAX_VALUE, 3.0);
+    private final Constraint demand;
+
+    ScenarioSolverTest() throws LinearExpressionException {
+        this.demand = this.baseModel.addGreaterThanOrEqualToConstraint(4.0,
+                LinearExpression.of(new ExpressionCoefficient(this.x, 1.0), new ExpressionCoefficient(this.y, 1.0)));
+    }
+
+    @Test
+    void minimizeAllMustKeepTheScenarioOrder() throws ConstraintException, InterruptedException {
+        final Stream<Scenario> scenarios = IntStream.range(0, 50).mapToObj(i -> {
+            final Scenario scenario = new Scenario();
+            scenario.updateConstraintRightHandSide(i, this.demand);
+            return scenario;
+        });
+
+        try (ScenarioSolver scenarioSolver = new ScenarioSolver(this.baseModel, 4)) {
+            final List<Optional<Solution>> solutions = scenarioSolver.minimizeAll(scenarios);
+
+            assertEquals(50, solutions.size());
+            for (int i = 0; i < 50; ++i) {
+                assertEquals(2.0 * i, solutions.get(i).orElseThrow().getObjectiveValue(), EPSILON);
+            }
+        }
+    }
+
+    @Test
+    void scenariosMustNotModifyTheBaseModel() throws ConstraintException, InterruptedException {
+        final Scenario scenario = new Scenario();
+        scenario.updateVariableCost(4.0, this.x);
+
+        try (ScenarioSolver scenarioSolver = new ScenarioSolver(this.baseModel)) {
+            final Solution solution = scenarioSolver.minimizeAll(Stream.of(scenario)).getFirst().orElseThrow();
+
+            assertEquals(12.0, solution.getObjectiveValue(), EPSILON);
+            assertEquals(4.0, solution.getVariableValue(this.y), EPSILON);
+        }
+        assertEquals(8.0, this.baseModel.minimize().orElseThrow().getObjectiveValue(), EPSILON);
+    }
+
+    @Test
+    void minimizeAllMustThrowForUnknownConstraints() {
+        final Scenario scenario = new Scenario();
+        scenario.updateConstraintRightHandSide(1.0, new Constraint(5, ConstraintType.EQUALITY));
+
+        try (ScenarioSolver scenarioSolver = new ScenarioSolver(this.baseModel, 2)) {
+            assertThrows(ConstraintException.class, () -> scenarioSolver.minimizeAll(Stream.of(scenario)));
+        }
+    }
+
+    @Test
+    void threadsPerSolveMustNotOversubscribeTheProcessors() {
+        final int nmbProcessors = Runtime.getRuntime().availableProcessors();
+
+        try (ScenarioSolver scenarioSolver = new ScenarioSolver(this.baseModel, 2)) {
+            assertEquals(Math.max(1, nmbProcessors / 2), scenarioSolver.getThreadsPerSolve());
+        }
+        try (ScenarioSolver scenarioSolver = new ScenarioSolver(this.baseModel)) {
+            assertEquals(1, scenarioSolver.getThreadsPerSolve());
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+package wrapper.solution;
+
+import highs.HighsBasis;
+import highs.HighsBasisStatus;
+import org.junit.jupiter.api.Test;
+import wrapper.model.constraint.Constraint;
+import wrapper.model.constraint.ConstraintException;
+import wrapper.model.constraint.ConstraintType;
+import wrapper.model.variable.Variable;
+import wrapper.model.variable.VariableException;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BasisTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    private static Basis createBasis() {
+        final HighsBasis highsBasis = new HighsBasis();
+        highsBasis.resizeStatus(2, 1);
+        highsBasis.setValid(true);
+        final Basis basis = Basis.copyOf(highsBasis);
+        final byte[] bytes = basis.toBytes();
+        bytes[8] = (byte) HighsBasisStatus.kBasic.swigValue();
+        bytes[9] = (byte) HighsBasisStatus.kUpper.swigValue();
+        return Basis.fromBytes(bytes);
+    }
+
+    @Test
+    void statusesMustSurviveTheHighsBasisRoundTrip() throws ConstraintException {
+        final Basis basis = Basis.copyOf(createBasis().toHighsBasis());
+
+        assertEquals(createBasis(), basis);
+        assertEquals(HighsBasisStatus.kBasic, basis.getVariableStatus(new Variable(0)));
+        assertEquals(HighsBasisStatus.kUpper, basis.getVariableStatus(new Variable(1)));
+        assertEquals(HighsBasisStatus.kLower, basis.getConstraintStatus(new Constraint(0, ConstraintType.EQUALITY)));
+    }
+
+    @Test
+    void bytesMustBeReadBack() {
+        final Basis basis = createBasis();
+
+        assertEquals(basis, Basis.fromBytes(basis.toBytes()));
+        assertEquals(2 * Integer.BYTES + 3, basis.toBytes().length);
+    }
+
+    @Test
+    void truncatedBytesMustBeRejected() {
+        final byte[] bytes = createBasis().toBytes();
+
+        assertThrows(IllegalArgumentException.class, () -> Basis.fromBytes(Arrays.copyOf(bytes, bytes.length - 1)));
+        assertThrows(IllegalArgumentException.class, () -> Basis.fromBytes(new byte[3]));
+    }
+
+    @Test
+    void missingVariableMustThrow() {
+        assertThrows(VariableException.class, () -> createBasis().getVariableStatus(new Variable(2)));
+    }
+
+}
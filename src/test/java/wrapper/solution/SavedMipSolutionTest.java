@@ -0,0 +1,44 @@
+package wrapper.solution;
+
+import highs.DoubleVector;
+import highs.HighsObjectiveSolution;
+import org.junit.jupiter.api.Test;
+import wrapper.model.variable.Variable;
+import wrapper.model.variable.VariableException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static wrapper.util.Constants.EPSILON;
+
+class SavedMipSolutionTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    @Test
+    void ofMustCopyObjectiveAndVariableValues() {
+        final HighsObjectiveSolution highsObjectiveSolution = new HighsObjectiveSolution();
+        highsObjectiveSolution.setObjective(12.5);
+        highsObjectiveSolution.setCol_value(new DoubleVector(new double[]{1.0, 0.0, 3.5}));
+
+        final SavedMipSolution savedMipSolution = SavedMipSolution.of(highsObjectiveSolution);
+        highsObjectiveSolution.clear();
+
+        assertEquals(12.5, savedMipSolution.getObjectiveValue(), EPSILON);
+        assertEquals(3, savedMipSolution.getNmbVariables());
+        assertArrayEquals(new double[]{1.0, 0.0, 3.5}, savedMipSolution.getVariableValues(), EPSILON);
+        assertEquals(3.5, savedMipSolution.getVariableValue(new Variable(2)), EPSILON);
+    }
+
+    @Test
+    void getVariableValueMustThrowForUnknownVariable() {
+        final HighsObjectiveSolution highsObjectiveSolution = new HighsObjectiveSolution();
+        highsObjectiveSolution.setCol_value(new DoubleVector(new double[]{1.0}));
+        final SavedMipSolution savedMipSolution = SavedMipSolution.of(highsObjectiveSolution);
+
+        final VariableException exception = assertThrows(VariableException.class, () -> savedMipSolution.getVariableValue(new Variable(4)));
+        assertEquals("Variable with index 4 does not exist in the solution", exception.getMessage());
+    }
+
+}
@@ -0,0 +1,52 @@
+package wrapper.solution;
+
+import highs.DoubleVector;
+import highs.HighsRanging;
+import highs.HighsRangingRecord;
+import highs.LongLongVector;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static wrapper.util.Constants.EPSILON;
+
+class SensitivityReportTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    private static HighsRangingRecord createHighsRangingRecord(final double value) {
+        final HighsRangingRecord highsRangingRecord = new HighsRangingRecord();
+        highsRangingRecord.setValue_(new DoubleVector(new double[]{value, value + 1.0}));
+        highsRangingRecord.setObjective_(new DoubleVector(new double[]{2.0 * value, 3.0 * value}));
+        highsRangingRecord.setIn_var_(new LongLongVector(new long[]{0, 1}));
+        highsRangingRecord.setOu_var_(new LongLongVector(new long[]{1, -1}));
+        return highsRangingRecord;
+    }
+
+    @Test
+    void ofMustCopyAllRangingRecords() {
+        final HighsRanging highsRanging = new HighsRanging();
+        highsRanging.setCol_cost_up(createHighsRangingRecord(1.0));
+        highsRanging.setCol_cost_dn(createHighsRangingRecord(2.0));
+        highsRanging.setCol_bound_up(createHighsRangingRecord(3.0));
+        highsRanging.setCol_bound_dn(createHighsRangingRecord(4.0));
+        highsRanging.setRow_bound_up(createHighsRangingRecord(5.0));
+        highsRanging.setRow_bound_dn(createHighsRangingRecord(6.0));
+
+        final SensitivityReport sensitivityReport = SensitivityReport.of(highsRanging);
+
+        assertArrayEquals(new double[]{1.0, 2.0}, sensitivityReport.getCostUp().getValues(), EPSILON);
+        assertArrayEquals(new double[]{2.0, 3.0}, sensitivityReport.getCostDown().getValues(), EPSILON);
+        assertArrayEquals(new double[]{3.0, 4.0}, sensitivityReport.getVariableBoundUp().getValues(), EPSILON);
+        assertArrayEquals(new double[]{4.0, 5.0}, sensitivityReport.getVariableBoundDown().getValues(), EPSILON);
+        assertArrayEquals(new double[]{5.0, 6.0}, sensitivityReport.getConstraintBoundUp().getValues(), EPSILON);
+        assertArrayEquals(new double[]{12.0, 18.0}, sensitivityReport.getConstraintBoundDown().getObjectiveValues(), EPSILON);
+        assertArrayEquals(new long[]{0, 1}, sensitivityReport.getCostUp().getEnteringVariableIndices());
+        assertArrayEquals(new long[]{1, -1}, sensitivityReport.getCostUp().getLeavingVariableIndices());
+        assertEquals(2, sensitivityReport.getCostUp().size());
+    }
+
+}
@@ -0,0 +1,123 @@
+package wrapper.solution;
+
+import highs.DoubleVector;
+import highs.HighsBasis;
+import highs.HighsBasisStatus;
+import highs.HighsModelStatus;
+import highs.HighsSolution;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import wrapper.model.constraint.Constraint;
+import wrapper.model.constraint.ConstraintException;
+import wrapper.model.constraint.ConstraintType;
+import wrapper.model.variable.Variable;
+import wrapper.model.variable.VariableException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static wrapper.util.Constants.EPSILON;
+
+class SolutionFileTest {
+
+    static {
+        System.loadLibrary("highs");
+        System.loadLibrary("highswrap");
+    }
+
+    private static final long MODEL_FINGERPRINT = 42L;
+
+    private static Solution createSolution() {
+        final HighsSolution highsSolution = new HighsSolution();
+        highsSolution.setCol_value(new DoubleVector(new double[]{1.0, 2.5, -3.0}));
+        highsSolution.setCol_dual(new DoubleVector(new double[]{0.0, 0.0, 1.0}));
+        highsSolution.setRow_value(new DoubleVector(new double[]{4.0}));
+        highsSolution.setRow_dual(new DoubleVector(new double[]{-0.5}));
+        return new Solution(highsSolution, HighsModelStatus.kOptimal, 7.5);
+    }
+
+    @Test
+    void readMustGiveTheWrittenSolution(@TempDir final Path directory) throws IOException, VariableException, ConstraintException {
+        final Path path = directory.resolve("solution.bin");
+        SolutionFile.write(path, createSolution(), MODEL_FINGERPRINT);
+
+        final Solution solution = SolutionFile.read(path, MODEL_FINGERPRINT);
+
+        assertEquals(64 + 8 * 8, Files.size(path));
+        assertTrue(solution.isFeasible());
+        assertFalse(solution.isIncumbent());
+        assertEquals(7.5, solution.getObjectiveValue(), EPSILON);
+        assertArrayEquals(new double[]{1.0, 2.5, -3.0}, solution.getVariableValues(), EPSILON);
+        assertEquals(2.5, solution.getVariableValue(new Variable(1)), EPSILON);
+        assertEquals(-0.5, solution.getDualValue(new Constraint(0, ConstraintType.EQUALITY)), EPSILON);
+        assertThrows(VariableException.class, () -> solution.getVariableValue(new Variable(3)));
+    }
+
+    @Test
+    void basisMustBeReadWithTheSolution(@TempDir final Path directory) throws IOException, VariableException, ConstraintException {
+        final Path path = directory.resolve("solution.bin");
+        final HighsBasis highsBasis = new HighsBasis();
+        highsBasis.resizeStatus(3, 1);
+        final byte[] bytes = Basis.copyOf(highsBasis).toBytes();
+        bytes[8] = (byte) HighsBasisStatus.kBasic.swigValue();
+        bytes[9] = (byte) HighsBasisStatus.kBasic.swigValue();
+        bytes[10] = (byte) HighsBasisStatus.kUpper.swigValue();
+        final Basis basis = Basis.fromBytes(bytes);
+        SolutionFile.write(path, createSolution(), basis, MODEL_FINGERPRINT);
+
+        final Basis storedBasis = SolutionFile.readBasis(path, MODEL_FINGERPRINT).orElseThrow();
+
+        assertEquals(basis, storedBasis);
+        assertEquals(HighsBasisStatus.kUpper, storedBasis.getVariableStatus(new Variable(2)));
+        assertEquals(HighsBasisStatus.kLower, storedBasis.getConstraintStatus(new Constraint(0, ConstraintType.EQUALITY)));
+        assertArrayEquals(new double[]{1.0, 2.5, -3.0}, SolutionFile.read(path, MODEL_FINGERPRINT).getVariableValues(), EPSILON);
+    }
+
+    @Test
+    void basisMustBeEmptyWhenWrittenWithoutOne(@TempDir final Path directory) throws IOException {
+        final Path path = directory.resolve("solution.bin");
+        SolutionFile.write(path, createSolution(), MODEL_FINGERPRINT);
+
+        assertTrue(SolutionFile.readBasis(path, MODEL_FINGERPRINT).isEmpty());
+    }
+
+    @Test
+    void incumbentMustStayFeasibleWhenRead(@TempDir final Path directory) throws IOException {
+        final Path path = directory.resolve("solution.bin");
+        SolutionFile.write(path, Solution.ofIncumbent(new double[]{1.0, 0.0}, 4.0), MODEL_FINGERPRINT);
+
+        final Solution solution = SolutionFile.read(path, MODEL_FINGERPRINT);
+
+        assertTrue(solution.isIncumbent());
+        assertTrue(solution.isFeasible());
+    }
+
+    @Test
+    void readMustThrowForAnotherModel(@TempDir final Path directory) throws IOException {
+        final Path path = directory.resolve("solution.bin");
+        SolutionFile.write(path, createSolution(), MODEL_FINGERPRINT);
+
+        assertThrows(IOException.class, () -> SolutionFile.read(path, MODEL_FINGERPRINT + 1));
+    }
+
+    @Test
+    void readMustThrowForAnotherFormat(@TempDir final Path directory) throws IOException {
+        final Path path = directory.resolve("solution.txt");
+        Files.writeString(path, "x = 1.0");
+
+        assertThrows(IOException.class, () -> SolutionFile.read(path, MODEL_FINGERPRINT));
+    }
+
+    @Test
+    void readSolutionMustBeReusableAsInitialSolution(@TempDir final Path directory) throws IOException {
+        final Path path = directory.resolve("solution.bin");
+        SolutionFile.write(path, createSolution(), MODEL_FINGERPRINT);
+
+        final InitialSolution initialSolution = InitialSolution.of(SolutionFile.read(path, MODEL_FINGERPRINT));
+
+        assertEquals(3, initialSolution.getNmbVariables());
+    }
+
+}
@@ -14,6 +14,8 @@ import wrapper.model.constraint.ConstraintType;
 import wrapper.model.variable.Variable;
 import wrapper.model.variable.VariableException;
 
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static wrapper.util.Constants.EPSILON;
 
@@ -71,6 +73,14 @@ class SolutionTest {
         assertFalse(solution.isFeasible());
     }
 
+    @Test
+    void isOptimalMustOnlyBeTrueForOptimalStatus() {
+        final HighsSolution highsSolution = new HighsSolution();
+
+        assertTrue(new Solution(highsSolution, HighsModelStatus.kOptimal, 0.0).isOptimal());
+        assertFalse(new Solution(highsSolution, HighsModelStatus.kTimeLimit, 0.0).isOptimal());
+    }
+
     @Test
     void getVariableValue() throws VariableException {
         final HighsSolution highsSolution = new HighsSolution();
@@ -122,4 +132,53 @@ class SolutionTest {
         assertEquals(objectiveValue, solution.getObjectiveValue(), EPSILON);
     }
 
+    private static Solution createSolution(final double... variableValues) {
+        final HighsSolution highsSolution = new HighsSolution();
+        highsSolution.setCol_value(new DoubleVector(variableValues));
+        return new Solution(highsSolution, HighsModelStatus.kOptimal, 0.0);
+    }
+
+    @Test
+    void diffMustOnlyContainChangesAboveTolerance() {
+        final Solution previous = createSolution(1.0, 2.0, 3.0, 4.0);
+        final Solution current = createSolution(1.0, 2.0 + 1e-9, 5.0, 4.0, 6.0);
+
+        final SolutionDelta delta = current.diff(previous, 1e-6);
+
+        assertEquals(2, delta.getNmbChanges());
+        assertArrayEquals(new int[]{2, 4}, delta.getVariableIndices());
+        assertArrayEquals(new double[]{5.0, 6.0}, delta.getVariableValues(), EPSILON);
+        assertEquals(0, delta.getNmbRemovedVariables());
+    }
+
+    @Test
+    void diffMustCountTheRemovedVariables() {
+        final Solution previous = createSolution(1.0, 2.0, 3.0, 4.0);
+        final Solution current = createSolution(1.0, 5.0);
+
+        final SolutionDelta delta = current.diff(previous, EPSILON);
+
+        assertArrayEquals(new int[]{1}, delta.getVariableIndices());
+        assertEquals(2, delta.getNmbRemovedVariables());
+    }
+
+    @Test
+    void diffMustBeEmptyForIdenticalSolutions() {
+        final double[] variableValues = new double[100];
+        Arrays.setAll(variableValues, i -> 0.5 * i);
+
+        assertEquals(0, createSolution(variableValues).diff(createSolution(variableValues), 0.0).getNmbChanges());
+    }
+
+    @Test
+    void applyToMustRebuildTheCurrentValues() {
+        final Solution previous = createSolution(0.0, 1.0, 0.0, 1.0);
+        final Solution current = createSolution(1.0, 1.0, 1.0, 0.0);
+        final double[] variableValues = previous.getVariableValues();
+
+        current.diff(previous, EPSILON).applyTo(variableValues);
+
+        assertArrayEquals(current.getVariableValues(), variableValues, EPSILON);
+    }
+
 }
\ No newline at end of file